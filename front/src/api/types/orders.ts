@@ -1,5 +1,6 @@
 export type OrderStatus =
   | 'CREATED'
+  | 'PAYMENT_PENDING'
   | 'PAID'
   | 'CANCEL_REQUESTED'
   | 'CANCELLED'
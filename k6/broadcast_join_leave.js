@@ -1,3 +1,5 @@
+// Presence A/B: run once with livehost.presence.mode=legacy and once with the default (script),
+// then compare broadcast_join p95 here and livehost_presence_seconds{operation="enter"} on /actuator/prometheus.
 import http from 'k6/http';
 import { check, fail, sleep } from 'k6';
 import { Counter, Rate } from 'k6/metrics';
@@ -0,0 +1,194 @@
+package com.deskit.deskit.ai.suggest.service;
+
+import com.deskit.deskit.account.entity.Member;
+import com.deskit.deskit.account.enums.JobCategory;
+import com.deskit.deskit.account.enums.MBTI;
+import com.deskit.deskit.account.repository.MemberRepository;
+import com.deskit.deskit.product.dto.ProductResponse;
+import com.deskit.deskit.product.entity.Product;
+import com.deskit.deskit.product.repository.ProductTagRepository;
+import com.deskit.deskit.product.repository.ProductTagRepository.ProductTagRow;
+import com.deskit.deskit.product.service.ProductService;
+import com.deskit.deskit.tag.entity.TagCategory.TagCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 추천 요청 1건 비용: 요청마다 전체 태그를 다시 읽어 점수를 매기는 경로 vs 미리 계산한 프로필 표.
+ * DB 대신 메모리 스텁을 쓰므로 조회 I/O 는 빠져 있고, 순수 계산 비용만 비교한다. (실제 차이는 이보다 크다)
+ *
+ * ./gradlew jmh -PjmhIncludes=DeskteriorRecommendationBenchmark
+ */
+@State(Scope.Benchmark)
+public class DeskteriorRecommendationBenchmark {
+
+    static final Map<TagCode, List<String>> TAG_NAMES = Map.of(
+            TagCode.SPACE, List.of("서재", "거실", "침실", "사무실", "원룸"),
+            TagCode.TONE, List.of("우드", "파스텔", "모던", "미니멀", "화이트", "블랙"),
+            TagCode.SITUATION, List.of("공부", "업무", "재택근무", "취미", "게임"),
+            TagCode.MOOD, List.of("집중", "차분한", "감성", "활기", "깔끔", "실용", "따뜻")
+    );
+
+    @Param({"1000", "10000"})
+    public int productCount;
+
+    private DeskteriorRecommendationService liveService;
+    private DeskteriorRecommendationService precomputedService;
+    private DeskteriorRecommendationService refreshService;
+    private StubProductService refreshProducts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42L);
+        List<ProductResponse> products = new ArrayList<>(productCount);
+        List<ProductTagRow> rows = new ArrayList<>();
+        for (long id = 1; id <= productCount; id++) {
+            products.add(product(id));
+            for (TagCode code : TagCode.values()) {
+                List<String> names = TAG_NAMES.get(code);
+                rows.add(row(id, code, names.get(random.nextInt(names.size()))));
+            }
+        }
+
+        Member member = Member.builder()
+                .loginId("bench")
+                .mbti(MBTI.INTJ)
+                .jobCategory(JobCategory.CREATIVE_TYPE)
+                .build();
+        UserPreferenceTagMapper mapper = new UserPreferenceTagMapper();
+
+        liveService = new DeskteriorRecommendationService(
+                memberRepository(member), productTagRepository(rows), new StubProductService(products), mapper);
+
+        precomputedService = new DeskteriorRecommendationService(
+                memberRepository(member), productTagRepository(rows), new StubProductService(products), mapper);
+        precomputedService.refreshProfileRankings();
+
+        refreshProducts = new StubProductService(products);
+        refreshService = new DeskteriorRecommendationService(
+                memberRepository(member), productTagRepository(rows), refreshProducts, mapper);
+    }
+
+    @Benchmark
+    public List<ProductResponse> liveScoring() {
+        return liveService.recommendForLoginId("bench", 4);
+    }
+
+    @Benchmark
+    public List<ProductResponse> precomputedTable() {
+        return precomputedService.recommendForLoginId("bench", 4);
+    }
+
+    // 백그라운드 갱신 1회 (80개 프로필 전체) 비용
+    @Benchmark
+    public void refreshAllProfiles() {
+        refreshProducts.catalogVersion++;
+        refreshService.refreshProfileRankings();
+    }
+
+    static ProductResponse product(long id) {
+        return new ProductResponse(id, 1L, "p" + id, null, null, 10000 + (int) (id % 500) * 100, 5000,
+                Product.Status.ON_SALE, 10, 1, null, null);
+    }
+
+    static ProductTagRow row(Long productId, TagCode code, String tagName) {
+        return new ProductTagRow() {
+            @Override
+            public Long getProductId() {
+                return productId;
+            }
+
+            @Override
+            public Long getTagId() {
+                return (long) (code.ordinal() * 100 + TAG_NAMES.get(code).indexOf(tagName));
+            }
+
+            @Override
+            public TagCode getTagCode() {
+                return code;
+            }
+
+            @Override
+            public String getTagName() {
+                return tagName;
+            }
+        };
+    }
+
+    private static MemberRepository memberRepository(Member member) {
+        return stub(MemberRepository.class, "findByLoginId", member);
+    }
+
+    private static ProductTagRepository productTagRepository(List<ProductTagRow> rows) {
+        return stub(ProductTagRepository.class, "findActiveTagsByProductIds", rows);
+    }
+
+    // 벤치마크 경로에서 쓰는 메서드 하나만 응답하는 리포지토리 스텁
+    private static <T> T stub(Class<T> type, String methodName, Object result) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            if (method.getName().equals(methodName)) {
+                return result;
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(self);
+                    case "equals" -> self == args[0];
+                    default -> type.getSimpleName() + "Stub";
+                };
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+        return type.cast(proxy);
+    }
+
+    static class StubProductService extends ProductService {
+
+        private final List<ProductResponse> products;
+        private final Map<Long, ProductResponse> byId = new HashMap<>();
+        long catalogVersion = 1L;
+
+        StubProductService(List<ProductResponse> products) {
+            super(null, null, null, null, null, null, null, null);
+            this.products = List.copyOf(products);
+            products.forEach(product -> byId.put(product.getProductId(), product));
+        }
+
+        @Override
+        public List<ProductResponse> getProducts() {
+            return products;
+        }
+
+        @Override
+        public long getCatalogVersion() {
+            return catalogVersion;
+        }
+
+        @Override
+        public List<ProductResponse> getCatalogProducts(List<Long> ids) {
+            return getProductsByIds(ids);
+        }
+
+        @Override
+        public List<ProductResponse> getProductsByIds(List<Long> ids) {
+            List<ProductResponse> responses = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                ProductResponse response = byId.get(id);
+                if (response != null) {
+                    responses.add(response);
+                }
+            }
+            return responses;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.deskit.deskit.order.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 주문번호 1건 발급 비용: 기존 ORD-{ms}-{난수 4자리} vs OrderNumberGenerator(CAS 1회).
+ * 경합 비용을 보려고 단일 스레드와 8 스레드를 같이 잰다. (생성기 인스턴스는 노드당 하나이므로 Scope.Benchmark)
+ *
+ * ./gradlew jmh -PjmhIncludes=OrderNumberBenchmark
+ */
+@State(Scope.Benchmark)
+public class OrderNumberBenchmark {
+
+    private final OrderNumberGenerator generator = new OrderNumberGenerator(7, System::currentTimeMillis);
+
+    // 기존 OrderService.generateOrderNumber
+    @Benchmark
+    public String legacyRandomSuffix() {
+        long now = System.currentTimeMillis();
+        int suffix = ThreadLocalRandom.current().nextInt(1000, 10000);
+        return "ORD-" + now + "-" + suffix;
+    }
+
+    @Benchmark
+    public String snowflake() {
+        return generator.nextOrderNumber();
+    }
+
+    @Benchmark
+    public long snowflakeIdOnly() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String legacyRandomSuffixContended() {
+        return legacyRandomSuffix();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String snowflakeContended() {
+        return generator.nextOrderNumber();
+    }
+}
@@ -0,0 +1,159 @@
+package com.deskit.deskit.tag.service;
+
+import com.deskit.deskit.account.enums.JobCategory;
+import com.deskit.deskit.account.enums.MBTI;
+import com.deskit.deskit.ai.suggest.service.UserPreferenceTagMapper;
+import com.deskit.deskit.ai.suggest.service.UserPreferenceTagMapper.UserPreferenceTags;
+import com.deskit.deskit.tag.entity.TagCategory.TagCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 태그 매칭 비용: 태그 row 마다 문자열 키워드 비교(기존 방식) vs 태그 사전 + 서명 popcount/AND.
+ * 상품마다 분류별 서로 다른 태그 1~2개, 분류별 어휘 30개 (실제 카탈로그보다 넉넉하게 잡았다)
+ *
+ * ./gradlew jmh -PjmhIncludes=TagMatchingBenchmark
+ */
+@State(Scope.Benchmark)
+public class TagMatchingBenchmark {
+
+    private static final int VOCABULARY_PER_CODE = 30;
+    private static final Map<TagCode, List<String>> SEED_NAMES = Map.of(
+            TagCode.SPACE, List.of("서재", "거실", "침실", "오피스", "원룸"),
+            TagCode.TONE, List.of("우드", "파스텔", "모던", "미니멀", "화이트"),
+            TagCode.SITUATION, List.of("공부", "업무", "재택근무", "취미", "게임"),
+            TagCode.MOOD, List.of("집중", "차분", "감성", "활기", "깔끔")
+    );
+
+    @Param({"10000", "100000"})
+    public int productCount;
+
+    private List<Row> rows;
+    private TagSignatures signatures;
+    private UserPreferenceTags preferenceTags;
+    private Map<TagCode, List<String>> filter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42L);
+        Map<TagCode, List<String>> vocabulary = new HashMap<>();
+        SEED_NAMES.forEach((code, seeds) -> {
+            List<String> names = new ArrayList<>(seeds);
+            for (int i = names.size(); i < VOCABULARY_PER_CODE; i++) {
+                names.add(seeds.get(i % seeds.size()) + "-" + i);
+            }
+            vocabulary.put(code, names);
+        });
+
+        List<Long> productIds = new ArrayList<>(productCount);
+        rows = new ArrayList<>();
+        for (long id = 1; id <= productCount; id++) {
+            productIds.add(id);
+            for (TagCode code : TagCode.values()) {
+                List<String> names = vocabulary.get(code);
+                // product_tag 는 (상품, 태그) 가 유일하므로 같은 분류에서 서로 다른 태그만 뽑는다.
+                int first = random.nextInt(names.size());
+                rows.add(new Row(id, code, names.get(first)));
+                if (random.nextBoolean()) {
+                    int second = (first + 1 + random.nextInt(names.size() - 1)) % names.size();
+                    rows.add(new Row(id, code, names.get(second)));
+                }
+            }
+        }
+
+        TagSignatures.Builder builder = TagSignatures.builder(productIds);
+        rows.forEach(row -> builder.add(row.productId(), row.code(), row.tagName()));
+        signatures = builder.build();
+
+        preferenceTags = new UserPreferenceTagMapper().map(MBTI.INTJ, JobCategory.CREATIVE_TYPE);
+        filter = Map.of(TagCode.TONE, List.of("우드", "모던"), TagCode.MOOD, List.of("집중"));
+
+        // 두 방식이 같은 결과를 내는 픽스처인지 먼저 확인한다. (중복 row 가 있으면 row 스캔 점수만 커진다)
+        Map<Long, Integer> expected = rowScanScoring();
+        int[] actual = signatureScoring();
+        for (int position = 0; position < actual.length; position++) {
+            int score = expected.getOrDefault(signatures.entityId(position), 0);
+            if (score != actual[position]) {
+                throw new IllegalStateException("score mismatch at productId=" + signatures.entityId(position));
+            }
+        }
+        if (!rowScanFilter().equals(signatureFilter())) {
+            throw new IllegalStateException("filter mismatch");
+        }
+    }
+
+    // 기존 DeskteriorRecommendationService 방식: row 마다 키워드 부분 문자열 비교 후 HashMap 합산
+    @Benchmark
+    public Map<Long, Integer> rowScanScoring() {
+        Map<Long, Integer> scores = new HashMap<>();
+        for (Row row : rows) {
+            if (preferenceTags.matches(row.code(), row.tagName())) {
+                scores.merge(row.productId(), weightFor(row.code()), Integer::sum);
+            }
+        }
+        return scores;
+    }
+
+    // 사전 항목만 키워드 비교 -> 상품별 서명 AND + popcount
+    @Benchmark
+    public int[] signatureScoring() {
+        TagCode[] codes = TagCode.values();
+        long[][] masks = new long[codes.length][];
+        int[] weights = new int[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            TagCode code = codes[i];
+            masks[i] = signatures.dictionary().maskMatching(code, name -> preferenceTags.matches(code, name));
+            weights[i] = weightFor(code);
+        }
+        return signatures.score(masks, weights);
+    }
+
+    // 검색 필터: row 를 훑어 분류별 일치 상품 집합을 만든 뒤 교집합
+    @Benchmark
+    public BitSet rowScanFilter() {
+        Map<TagCode, BitSet> byCode = new HashMap<>();
+        for (Row row : rows) {
+            List<String> names = filter.get(row.code());
+            if (names != null && names.contains(row.tagName())) {
+                byCode.computeIfAbsent(row.code(), ignored -> new BitSet(productCount)).set((int) (row.productId() - 1));
+            }
+        }
+        BitSet result = null;
+        for (TagCode code : filter.keySet()) {
+            BitSet bits = byCode.getOrDefault(code, new BitSet());
+            if (result == null) {
+                result = bits;
+            } else {
+                result.and(bits);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public BitSet signatureFilter() {
+        return signatures.filter(filter);
+    }
+
+    private static int weightFor(TagCode code) {
+        return switch (code) {
+            case MOOD -> 3;
+            case SITUATION -> 2;
+            case SPACE, TONE -> 1;
+        };
+    }
+
+    private record Row(long productId, TagCode code, String tagName) {
+    }
+}
@@ -1,8 +1,7 @@
 package com.deskit.deskit.account.address.controller;
 
-import com.deskit.deskit.account.entity.Member;
 import com.deskit.deskit.account.oauth.CustomOAuth2User;
-import com.deskit.deskit.account.repository.MemberRepository;
+import com.deskit.deskit.account.service.MemberIdentityCache;
 import com.deskit.deskit.account.address.dto.AddressCreateRequest;
 import com.deskit.deskit.account.address.dto.AddressResponse;
 import com.deskit.deskit.account.address.dto.AddressUpdateRequest;
@@ -28,11 +27,11 @@ import org.springframework.web.server.ResponseStatusException;
 public class AddressController {
 
   private final AddressService addressService;
-  private final MemberRepository memberRepository;
+  private final MemberIdentityCache memberIdentityCache;
 
-  public AddressController(AddressService addressService, MemberRepository memberRepository) {
+  public AddressController(AddressService addressService, MemberIdentityCache memberIdentityCache) {
     this.addressService = addressService;
-    this.memberRepository = memberRepository;
+    this.memberIdentityCache = memberIdentityCache;
   }
 
   @GetMapping
@@ -87,12 +86,12 @@ public class AddressController {
       throw new ResponseStatusException(HttpStatus.NOT_FOUND, "member not found");
     }
 
-    Member member = memberRepository.findByLoginId(loginId);
+    MemberIdentityCache.Identity member = memberIdentityCache.findByLoginId(loginId);
     if (member == null) {
       throw new ResponseStatusException(HttpStatus.NOT_FOUND, "member not found");
     }
 
-    return member.getMemberId();
+    return member.memberId();
   }
 
   private Long tryExtractMemberId(CustomOAuth2User user) {
@@ -1,6 +1,6 @@
 package com.deskit.deskit.account.address.service;
 
-import com.deskit.deskit.account.repository.MemberRepository;
+import com.deskit.deskit.account.service.MemberIdentityCache;
 import com.deskit.deskit.account.address.dto.AddressCreateRequest;
 import com.deskit.deskit.account.address.dto.AddressResponse;
 import com.deskit.deskit.account.address.dto.AddressUpdateRequest;
@@ -24,7 +24,7 @@ public class AddressService {
   private static final Pattern POSTCODE_PATTERN = Pattern.compile("\\d{5}");
 
   private final AddressRepository addressRepository;
-  private final MemberRepository memberRepository;
+  private final MemberIdentityCache memberIdentityCache;
 
   @Transactional(readOnly = true)
   public List<AddressResponse> getMyAddresses(Long memberId) {
@@ -140,7 +140,7 @@ public class AddressService {
     if (memberId == null) {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "member_id required");
     }
-    if (!memberRepository.existsById(memberId)) {
+    if (!memberIdentityCache.exists(memberId)) {
       throw new ResponseStatusException(HttpStatus.NOT_FOUND, "member not found");
     }
   }
@@ -11,6 +11,7 @@ import com.deskit.deskit.account.repository.RefreshRepository;
 import com.deskit.deskit.account.repository.SellerRepository;
 import com.deskit.deskit.product.entity.Product;
 import com.deskit.deskit.product.repository.ProductRepository;
+import com.deskit.deskit.product.service.ProductCatalogCache;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -49,6 +50,7 @@ public class TestAuthController {
     private final SellerRepository sellerRepository;
     private final MemberRepository memberRepository;
     private final ProductRepository productRepository;
+    private final ProductCatalogCache productCatalogCache;
 
     @org.springframework.beans.factory.annotation.Value("${app.cookie.secure:false}")
     private boolean cookieSecure;
@@ -347,6 +349,7 @@ public class TestAuthController {
         product.changeStatus(Product.Status.READY);
         product.changeStatus(Product.Status.ON_SALE);
         Product saved = productRepository.save(product);
+        productCatalogCache.invalidateAfterCommit(saved.getId());
         return saved.getId();
     }
 
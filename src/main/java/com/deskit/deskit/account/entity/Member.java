@@ -16,7 +16,7 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "member")
+@Table(name = "member", indexes = @Index(name = "idx_member_login_id", columnList = "login_id"))
 public class Member {
 
     @Id
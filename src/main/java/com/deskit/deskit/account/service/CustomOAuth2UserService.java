@@ -25,6 +25,7 @@ import java.time.LocalDateTime;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final MemberRepository memberRepository;
+    private final MemberIdentityCache memberIdentityCache;
     private final SellerRepository sellerRepository;
     private final AdminRepository adminRepository;
     private final Environment environment;
@@ -32,6 +33,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     public CustomOAuth2UserService(
             MemberRepository memberRepository,
+            MemberIdentityCache memberIdentityCache,
             SellerRepository sellerRepository,
             AdminRepository adminRepository,
             Environment environment,
@@ -39,6 +41,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     ) {
 
         this.memberRepository = memberRepository;
+        this.memberIdentityCache = memberIdentityCache;
         this.sellerRepository = sellerRepository;
         this.adminRepository = adminRepository;
         this.environment = environment;
@@ -103,7 +106,8 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         // Member에 존재할 경우 -> Member 로그인
         else if (existMember != null) {
 
-            if (existMember.getStatus() == MemberStatus.INACTIVE) {
+            boolean reactivated = existMember.getStatus() == MemberStatus.INACTIVE;
+            if (reactivated) {
                 ensureRejoinAllowed(existMember.getUpdatedAt());
                 existMember.setStatus(MemberStatus.ACTIVE);
             }
@@ -112,6 +116,9 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             existMember.setName(oAuth2Response.getName());
 
             memberRepository.save(existMember);
+            if (reactivated) {
+                memberIdentityCache.invalidateAfterCommit(existMember.getMemberId(), existMember.getLoginId());
+            }
 
             UserDTO userDTO = UserDTO.builder()
                     .username(existMember.getLoginId())
@@ -0,0 +1,192 @@
+package com.deskit.deskit.account.service;
+
+import com.deskit.deskit.account.entity.Member;
+import com.deskit.deskit.account.enums.MemberStatus;
+import com.deskit.deskit.account.repository.MemberRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 인증 요청 guard 용 회원 식별 캐시 (loginId/memberId -> memberId, status).
+ * 노드 로컬에 짧은 TTL 로 크기를 제한해 보관하고, 탈퇴/재가입 등 변경 시 Redis Pub/Sub 으로 모든 노드에서 무효화한다.
+ * 없는 회원은 캐시하지 않는다. (가입 직후 조회가 막히지 않도록)
+ */
+@Slf4j
+@Service
+public class MemberIdentityCache implements MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "account:member:invalidate";
+
+    private final MemberRepository memberRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long ttlMillis;
+    private final Map<String, Entry> byLoginId;
+    private final Map<Long, Entry> byMemberId;
+
+    public MemberIdentityCache(MemberRepository memberRepository,
+                               RedisTemplate<String, String> redisTemplate,
+                               @Qualifier("redisMessageListenerContainer") RedisMessageListenerContainer listenerContainer,
+                               @Value("${account.identity-cache.ttl-seconds:30}") long ttlSeconds,
+                               @Value("${account.identity-cache.max-size:10000}") int maxSize) {
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.ttlMillis = Duration.ofSeconds(Math.max(1L, ttlSeconds)).toMillis();
+        this.byLoginId = boundedMap(Math.max(1, maxSize));
+        this.byMemberId = boundedMap(Math.max(1, maxSize));
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    public record Identity(Long memberId, String loginId, MemberStatus status) {
+
+        public boolean isActive() {
+            return status == MemberStatus.ACTIVE;
+        }
+    }
+
+    /**
+     * loginId 로 회원 식별 정보를 찾는다. 없으면 null.
+     */
+    public Identity findByLoginId(String loginId) {
+        if (loginId == null || loginId.isBlank()) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        Entry cached = byLoginId.get(loginId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.identity();
+        }
+        return put(memberRepository.findByLoginId(loginId), now);
+    }
+
+    /**
+     * memberId 로 회원 식별 정보를 찾는다. 없으면 null.
+     */
+    public Identity findByMemberId(Long memberId) {
+        if (memberId == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        Entry cached = byMemberId.get(memberId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.identity();
+        }
+        return put(memberRepository.findById(memberId).orElse(null), now);
+    }
+
+    /**
+     * memberRepository.existsById 대체 (상태와 무관하게 존재 여부만 본다)
+     */
+    public boolean exists(Long memberId) {
+        return findByMemberId(memberId) != null;
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 클러스터 전체에서 무효화한다.
+     */
+    public void invalidateAfterCommit(Long memberId, String loginId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(memberId, loginId);
+                }
+            });
+            return;
+        }
+        invalidate(memberId, loginId);
+    }
+
+    public void invalidate(Long memberId, String loginId) {
+        evictLocal(memberId, loginId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL,
+                    (memberId == null ? "" : memberId) + "|" + (loginId == null ? "" : loginId));
+        } catch (Exception e) {
+            log.warn("account.identity.invalidate publish failed: memberId={}, reason={}", memberId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8).replace("\"", "").trim();
+        int separator = body.indexOf('|');
+        if (separator < 0) {
+            log.warn("account.identity.invalidate invalid payload: {}", body);
+            return;
+        }
+        String memberIdText = body.substring(0, separator);
+        String loginId = body.substring(separator + 1);
+        Long memberId = null;
+        if (!memberIdText.isEmpty()) {
+            try {
+                memberId = Long.parseLong(memberIdText);
+            } catch (NumberFormatException e) {
+                log.warn("account.identity.invalidate invalid payload: {}", body);
+            }
+        }
+        evictLocal(memberId, loginId.isEmpty() ? null : loginId);
+    }
+
+    private void evictLocal(Long memberId, String loginId) {
+        if (memberId != null) {
+            Entry removed = byMemberId.remove(memberId);
+            if (removed != null) {
+                byLoginId.remove(removed.identity().loginId());
+            }
+        }
+        if (loginId != null) {
+            Entry removed = byLoginId.remove(loginId);
+            if (removed != null) {
+                byMemberId.remove(removed.identity().memberId());
+            }
+        }
+    }
+
+    private Identity put(Member member, long now) {
+        if (member == null || member.getMemberId() == null) {
+            return null;
+        }
+        Identity identity = new Identity(member.getMemberId(), member.getLoginId(), member.getStatus());
+        Entry entry = new Entry(identity, now + ttlMillis);
+        byMemberId.put(identity.memberId(), entry);
+        if (identity.loginId() != null) {
+            byLoginId.put(identity.loginId(), entry);
+        }
+        return identity;
+    }
+
+    // 접근 순서 기준 LRU. 조회 경로가 짧아 단일 락으로 충분하다.
+    private static <K> Map<K, Entry> boundedMap(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    private record Entry(Identity identity, long expiresAt) {
+    }
+}
@@ -1,9 +1,7 @@
 package com.deskit.deskit.account.service;
 
 import com.deskit.deskit.account.dto.MemberIdResponse;
-import com.deskit.deskit.account.entity.Member;
 import com.deskit.deskit.account.oauth.CustomOAuth2User;
-import com.deskit.deskit.account.repository.MemberRepository;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -14,7 +12,7 @@ import org.springframework.web.server.ResponseStatusException;
 @RequiredArgsConstructor
 public class MemberIdentityService {
 
-    private final MemberRepository memberRepository;
+    private final MemberIdentityCache memberIdentityCache;
 
     public MemberIdResponse getMemberId(CustomOAuth2User user) {
         return new MemberIdResponse(resolveMemberId(user));
@@ -35,12 +33,12 @@ public class MemberIdentityService {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "member not found");
         }
 
-        Member member = memberRepository.findByLoginId(loginId);
+        MemberIdentityCache.Identity member = memberIdentityCache.findByLoginId(loginId);
         if (member == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "member not found");
         }
 
-        return member.getMemberId();
+        return member.memberId();
     }
 
     private Long tryExtractMemberId(CustomOAuth2User user) {
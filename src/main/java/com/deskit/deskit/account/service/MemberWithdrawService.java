@@ -12,6 +12,7 @@ import org.springframework.stereotype.Service;
 public class MemberWithdrawService {
 
     private final MemberRepository memberRepository;
+    private final MemberIdentityCache memberIdentityCache;
 
     public void withdraw(String loginId) {
         Member member = memberRepository.findByLoginId(loginId);
@@ -23,5 +24,6 @@ public class MemberWithdrawService {
         }
 
         member.setStatus(MemberStatus.INACTIVE);
+        memberIdentityCache.invalidateAfterCommit(member.getMemberId(), loginId);
     }
 }
@@ -17,5 +17,7 @@ public class RagVectorProperties {
     private int topK = 4;
     private String evaluationIndexName = "evaluation-index";
     private String evaluationPrefix = "eval-doc:";
+    // RediSearch 가 없는 Redis(로컬 부하 테스트 등)에서는 false 로 끈다.
+    private boolean initializeSchema = true;
 
 }
@@ -48,7 +48,7 @@ public class RedisVectorStoreConfig {
                         MetadataField.text("source"),
                         MetadataField.numeric("chunk_index")
                 )
-                .initializeSchema(true)
+                .initializeSchema(properties.isInitializeSchema())
                 .build();
     }
 
@@ -65,7 +65,7 @@ public class RedisVectorStoreConfig {
                         MetadataField.text("source"),
                         MetadataField.numeric("chunk_index")
                 )
-                .initializeSchema(true)
+                .initializeSchema(properties.isInitializeSchema())
                 .build();
     }
 
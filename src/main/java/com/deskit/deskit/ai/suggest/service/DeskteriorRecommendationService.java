@@ -10,24 +10,41 @@ import com.deskit.deskit.product.repository.ProductTagRepository;
 import com.deskit.deskit.product.repository.ProductTagRepository.ProductTagRow;
 import com.deskit.deskit.product.service.ProductService;
 import com.deskit.deskit.tag.entity.TagCategory.TagCode;
+import com.deskit.deskit.tag.service.TagSignatures;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * MBTI x 직무 기반 데스크테리어 상품 추천
+ *
+ * - 순위는 (MBTI, JobCategory) 조합에만 의존하므로, 모든 조합의 상위 N개 상품 id 를 백그라운드에서 미리 계산해 둔다.
+ * - 카탈로그 스냅샷 버전(상품/태그/가격 변경 시 증가)이 바뀌면 다시 계산하고, 요청은 표에서 바로 꺼내 스냅샷으로 채운다.
+ * - 표가 아직 없거나 요청 limit 이 미리 계산한 개수보다 크면 기존처럼 요청 시점에 계산한다.
+ */
 @Service
 public class DeskteriorRecommendationService {
 
   private static final int DEFAULT_LIMIT = 4;
+  static final int PRECOMPUTED_TOP_N = 20;
+
+  private static final Logger log = LoggerFactory.getLogger(DeskteriorRecommendationService.class);
 
   private final MemberRepository memberRepository;
   private final ProductTagRepository productTagRepository;
   private final ProductService productService;
   private final UserPreferenceTagMapper preferenceTagMapper;
 
+  private volatile ProfileRankings profileRankings = ProfileRankings.EMPTY;
+
   public DeskteriorRecommendationService(MemberRepository memberRepository,
                                          ProductTagRepository productTagRepository,
                                          ProductService productService,
@@ -57,7 +74,13 @@ public class DeskteriorRecommendationService {
     if (mbti == null || mbti == MBTI.NONE || jobCategory == null || jobCategory == JobCategory.NONE) {
       return Collections.emptyList();
     }
-    int profileSeed = (mbti.name() + "|" + jobCategory.name()).hashCode();
+    String profileKey = profileKey(mbti, jobCategory);
+    int profileSeed = profileKey.hashCode();
+
+    List<ProductResponse> precomputed = fromPrecomputed(profileKey, limit);
+    if (precomputed != null) {
+      return precomputed;
+    }
 
     UserPreferenceTags preferenceTags = preferenceTagMapper.map(mbti, jobCategory);
     if (preferenceTags.isEmpty()) {
@@ -80,29 +103,7 @@ public class DeskteriorRecommendationService {
       return fallbackProducts(limit, profileSeed);
     }
 
-    Map<Long, Integer> scores = new HashMap<>();
-    for (ProductTagRow row : rows) {
-      if (row == null || row.getProductId() == null || row.getTagCode() == null) {
-        continue;
-      }
-      if (!preferenceTags.matches(row.getTagCode(), row.getTagName())) {
-        continue;
-      }
-      int weight = weightFor(row.getTagCode());
-      scores.merge(row.getProductId(), weight, Integer::sum);
-    }
-
-    if (scores.isEmpty()) {
-      return fallbackProducts(limit, profileSeed);
-    }
-
-    List<Long> rankedIds = scores.entrySet().stream()
-        .sorted(Comparator.<Map.Entry<Long, Integer>>comparingInt(Map.Entry::getValue).reversed()
-            .thenComparing(entry -> tieBreaker(entry.getKey(), profileSeed)))
-        .limit(limit)
-        .map(Map.Entry::getKey)
-        .toList();
-
+    List<Long> rankedIds = rankByScore(preferenceTags, signaturesOf(candidateProductIds, rows), limit, profileSeed);
     if (rankedIds.isEmpty()) {
       return fallbackProducts(limit, profileSeed);
     }
@@ -126,6 +127,137 @@ public class DeskteriorRecommendationService {
     return ordered.isEmpty() ? fallbackProducts(limit, profileSeed) : ordered;
   }
 
+  /**
+   * 모든 프로필 조합의 상위 N개 상품 id 를 다시 계산한다. 카탈로그 버전이 그대로면 건너뛴다.
+   * 태그 row 는 갱신 한 번에 한 번만 읽고, 조합별 계산은 요청 경로와 같은 점수/동점 규칙을 쓴다.
+   */
+  @Scheduled(
+      fixedDelayString = "${ai.recommendation.refresh-delay-ms:30000}",
+      initialDelayString = "${ai.recommendation.initial-delay-ms:10000}"
+  )
+  public void refreshProfileRankings() {
+    long catalogVersion = productService.getCatalogVersion();
+    if (profileRankings.catalogVersion() == catalogVersion) {
+      return;
+    }
+    List<Long> candidateProductIds = productService.getProducts().stream()
+        .map(ProductResponse::getProductId)
+        .toList();
+    List<ProductTagRow> rows = candidateProductIds.isEmpty()
+        ? Collections.emptyList()
+        : productTagRepository.findActiveTagsByProductIds(candidateProductIds);
+
+    TagSignatures signatures = signaturesOf(candidateProductIds, rows);
+
+    Map<String, List<Long>> rankedIdsByProfile = new HashMap<>();
+    for (MBTI mbti : MBTI.values()) {
+      if (mbti == MBTI.NONE) {
+        continue;
+      }
+      for (JobCategory jobCategory : JobCategory.values()) {
+        if (jobCategory == JobCategory.NONE) {
+          continue;
+        }
+        String profileKey = profileKey(mbti, jobCategory);
+        rankedIdsByProfile.put(profileKey, precomputeRanking(
+            preferenceTagMapper.map(mbti, jobCategory), profileKey.hashCode(), candidateProductIds, rows, signatures));
+      }
+    }
+    profileRankings = new ProfileRankings(catalogVersion, Map.copyOf(rankedIdsByProfile));
+    log.debug("ai.recommendation rankings refreshed: catalogVersion={}, profiles={}, products={}",
+        catalogVersion, rankedIdsByProfile.size(), candidateProductIds.size());
+  }
+
+  // recommendForLoginId 와 같은 분기 순서. 빈 목록은 "추천 없음"까지 미리 계산된 결과다.
+  private List<Long> precomputeRanking(UserPreferenceTags preferenceTags, int profileSeed,
+                                       List<Long> candidateProductIds, List<ProductTagRow> rows,
+                                       TagSignatures signatures) {
+    if (preferenceTags == null || preferenceTags.isEmpty() || candidateProductIds.isEmpty()) {
+      return List.of();
+    }
+    if (preferenceTags.allTagNames().isEmpty() || rows.isEmpty()) {
+      return fallbackIds(candidateProductIds, profileSeed);
+    }
+    List<Long> rankedIds = rankByScore(preferenceTags, signatures, PRECOMPUTED_TOP_N, profileSeed);
+    return rankedIds.isEmpty() ? fallbackIds(candidateProductIds, profileSeed) : rankedIds;
+  }
+
+  /**
+   * 미리 계산한 표에서 꺼낸다. 표를 쓸 수 없으면 null (요청 시점 계산으로 넘어간다)
+   * 표 계산 이후 판매중지/삭제된 상품은 스냅샷 조회에서 빠지므로, 그만큼 모자라면 다시 계산한다.
+   */
+  private List<ProductResponse> fromPrecomputed(String profileKey, int limit) {
+    List<Long> rankedIds = profileRankings.rankedIdsByProfile().get(profileKey);
+    if (rankedIds == null || limit < 1) {
+      return null;
+    }
+    if (rankedIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+    // 잘린 목록이면 limit 만큼 채울 수 있을 때만 쓴다.
+    if (limit > rankedIds.size() && rankedIds.size() >= PRECOMPUTED_TOP_N) {
+      return null;
+    }
+    List<Long> ids = rankedIds.subList(0, Math.min(limit, rankedIds.size()));
+    List<ProductResponse> products = productService.getCatalogProducts(ids);
+    return products.size() == ids.size() ? products : null;
+  }
+
+  /**
+   * 선호 키워드 매칭은 태그 사전(중복 없는 태그명)에만 한 번씩 하고, 상품별 점수는 서명 AND + popcount 로 구한다.
+   */
+  private List<Long> rankByScore(UserPreferenceTags preferenceTags, TagSignatures signatures, int limit,
+                                 int profileSeed) {
+    TagCode[] codes = TagCode.values();
+    long[][] masks = new long[codes.length][];
+    int[] weights = new int[codes.length];
+    for (int i = 0; i < codes.length; i++) {
+      TagCode code = codes[i];
+      masks[i] = signatures.dictionary().maskMatching(code, tagName -> preferenceTags.matches(code, tagName));
+      weights[i] = weightFor(code);
+    }
+    int[] scores = signatures.score(masks, weights);
+
+    if (limit <= 0) {
+      return Collections.emptyList();
+    }
+    // 상위 limit 개만 필요하므로 전체 정렬 대신 크기 limit 의 힙으로 고른다. (맨 위가 현재 가장 낮은 순위)
+    Comparator<Integer> ranking = Comparator.<Integer>comparingInt(position -> scores[position]).reversed()
+        .thenComparingInt(position -> tieBreaker(signatures.entityId(position), profileSeed));
+    PriorityQueue<Integer> top = new PriorityQueue<>(limit, ranking.reversed());
+    for (int position = 0; position < scores.length; position++) {
+      if (scores[position] <= 0) {
+        continue;
+      }
+      if (top.size() < limit) {
+        top.add(position);
+      } else if (ranking.compare(position, top.peek()) < 0) {
+        top.poll();
+        top.add(position);
+      }
+    }
+    if (top.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    List<Integer> ranked = new ArrayList<>(top);
+    ranked.sort(ranking);
+    return ranked.stream()
+        .map(signatures::entityId)
+        .toList();
+  }
+
+  private static TagSignatures signaturesOf(List<Long> candidateProductIds, List<ProductTagRow> rows) {
+    TagSignatures.Builder builder = TagSignatures.builder(candidateProductIds);
+    for (ProductTagRow row : rows) {
+      if (row == null || row.getProductId() == null || row.getTagCode() == null) {
+        continue;
+      }
+      builder.add(row.getProductId(), row.getTagCode(), row.getTagName());
+    }
+    return builder.build();
+  }
+
   private int weightFor(TagCode code) {
     if (code == null) {
       return 0;
@@ -149,10 +281,26 @@ public class DeskteriorRecommendationService {
         .toList();
   }
 
+  private List<Long> fallbackIds(List<Long> candidateProductIds, int profileSeed) {
+    return candidateProductIds.stream()
+        .sorted(Comparator.comparingInt(productId -> tieBreaker(productId, profileSeed)))
+        .limit(PRECOMPUTED_TOP_N)
+        .toList();
+  }
+
+  private static String profileKey(MBTI mbti, JobCategory jobCategory) {
+    return mbti.name() + "|" + jobCategory.name();
+  }
+
   private int tieBreaker(Long productId, int profileSeed) {
     if (productId == null) {
       return Integer.MAX_VALUE;
     }
     return Integer.rotateLeft(productId.hashCode(), 5) ^ profileSeed;
   }
+
+  private record ProfileRankings(long catalogVersion, Map<String, List<Long>> rankedIdsByProfile) {
+
+    private static final ProfileRankings EMPTY = new ProfileRankings(-1L, Map.of());
+  }
 }
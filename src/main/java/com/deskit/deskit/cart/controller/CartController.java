@@ -1,8 +1,7 @@
 package com.deskit.deskit.cart.controller;
 
-import com.deskit.deskit.account.entity.Member;
 import com.deskit.deskit.account.oauth.CustomOAuth2User;
-import com.deskit.deskit.account.repository.MemberRepository;
+import com.deskit.deskit.account.service.MemberIdentityCache;
 import com.deskit.deskit.cart.dto.CartItemCreateRequest;
 import com.deskit.deskit.cart.dto.CartItemUpdateRequest;
 import com.deskit.deskit.cart.dto.CartResponse;
@@ -27,12 +26,12 @@ import org.springframework.web.server.ResponseStatusException;
 public class CartController {
 
   private final CartService cartService; // 장바구니 비즈니스 로직 담당
-  private final MemberRepository memberRepository; // 로그인 유저(loginId) → member 조회용
+  private final MemberIdentityCache memberIdentityCache; // 로그인 유저(loginId) → member 조회용
 
   // 생성자 주입(스프링이 Bean 주입)
-  public CartController(CartService cartService, MemberRepository memberRepository) {
+  public CartController(CartService cartService, MemberIdentityCache memberIdentityCache) {
     this.cartService = cartService;
-    this.memberRepository = memberRepository;
+    this.memberIdentityCache = memberIdentityCache;
   }
 
   /**
@@ -120,12 +119,12 @@ public class CartController {
     }
 
     // loginId로 회원 조회 (주의: 레포 시그니처가 Optional이면 여기 코드가 달라져야 함)
-    Member member = memberRepository.findByLoginId(loginId);
+    MemberIdentityCache.Identity member = memberIdentityCache.findByLoginId(loginId);
     if (member == null) {
       throw new ResponseStatusException(HttpStatus.NOT_FOUND, "member not found");
     }
 
-    return member.getMemberId();
+    return member.memberId();
   }
 
   /**
@@ -1,7 +1,7 @@
 package com.deskit.deskit.cart.service;
 
 import com.deskit.deskit.account.entity.Member;
-import com.deskit.deskit.account.repository.MemberRepository;
+import com.deskit.deskit.account.service.MemberIdentityCache;
 import com.deskit.deskit.cart.dto.CartItemResponse;
 import com.deskit.deskit.cart.dto.CartResponse;
 import com.deskit.deskit.cart.entity.Cart;
@@ -27,20 +27,20 @@ public class CartService {
   private final CartItemRepository cartItemRepository;
   private final ProductRepository productRepository;
   private final BroadcastProductRepository broadcastProductRepository;
-  private final MemberRepository memberRepository;
+  private final MemberIdentityCache memberIdentityCache;
   private final EntityManager entityManager; // getReference()로 Member 프록시를 만들 때 사용
 
   public CartService(CartRepository cartRepository,
                      CartItemRepository cartItemRepository,
                      ProductRepository productRepository,
                      BroadcastProductRepository broadcastProductRepository,
-                     MemberRepository memberRepository,
+                     MemberIdentityCache memberIdentityCache,
                      EntityManager entityManager) {
     this.cartRepository = cartRepository;
     this.cartItemRepository = cartItemRepository;
     this.productRepository = productRepository;
     this.broadcastProductRepository = broadcastProductRepository;
-    this.memberRepository = memberRepository;
+    this.memberIdentityCache = memberIdentityCache;
     this.entityManager = entityManager;
   }
 
@@ -174,7 +174,7 @@ public class CartService {
    *   => 불필요한 SELECT를 줄이는 패턴
    */
   private Member getMemberReference(Long memberId) {
-    if (memberId == null || !memberRepository.existsById(memberId)) {
+    if (memberId == null || !memberIdentityCache.exists(memberId)) {
       throw new ResponseStatusException(HttpStatus.NOT_FOUND, "member not found");
     }
     return entityManager.getReference(Member.class, memberId);
@@ -9,14 +9,29 @@ import java.util.concurrent.Executor;
 @Configuration
 @EnableAsync // 비동기 기능을 활성화 -> @Async 붙이면 됨
 public class AsyncConfig { // 비동기 쓰레드풀 설정
-    @Bean(name = "chatSaveExecutor")
-    public Executor chatSaveExecutor() {
+    @Bean(name = "sseDispatchExecutor")
+    public Executor sseDispatchExecutor() { // SSE 전송 전용 (emitter 당 drain 작업은 최대 1개)
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(10);      // 기본 유지 쓰레드
-        executor.setMaxPoolSize(20);      // 최대 쓰레드
-        executor.setQueueCapacity(1000);  // 대기 큐
-        executor.setThreadNamePrefix("AsyncChat-");
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("SseDispatch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    @Bean(name = "popularRankExecutor")
+    public Executor popularRankExecutor() { // 인기 상품 순위 ZINCRBY 전용 (결제 커밋 스레드에서 Redis 왕복을 하지 않도록)
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("PopularRank-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -14,6 +14,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpMethod;
 import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -116,6 +117,22 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // 부하 테스트용 스텁(LoadTestTossStubController)은 loadtest 프로필에서만 열어 둔다.
+    @Bean
+    @Order(1)
+    @Profile("loadtest")
+    public SecurityFilterChain loadTestFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/internal/loadtest/**")
+                .csrf((auth) -> auth.disable())
+                .formLogin((auth) -> auth.disable())
+                .httpBasic((auth) -> auth.disable())
+                .authorizeHttpRequests((auth) -> auth.anyRequest().permitAll())
+                .sessionManagement((session) -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+        return http.build();
+    }
+
     @Bean
     @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -39,6 +39,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
+        // 멀티 노드에서 /sub/chat/** 전달은 LiveChatFanoutService(livechat.fanout.mode=redis)가 노드 간 relay 한다.
         config.enableSimpleBroker("/topic", "/queue", "/sub");
         config.setApplicationDestinationPrefixes("/app", "/pub");
     }
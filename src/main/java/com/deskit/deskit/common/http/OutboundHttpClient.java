@@ -0,0 +1,167 @@
+package com.deskit.deskit.common.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 연동(Toss, OpenVidu 녹화 다운로드 등) 공용 HTTP 클라이언트.
+ * - 커넥션 풀/디스패처는 하나를 공유하고, target 별로 타임아웃/재시도/TLS 설정만 다르게 가져간다.
+ * - 재시도: IOException, 429, 5xx 에 대해 지수 백오프(+jitter). POST 는 멱등 키가 있는 호출에만 쓴다.
+ * - 메트릭: outbound.http.requests{target, endpoint, outcome}
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(OutboundHttpProperties.class)
+public class OutboundHttpClient {
+
+    private final OkHttpClient sharedClient;
+    private final OutboundHttpProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, OkHttpClient> clientsByTarget = new ConcurrentHashMap<>();
+
+    public OutboundHttpClient(OutboundHttpProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(Math.max(1, properties.getMaxRequestsPerHost()));
+        this.sharedClient = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(
+                        Math.max(1, properties.getMaxIdleConnections()),
+                        properties.getKeepAliveSeconds(),
+                        TimeUnit.SECONDS))
+                .dispatcher(dispatcher)
+                // 재시도는 execute 의 정책으로만 한다.
+                .retryOnConnectionFailure(false)
+                .build();
+    }
+
+    /**
+     * 요청을 실행하고 응답을 그대로 돌려준다. 호출 측에서 Response 를 닫아야 한다.
+     */
+    public Response execute(String target, String endpoint, Request request) throws IOException {
+        OutboundHttpProperties.Target config = properties.getTarget(target);
+        OkHttpClient client = clientsByTarget.computeIfAbsent(target, key -> buildClient(config));
+        int maxAttempts = Math.max(1, config.getMaxAttempts());
+
+        for (int attempt = 1; ; attempt++) {
+            long startedAt = System.nanoTime();
+            Response response;
+            try {
+                response = client.newCall(request).execute();
+            } catch (IOException e) {
+                record(target, endpoint, "IO_ERROR", startedAt);
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.warn("outbound.http retry target={} endpoint={} attempt={} reason={}",
+                        target, endpoint, attempt, e.getMessage());
+                backoff(target, endpoint, config, attempt);
+                continue;
+            }
+
+            record(target, endpoint, String.valueOf(response.code()), startedAt);
+            if (attempt < maxAttempts && isRetryableStatus(response.code())) {
+                response.close();
+                log.warn("outbound.http retry target={} endpoint={} attempt={} status={}",
+                        target, endpoint, attempt, response.code());
+                backoff(target, endpoint, config, attempt);
+                continue;
+            }
+            return response;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sharedClient.dispatcher().executorService().shutdown();
+        sharedClient.connectionPool().evictAll();
+    }
+
+    private OkHttpClient buildClient(OutboundHttpProperties.Target config) {
+        OkHttpClient.Builder builder = sharedClient.newBuilder()
+                .connectTimeout(config.getConnectTimeoutMs(), TimeUnit.MILLISECONDS)
+                .readTimeout(config.getReadTimeoutMs(), TimeUnit.MILLISECONDS)
+                .writeTimeout(config.getWriteTimeoutMs(), TimeUnit.MILLISECONDS);
+        if (config.isTrustAllCertificates()) {
+            applyTrustAll(builder);
+        }
+        return builder.build();
+    }
+
+    private void applyTrustAll(OkHttpClient.Builder builder) {
+        X509TrustManager trustAll = new X509TrustManager() {
+            @Override
+            public void checkClientTrusted(X509Certificate[] chain, String authType) {
+            }
+
+            @Override
+            public void checkServerTrusted(X509Certificate[] chain, String authType) {
+            }
+
+            @Override
+            public X509Certificate[] getAcceptedIssuers() {
+                return new X509Certificate[0];
+            }
+        };
+        try {
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, new TrustManager[]{trustAll}, new SecureRandom());
+            builder.sslSocketFactory(sslContext.getSocketFactory(), trustAll)
+                    .hostnameVerifier((hostname, session) -> true);
+        } catch (Exception e) {
+            log.warn("outbound.http trust-all setup failed: {}", e.getMessage());
+        }
+    }
+
+    private boolean isRetryableStatus(int status) {
+        return status == 429 || status >= 500;
+    }
+
+    private void backoff(String target, String endpoint, OutboundHttpProperties.Target config, int attempt)
+            throws InterruptedIOException {
+        Counter.builder("outbound.http.retries")
+                .tag("target", target)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .increment();
+        long base = Math.max(0L, config.getBackoffMs()) * (1L << Math.min(attempt - 1, 5));
+        long jitter = base > 0 ? ThreadLocalRandom.current().nextLong(base / 2 + 1) : 0L;
+        try {
+            Thread.sleep(base + jitter);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted during retry backoff");
+        }
+    }
+
+    private void record(String target, String endpoint, String outcome, long startedAt) {
+        Timer.builder("outbound.http.requests")
+                .tag("target", target)
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,59 @@
+package com.deskit.deskit.common.http;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbound.http")
+public class OutboundHttpProperties {
+
+    private int maxIdleConnections = 20;
+    private long keepAliveSeconds = 300;
+    private int maxRequestsPerHost = 32;
+
+    // 결제 승인/취소/조회 (Idempotency-Key 가 있으므로 재시도 허용)
+    private Target toss = new Target(3000, 30000, 10000, 2, 300, false);
+
+    // 녹화 파일 다운로드 (호출 측에서 업로드까지 묶어서 재시도)
+    private Target openvidu = new Target(3000, 60000, 10000, 1, 1000, true);
+
+    private Target defaults = new Target(3000, 10000, 10000, 1, 300, false);
+
+    public Target getTarget(String name) {
+        if ("toss".equals(name)) {
+            return toss;
+        }
+        if ("openvidu".equals(name)) {
+            return openvidu;
+        }
+        return defaults;
+    }
+
+    @Getter
+    @Setter
+    public static class Target {
+
+        private long connectTimeoutMs;
+        private long readTimeoutMs;
+        private long writeTimeoutMs;
+        private int maxAttempts;
+        private long backoffMs;
+        // 사설 인증서를 쓰는 내부 서버용. 해당 target 클라이언트에만 적용된다.
+        private boolean trustAllCertificates;
+
+        public Target() {
+        }
+
+        public Target(long connectTimeoutMs, long readTimeoutMs, long writeTimeoutMs,
+                      int maxAttempts, long backoffMs, boolean trustAllCertificates) {
+            this.connectTimeoutMs = connectTimeoutMs;
+            this.readTimeoutMs = readTimeoutMs;
+            this.writeTimeoutMs = writeTimeoutMs;
+            this.maxAttempts = maxAttempts;
+            this.backoffMs = backoffMs;
+            this.trustAllCertificates = trustAllCertificates;
+        }
+    }
+}
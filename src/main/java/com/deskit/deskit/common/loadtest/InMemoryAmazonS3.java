@@ -0,0 +1,131 @@
+package com.deskit.deskit.common.loadtest;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * loadtest 프로필 전용 S3 대체 구현.
+ * AwsS3Service / S3Uploader 가 쓰는 put/get/exists/delete/metadata/url 만 메모리 맵으로 흉내 낸다.
+ * 나머지 API 는 AbstractAmazonS3 기본 동작(UnsupportedOperationException)을 따른다.
+ */
+public class InMemoryAmazonS3 extends AbstractAmazonS3 {
+
+    private final String baseUrl;
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+
+    public InMemoryAmazonS3(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest request) {
+        ObjectMetadata metadata = request.getMetadata() == null ? new ObjectMetadata() : request.getMetadata();
+        byte[] content;
+        try {
+            if (request.getFile() != null) {
+                content = Files.readAllBytes(request.getFile().toPath());
+            } else if (request.getInputStream() != null) {
+                content = request.getInputStream().readAllBytes();
+            } else {
+                content = new byte[0];
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        metadata.setContentLength(content.length);
+        objects.put(key(request.getBucketName(), request.getKey()), new StoredObject(content, metadata));
+        PutObjectResult result = new PutObjectResult();
+        result.setMetadata(metadata);
+        return result;
+    }
+
+    @Override
+    public PutObjectResult putObject(String bucketName, String key, InputStream input, ObjectMetadata metadata) {
+        return putObject(new PutObjectRequest(bucketName, key, input, metadata));
+    }
+
+    @Override
+    public S3Object getObject(GetObjectRequest request) {
+        StoredObject stored = require(request.getBucketName(), request.getKey());
+        S3Object object = new S3Object();
+        object.setBucketName(request.getBucketName());
+        object.setKey(request.getKey());
+        object.setObjectMetadata(stored.metadata());
+        object.setObjectContent(new ByteArrayInputStream(stored.content()));
+        return object;
+    }
+
+    @Override
+    public S3Object getObject(String bucketName, String key) {
+        return getObject(new GetObjectRequest(bucketName, key));
+    }
+
+    @Override
+    public ObjectMetadata getObjectMetadata(GetObjectMetadataRequest request) {
+        return require(request.getBucketName(), request.getKey()).metadata();
+    }
+
+    @Override
+    public ObjectMetadata getObjectMetadata(String bucketName, String key) {
+        return getObjectMetadata(new GetObjectMetadataRequest(bucketName, key));
+    }
+
+    @Override
+    public boolean doesObjectExist(String bucketName, String objectName) {
+        return objects.containsKey(key(bucketName, objectName));
+    }
+
+    @Override
+    public void deleteObject(DeleteObjectRequest request) {
+        objects.remove(key(request.getBucketName(), request.getKey()));
+    }
+
+    @Override
+    public void deleteObject(String bucketName, String key) {
+        deleteObject(new DeleteObjectRequest(bucketName, key));
+    }
+
+    @Override
+    public URL getUrl(String bucketName, String key) {
+        try {
+            return new URL(baseUrl + "/" + bucketName + "/" + key);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private StoredObject require(String bucketName, String key) {
+        StoredObject stored = objects.get(key(bucketName, key));
+        if (stored == null) {
+            AmazonServiceException exception = new AmazonServiceException("The specified key does not exist.");
+            exception.setStatusCode(404);
+            exception.setErrorCode("NoSuchKey");
+            throw exception;
+        }
+        return stored;
+    }
+
+    private String key(String bucketName, String key) {
+        return bucketName + "/" + key;
+    }
+
+    private record StoredObject(byte[] content, ObjectMetadata metadata) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.deskit.deskit.common.loadtest;
+
+import com.deskit.deskit.livehost.service.OpenViduService;
+import io.openvidu.java.client.OpenVidu;
+import io.openvidu.java.client.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * loadtest 프로필 전용 OpenVidu 대체 구현.
+ * 세션/토큰은 메모리에서만 발급하고 녹화는 남기지 않는다. (미디어 서버 없이 방송 흐름만 측정)
+ */
+@Slf4j
+@Primary
+@Profile("loadtest")
+@Service
+public class LoadTestOpenViduService extends OpenViduService {
+
+    private final Map<Long, String> sessions = new ConcurrentHashMap<>();
+
+    public LoadTestOpenViduService(OpenVidu openVidu) {
+        super(openVidu);
+    }
+
+    @Override
+    public String createSession(Long broadcastId) {
+        return sessions.computeIfAbsent(broadcastId, id -> "broadcast-" + id);
+    }
+
+    @Override
+    public String createToken(Long broadcastId, Map<String, Object> params) {
+        String sessionId = createSession(broadcastId);
+        return "wss://loadtest.local?sessionId=" + sessionId + "&token=tok_" + UUID.randomUUID();
+    }
+
+    @Override
+    public void startRecording(Long broadcastId) {
+        createSession(broadcastId);
+    }
+
+    @Override
+    public void stopRecording(Long broadcastId) {
+    }
+
+    @Override
+    public void closeSession(Long broadcastId) {
+        sessions.remove(broadcastId);
+    }
+
+    @Override
+    public Optional<Recording> findRecordingBySessionId(String sessionId) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void deleteRecording(String recordingId) {
+    }
+
+    @Override
+    public void forceDisconnect(Long broadcastId, String connectionId) {
+        log.debug("loadtest force disconnect skipped: broadcastId={}, connectionId={}", broadcastId, connectionId);
+    }
+}
@@ -0,0 +1,22 @@
+package com.deskit.deskit.common.loadtest;
+
+import com.amazonaws.services.s3.AmazonS3;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+@Profile("loadtest")
+@Configuration
+public class LoadTestS3Config {
+
+    @Value("${cloud.aws.s3.endpoint}")
+    private String endPoint;
+
+    @Bean
+    @Primary
+    public AmazonS3 loadTestAmazonS3() {
+        return new InMemoryAmazonS3(endPoint);
+    }
+}
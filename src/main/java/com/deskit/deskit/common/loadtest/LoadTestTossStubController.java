@@ -0,0 +1,65 @@
+package com.deskit.deskit.common.loadtest;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * loadtest 프로필 전용 Toss Payments 스텁.
+ * toss.payments.base-url 을 이 경로로 돌려 승인/취소를 외부 호출 없이 즉시 성공시킨다.
+ * 주문번호 조회는 항상 404 로 응답한다. (승인 재시도 시 미승인 건으로 처리)
+ */
+@Profile("loadtest")
+@RestController
+@RequestMapping("/internal/loadtest/toss/v1/payments")
+public class LoadTestTossStubController {
+
+    @PostMapping("/confirm")
+    public Map<String, Object> confirm(@RequestBody Map<String, Object> request) {
+        String now = OffsetDateTime.now().toString();
+        Map<String, Object> response = new HashMap<>();
+        response.put("paymentKey", request.get("paymentKey"));
+        response.put("orderId", request.get("orderId"));
+        response.put("method", "카드");
+        response.put("status", "DONE");
+        response.put("totalAmount", request.get("amount"));
+        response.put("requestedAt", now);
+        response.put("approvedAt", now);
+        return response;
+    }
+
+    @PostMapping("/{paymentKey}/cancel")
+    public Map<String, Object> cancel(@PathVariable String paymentKey,
+                                      @RequestBody Map<String, Object> request) {
+        Map<String, Object> cancel = new HashMap<>();
+        cancel.put("transactionKey", UUID.randomUUID().toString());
+        cancel.put("cancelAmount", request.get("cancelAmount"));
+        cancel.put("cancelReason", request.get("cancelReason"));
+        cancel.put("cancelStatus", "DONE");
+        cancel.put("canceledAt", OffsetDateTime.now().toString());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("paymentKey", paymentKey);
+        response.put("status", "CANCELED");
+        response.put("cancels", List.of(cancel));
+        return response;
+    }
+
+    @GetMapping("/orders/{orderId}")
+    public ResponseEntity<Map<String, Object>> findByOrderId(@PathVariable String orderId) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("code", "NOT_FOUND_PAYMENT", "message", "loadtest stub"));
+    }
+}
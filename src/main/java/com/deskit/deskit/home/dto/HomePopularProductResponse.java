@@ -1,6 +1,5 @@
 package com.deskit.deskit.home.dto;
 
-import com.deskit.deskit.product.repository.ProductRepository.PopularProductRow;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 public class HomePopularProductResponse {
@@ -28,14 +27,4 @@ public class HomePopularProductResponse {
     this.soldQty = soldQty == null ? 0L : soldQty;
     this.thumbnailUrl = thumbnailUrl;
   }
-
-  public static HomePopularProductResponse from(PopularProductRow row) {
-    return new HomePopularProductResponse(
-        row.getProductId(),
-        row.getProductName(),
-        row.getPrice(),
-        row.getSoldQty(),
-        row.getThumbnailUrl()
-    );
-  }
 }
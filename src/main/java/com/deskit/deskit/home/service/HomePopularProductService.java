@@ -2,21 +2,83 @@ package com.deskit.deskit.home.service;
 
 import com.deskit.deskit.home.dto.HomePopularProductResponse;
 import com.deskit.deskit.product.repository.ProductRepository;
+import com.deskit.deskit.product.repository.ProductRepository.PopularProductRow;
+import com.deskit.deskit.product.service.ProductPopularityLeaderboard;
+import com.deskit.deskit.product.service.ProductPopularityLeaderboard.Entry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.springframework.stereotype.Service;
 
+/**
+ * 홈 인기 상품
+ * - 순위는 ProductPopularityLeaderboard(Redis sorted set)에서 상위 N개만 읽고, 카드 정보는 그 id 로만 조회한다.
+ * - 판매 이력이 limit 보다 적으면 기존과 같이 최신 상품(판매 수량 0)으로 채운다.
+ */
 @Service
 public class HomePopularProductService {
 
+  // 삭제된 상품이 순위에 남아 있을 수 있어 조금 더 읽는다.
+  private static final int OVERFETCH = 2;
+
   private final ProductRepository productRepository;
+  private final ProductPopularityLeaderboard leaderboard;
 
-  public HomePopularProductService(ProductRepository productRepository) {
+  public HomePopularProductService(ProductRepository productRepository,
+                                   ProductPopularityLeaderboard leaderboard) {
     this.productRepository = productRepository;
+    this.leaderboard = leaderboard;
   }
 
   public List<HomePopularProductResponse> getPopularProducts(int limit) {
-    return productRepository.findPopularProducts(limit).stream()
-        .map(HomePopularProductResponse::from)
-        .toList();
+    if (limit <= 0) {
+      return List.of();
+    }
+    // 판매 수량이 같으면 최신 상품 우선 (product_id 는 등록 순서, 경계 동점까지 leaderboard 가 id 로 고른다)
+    List<Entry> ranked = leaderboard.top(limit * OVERFETCH);
+
+    Map<Long, PopularProductRow> cards = new HashMap<>();
+    if (!ranked.isEmpty()) {
+      List<Long> ids = ranked.stream().map(Entry::productId).toList();
+      for (PopularProductRow row : productRepository.findPopularProductCardsByIds(ids)) {
+        cards.putIfAbsent(row.getProductId(), row);
+      }
+    }
+
+    List<HomePopularProductResponse> responses = new ArrayList<>(limit);
+    Set<Long> included = new HashSet<>();
+    for (Entry entry : ranked) {
+      PopularProductRow card = cards.get(entry.productId());
+      if (card == null || responses.size() == limit) {
+        continue;
+      }
+      responses.add(toResponse(card, entry.soldQty()));
+      included.add(entry.productId());
+    }
+
+    if (responses.size() < limit) {
+      for (PopularProductRow row : productRepository.findNewestProductCards(limit + included.size())) {
+        if (responses.size() == limit) {
+          break;
+        }
+        if (included.add(row.getProductId())) {
+          responses.add(toResponse(row, 0L));
+        }
+      }
+    }
+    return responses;
+  }
+
+  private HomePopularProductResponse toResponse(PopularProductRow row, long soldQty) {
+    return new HomePopularProductResponse(
+        row.getProductId(),
+        row.getProductName(),
+        row.getPrice(),
+        soldQty,
+        row.getThumbnailUrl()
+    );
   }
 }
@@ -2,14 +2,12 @@ package com.deskit.deskit.livechat.controller;
 
 import com.deskit.deskit.livechat.dto.LiveChatMessageDTO;
 import com.deskit.deskit.livechat.dto.LiveMessageType;
+import com.deskit.deskit.livechat.service.LiveChatFanoutService;
 import com.deskit.deskit.livechat.service.LiveChatService;
-import com.deskit.deskit.livehost.service.BroadcastService;
-import com.deskit.deskit.account.entity.Member;
-import com.deskit.deskit.account.repository.MemberRepository;
+import com.deskit.deskit.livehost.service.ChatSanctionCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -25,23 +23,20 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class LiveChatController {
 
-    private final SimpMessageSendingOperations messagingTemplate;
     private final LiveChatService chatService;
-    private final BroadcastService broadcastService;
-    private final MemberRepository memberRepository;
+    private final LiveChatFanoutService fanoutService;
+    private final ChatSanctionCache chatSanctionCache;
 
     @MessageMapping("/chat/message")
     public void handleMessage(LiveChatMessageDTO message, Principal principal, SimpMessageHeaderAccessor accessor) {
         if (message.getType() == LiveMessageType.TALK && message.getBroadcastId() != null) {
             String loginId = message.getMemberEmail();
-            if (loginId != null && !loginId.isBlank()) {
-                Member member = memberRepository.findByLoginId(loginId);
-                if (member != null && !broadcastService.canChat(message.getBroadcastId(), member.getMemberId())) {
-                    log.debug("livechat.blocked broadcastId={} memberId={} reason=SANCTIONED",
-                            message.getBroadcastId(),
-                            member.getMemberId());
-                    return;
-                }
+            if (loginId != null && !loginId.isBlank()
+                    && !chatSanctionCache.canChat(message.getBroadcastId(), loginId)) {
+                log.debug("livechat.blocked broadcastId={} loginId={} reason=SANCTIONED",
+                        message.getBroadcastId(),
+                        loginId);
+                return;
             }
         }
         String original = message.getContent();
@@ -66,7 +61,7 @@ public class LiveChatController {
         chatService.saveMessageAsync(message);
         chatService.cacheRecentMessage(message);
 
-        messagingTemplate.convertAndSend("/sub/chat/" + message.getBroadcastId(), message);
+        fanoutService.publish(message);
     }
 
     @GetMapping("/api/livechats/{broadcastId}/recent")
@@ -0,0 +1,192 @@
+package com.deskit.deskit.livechat.service;
+
+import com.deskit.deskit.livechat.dto.LiveChatMessageDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 라이브 채팅 fan-out.
+ * <ul>
+ *     <li>local (기본): 기존처럼 in-JVM simple broker 로 바로 전송</li>
+ *     <li>redis: 방송별 Redis 채널로 publish 하고, 각 노드는 자기 세션이 구독 중인 방송 채널만 subscribe 해서
+ *     로컬 simple broker 로 relay 한다. 일반 PUBLISH/SUBSCRIBE 라 Redis Cluster 에서도 메시지는 모든 클러스터 노드로 전파되고,
+ *     노드별로 줄어드는 것은 애플리케이션 노드가 받는 방송 수뿐이다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class LiveChatFanoutService implements MessageListener {
+
+    public static final String DESTINATION_PREFIX = "/sub/chat/";
+    private static final String CHANNEL_PREFIX = "livechat:room:";
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final LiveChatMicroBatcher microBatcher;
+    private final boolean redisMode;
+
+    // broadcastId -> 이 노드에서 해당 방송을 구독 중인 subscription key(sessionId:subscriptionId)
+    private final Map<Long, Set<String>> localSubscriptions = new ConcurrentHashMap<>();
+    // UNSUBSCRIBE/DISCONNECT 프레임에는 destination 이 없으므로 역인덱스를 유지한다.
+    private final Map<String, Long> subscriptionBroadcasts = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    public LiveChatFanoutService(SimpMessageSendingOperations messagingTemplate,
+                                 RedisTemplate<String, String> redisTemplate,
+                                 @Qualifier("redisMessageListenerContainer") RedisMessageListenerContainer listenerContainer,
+                                 ObjectMapper objectMapper,
+                                 LiveChatMicroBatcher microBatcher,
+                                 @Value("${livechat.fanout.mode:local}") String fanoutMode) {
+        this.messagingTemplate = messagingTemplate;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.microBatcher = microBatcher;
+        this.redisMode = "redis".equalsIgnoreCase(fanoutMode);
+        log.info("livechat.fanout mode={}", redisMode ? "redis" : "local");
+    }
+
+    public void publish(LiveChatMessageDTO message) {
+        if (message == null || message.getBroadcastId() == null) {
+            return;
+        }
+        if (!redisMode) {
+            deliverLocally(message);
+            return;
+        }
+        try {
+            String payload = objectMapper.writeValueAsString(message);
+            // 발신 노드도 자기 구독으로 다시 받으므로 여기서 로컬 전송은 하지 않는다.
+            redisTemplate.convertAndSend(channelOf(message.getBroadcastId()), payload);
+        } catch (JsonProcessingException e) {
+            log.error("livechat.fanout serialize failed broadcastId={} reason={}", message.getBroadcastId(), e.getMessage());
+        } catch (Exception e) {
+            log.warn("livechat.fanout publish failed, delivering locally broadcastId={} reason={}",
+                    message.getBroadcastId(), e.getMessage());
+            deliverLocally(message);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+            LiveChatMessageDTO dto = objectMapper.readValue(payload, LiveChatMessageDTO.class);
+            deliverLocally(dto);
+        } catch (Exception e) {
+            log.warn("livechat.fanout relay failed reason={}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        if (!redisMode) {
+            return;
+        }
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long broadcastId = parseBroadcastId(accessor.getDestination());
+        if (broadcastId == null || accessor.getSessionId() == null) {
+            return;
+        }
+        String subscriptionKey = accessor.getSessionId() + ":" + accessor.getSubscriptionId();
+        subscriptionBroadcasts.put(subscriptionKey, broadcastId);
+        sessionSubscriptions.computeIfAbsent(accessor.getSessionId(), key -> ConcurrentHashMap.newKeySet())
+                .add(subscriptionKey);
+        localSubscriptions.compute(broadcastId, (id, keys) -> {
+            Set<String> next = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            if (keys == null) {
+                listenerContainer.addMessageListener(this, new ChannelTopic(channelOf(id)));
+                log.debug("livechat.fanout subscribed channel={}", channelOf(id));
+            }
+            next.add(subscriptionKey);
+            return next;
+        });
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        if (!redisMode) {
+            return;
+        }
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String subscriptionKey = accessor.getSessionId() + ":" + accessor.getSubscriptionId();
+        Set<String> keys = sessionSubscriptions.get(accessor.getSessionId());
+        if (keys != null) {
+            keys.remove(subscriptionKey);
+        }
+        release(subscriptionKey);
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        if (!redisMode) {
+            return;
+        }
+        Set<String> keys = sessionSubscriptions.remove(event.getSessionId());
+        if (keys == null) {
+            return;
+        }
+        keys.forEach(this::release);
+    }
+
+    private void release(String subscriptionKey) {
+        Long broadcastId = subscriptionBroadcasts.remove(subscriptionKey);
+        if (broadcastId == null) {
+            return;
+        }
+        localSubscriptions.computeIfPresent(broadcastId, (id, keys) -> {
+            keys.remove(subscriptionKey);
+            if (!keys.isEmpty()) {
+                return keys;
+            }
+            listenerContainer.removeMessageListener(this, new ChannelTopic(channelOf(id)));
+            log.debug("livechat.fanout unsubscribed channel={}", channelOf(id));
+            return null;
+        });
+    }
+
+    private void deliverLocally(LiveChatMessageDTO message) {
+        if (microBatcher.isEnabled()) {
+            microBatcher.add(message);
+            return;
+        }
+        messagingTemplate.convertAndSend(DESTINATION_PREFIX + message.getBroadcastId(), message);
+    }
+
+    private String channelOf(Long broadcastId) {
+        return CHANNEL_PREFIX + "{" + broadcastId + "}";
+    }
+
+    private Long parseBroadcastId(String destination) {
+        if (destination == null || !destination.startsWith(DESTINATION_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(destination.substring(DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
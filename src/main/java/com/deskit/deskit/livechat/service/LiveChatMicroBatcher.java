@@ -0,0 +1,142 @@
+package com.deskit.deskit.livechat.service;
+
+import com.deskit.deskit.livechat.dto.LiveChatMessageDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방송별 채팅 micro-batcher (livechat.batch.enabled=true 일 때만 동작).
+ * window 동안 모인 메시지를 JSON 배열로 한 번만 직렬화해서 /sub/chat/{broadcastId} 로 프레임 하나만 보낸다.
+ * 클라이언트는 배열/단건 프레임을 모두 처리해야 한다.
+ */
+@Slf4j
+@Component
+public class LiveChatMicroBatcher {
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final DistributionSummary batchSizeSummary;
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int maxBatchSize;
+
+    private final Map<Long, Queue<LiveChatMessageDTO>> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flusher;
+
+    public LiveChatMicroBatcher(SimpMessageSendingOperations messagingTemplate,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${livechat.batch.enabled:false}") boolean enabled,
+                                @Value("${livechat.batch.window-ms:80}") long windowMillis,
+                                @Value("${livechat.batch.max-size:200}") int maxBatchSize) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.windowMillis = Math.max(10L, windowMillis);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.batchSizeSummary = DistributionSummary.builder("livechat.batch.size")
+                .description("Live chat messages coalesced into one STOMP frame")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "livechat-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushAll, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+        log.info("livechat.batch enabled windowMs={} maxSize={}", windowMillis, maxBatchSize);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void add(LiveChatMessageDTO message) {
+        // 빈 큐 정리(flushAll)와 원자적으로 동작하도록 compute 안에서 적재한다.
+        pending.compute(message.getBroadcastId(), (key, queue) -> {
+            Queue<LiveChatMessageDTO> target = queue != null ? queue : new ConcurrentLinkedQueue<>();
+            target.add(message);
+            return target;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushAll();
+    }
+
+    private void flushAll() {
+        pending.forEach((broadcastId, queue) -> {
+            try {
+                flush(broadcastId, queue);
+            } catch (Exception e) {
+                log.warn("livechat.batch flush failed broadcastId={} reason={}", broadcastId, e.getMessage());
+            }
+        });
+        // 조용해진 방은 정리
+        for (Long broadcastId : pending.keySet()) {
+            pending.computeIfPresent(broadcastId, (key, queue) -> queue.isEmpty() ? null : queue);
+        }
+    }
+
+    private void flush(Long broadcastId, Queue<LiveChatMessageDTO> queue) throws Exception {
+        while (!queue.isEmpty()) {
+            List<LiveChatMessageDTO> batch = new ArrayList<>(Math.min(queue.size(), maxBatchSize));
+            LiveChatMessageDTO next;
+            while (batch.size() < maxBatchSize && (next = queue.poll()) != null) {
+                batch.add(next);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            byte[] payload = objectMapper.writeValueAsBytes(batch);
+            messagingTemplate.send(LiveChatFanoutService.DESTINATION_PREFIX + broadcastId, jsonMessage(payload));
+            batchSizeSummary.record(batch.size());
+        }
+    }
+
+    // 이미 직렬화된 payload 를 converter 없이 그대로 보낸다.
+    private Message<byte[]> jsonMessage(byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
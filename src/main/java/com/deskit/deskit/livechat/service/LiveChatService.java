@@ -3,9 +3,7 @@ package com.deskit.deskit.livechat.service;
 import com.deskit.deskit.livechat.dto.LiveChatCacheEntry;
 import com.deskit.deskit.livechat.dto.LiveChatMessageDTO;
 import com.deskit.deskit.livechat.dto.LiveMessageType;
-import com.deskit.deskit.livechat.entity.LiveChat;
 import com.deskit.deskit.livechat.repository.ForbiddenWordRepository;
-import com.deskit.deskit.livechat.repository.LiveChatRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +12,6 @@ import org.ahocorasick.trie.Emit;
 import org.ahocorasick.trie.Trie;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -27,8 +24,8 @@ public class LiveChatService {
     private static final long DEFAULT_RECENT_WINDOW_SECONDS = 60L;
     private static final String RECENT_CHAT_KEY_PREFIX = "livechat:recent:";
 
-    private final LiveChatRepository liveChatRepository;
     private final ForbiddenWordRepository forbiddenWordRepository;
+    private final LiveChatWriteBehindPersister writeBehindPersister;
     private final ObjectMapper objectMapper;
     @Qualifier("chatRedisTemplate")
     private final RedisTemplate<String, Object> chatRedisTemplate;
@@ -84,24 +81,11 @@ public class LiveChatService {
         return result.toString();
     }
 
-    @Async("chatSaveExecutor")
+    /**
+     * write-behind 버퍼에 적재만 하고 즉시 반환한다. 실제 INSERT 는 {@link LiveChatWriteBehindPersister} 가 배치로 처리.
+     */
     public void saveMessageAsync(LiveChatMessageDTO dto) {
-        String rawContent = dto.getRawContent() != null ? dto.getRawContent() : dto.getContent();
-        LiveChat entity = LiveChat.builder()
-                .broadcastId(dto.getBroadcastId())
-                .memberEmail(dto.getMemberEmail())
-                .msgType(dto.getType())
-                .content(dto.getContent())
-                .rawContent(rawContent)
-                .sendNick(dto.getSender())
-                .isWorld(dto.isWorld())
-                .vodPlayTime(dto.getVodPlayTime())
-                .build();
-
-        liveChatRepository.save(entity);
-        log.debug("livechat.db.saved broadcastId={} messageId={}",
-                dto.getBroadcastId(),
-                entity.getMessageId());
+        writeBehindPersister.enqueue(dto);
     }
 
     public void cacheRecentMessage(LiveChatMessageDTO dto) {
@@ -0,0 +1,231 @@
+package com.deskit.deskit.livechat.service;
+
+import com.deskit.deskit.livechat.dto.LiveChatMessageDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertValuesStep9;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+
+/**
+ * 라이브 채팅 write-behind 저장기.
+ * 메시지를 고정 크기 버퍼에 적재하고 단일 드레인 스레드가 (batchSize, flushInterval) 기준으로
+ * 묶어서 multi-row INSERT 한다. live_chat 은 IDENTITY PK 라 JPA 배치가 불가능하므로 jOOQ 로 직접 넣는다.
+ * 버퍼가 가득 차면 offerTimeout 동안만 기다린 뒤 버리고 livechat.persist.dropped 로 집계한다.
+ */
+@Slf4j
+@Component
+public class LiveChatWriteBehindPersister {
+
+    private static final Table<Record> LIVE_CHAT = table(name("live_chat"));
+    private static final Field<Long> BROADCAST_ID = field(name("broadcast_id"), Long.class);
+    private static final Field<String> MEMBER_EMAIL = field(name("member_email"), String.class);
+    private static final Field<String> MSG_TYPE = field(name("msg_type"), String.class);
+    private static final Field<String> CONTENT = field(name("content"), String.class);
+    private static final Field<String> RAW_CONTENT = field(name("raw_content"), String.class);
+    private static final Field<String> SEND_NICK = field(name("send_nick"), String.class);
+    private static final Field<Boolean> IS_WORLD = field(name("is_world"), Boolean.class);
+    private static final Field<LocalDateTime> SEND_LCHAT = field(name("send_lchat"), LocalDateTime.class);
+    private static final Field<Integer> VOD_PLAY_TIME = field(name("vod_play_time"), Integer.class);
+
+    private final DSLContext dsl;
+    private final BlockingQueue<PendingChat> buffer;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+    private final Counter droppedCounter;
+    private final Counter persistedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread drainThread;
+
+    public LiveChatWriteBehindPersister(DSLContext dsl,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${livechat.persist.buffer-capacity:20000}") int bufferCapacity,
+                                        @Value("${livechat.persist.batch-size:500}") int batchSize,
+                                        @Value("${livechat.persist.flush-interval-ms:200}") long flushIntervalMillis,
+                                        @Value("${livechat.persist.offer-timeout-ms:5}") long offerTimeoutMillis) {
+        this.dsl = dsl;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMillis = Math.max(1L, flushIntervalMillis);
+        this.offerTimeoutMillis = Math.max(0L, offerTimeoutMillis);
+        this.droppedCounter = Counter.builder("livechat.persist.dropped")
+                .description("Live chat messages dropped because the write-behind buffer was full")
+                .register(meterRegistry);
+        this.persistedCounter = Counter.builder("livechat.persist.saved")
+                .description("Live chat messages written to live_chat")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("livechat.persist.failed")
+                .description("Live chat messages that could not be written")
+                .register(meterRegistry);
+        Gauge.builder("livechat.persist.buffer.size", buffer, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        drainThread = new Thread(this::drainLoop, "livechat-persister");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    /**
+     * 버퍼에 적재한다. 가득 찬 경우 offerTimeout 만큼만 대기하고 실패하면 false.
+     * send_lchat 은 클라이언트가 보낸 sentAt 이 아니라 적재 시점의 서버 시각으로 저장한다. (VOD 채팅 재생 순서 기준)
+     */
+    public boolean enqueue(LiveChatMessageDTO dto) {
+        if (dto == null || dto.getBroadcastId() == null) {
+            return false;
+        }
+        boolean accepted;
+        try {
+            accepted = buffer.offer(new PendingChat(dto, System.currentTimeMillis()), offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            droppedCounter.increment();
+            log.warn("livechat.persist.dropped broadcastId={} bufferSize={}", dto.getBroadcastId(), buffer.size());
+        }
+        return accepted;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (drainThread == null) {
+            return;
+        }
+        try {
+            drainThread.join(10_000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!buffer.isEmpty()) {
+            // 드레인 스레드가 시간 내 끝나지 않았으면 남은 메시지를 직접 flush
+            List<PendingChat> remaining = new ArrayList<>(buffer.size());
+            buffer.drainTo(remaining);
+            persist(remaining);
+        }
+        log.info("livechat.persist.shutdown flushed remaining={}", buffer.size());
+    }
+
+    private void drainLoop() {
+        List<PendingChat> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                PendingChat first = buffer.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.currentTimeMillis() + flushIntervalMillis;
+                while (batch.size() < batchSize) {
+                    buffer.drainTo(batch, batchSize - batch.size());
+                    long waitMillis = deadline - System.currentTimeMillis();
+                    if (batch.size() >= batchSize || waitMillis <= 0 || !running) {
+                        break;
+                    }
+                    PendingChat next = buffer.poll(waitMillis, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                persist(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (Exception e) {
+                log.error("livechat.persist.loop error: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void persist(List<PendingChat> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            InsertValuesStep9<Record, Long, String, String, String, String, String, Boolean, LocalDateTime, Integer> insert =
+                    insertStep();
+            for (PendingChat chat : batch) {
+                insert = bindValues(insert, chat);
+            }
+            insert.execute();
+            persistedCounter.increment(batch.size());
+            log.debug("livechat.db.saved batchSize={}", batch.size());
+        } catch (Exception e) {
+            log.warn("livechat.persist.batch failed, falling back to single inserts: size={}, reason={}",
+                    batch.size(), e.getMessage());
+            persistOneByOne(batch);
+        }
+    }
+
+    // 배치 중 한 건이 제약조건에 걸려도 나머지는 살린다.
+    private void persistOneByOne(List<PendingChat> batch) {
+        for (PendingChat chat : batch) {
+            try {
+                bindValues(insertStep(), chat).execute();
+                persistedCounter.increment();
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.error("livechat.persist.failed broadcastId={} reason={}", chat.message().getBroadcastId(), e.getMessage());
+            }
+        }
+    }
+
+    private InsertValuesStep9<Record, Long, String, String, String, String, String, Boolean, LocalDateTime, Integer> insertStep() {
+        return dsl.insertInto(LIVE_CHAT,
+                BROADCAST_ID, MEMBER_EMAIL, MSG_TYPE, CONTENT, RAW_CONTENT,
+                SEND_NICK, IS_WORLD, SEND_LCHAT, VOD_PLAY_TIME);
+    }
+
+    private InsertValuesStep9<Record, Long, String, String, String, String, String, Boolean, LocalDateTime, Integer> bindValues(
+            InsertValuesStep9<Record, Long, String, String, String, String, String, Boolean, LocalDateTime, Integer> step,
+            PendingChat chat) {
+        LiveChatMessageDTO dto = chat.message();
+        String rawContent = dto.getRawContent() != null ? dto.getRawContent() : dto.getContent();
+        return step.values(
+                dto.getBroadcastId(),
+                dto.getMemberEmail(),
+                dto.getType() != null ? dto.getType().name() : null,
+                dto.getContent(),
+                rawContent,
+                dto.getSender(),
+                dto.isWorld(),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(chat.receivedAt()), ZoneId.systemDefault()),
+                dto.getVodPlayTime()
+        );
+    }
+
+    private record PendingChat(LiveChatMessageDTO message, long receivedAt) {
+    }
+}
@@ -1,10 +1,9 @@
 package com.deskit.deskit.livehost.common.utils;
 
-import com.deskit.deskit.account.entity.Member;
 import com.deskit.deskit.account.entity.Seller;
 import com.deskit.deskit.account.oauth.CustomOAuth2User;
-import com.deskit.deskit.account.repository.MemberRepository;
 import com.deskit.deskit.account.repository.SellerRepository;
+import com.deskit.deskit.account.service.MemberIdentityCache;
 import com.deskit.deskit.livehost.common.exception.BusinessException;
 import com.deskit.deskit.livehost.common.exception.ErrorCode; // Deskit의 에러코드로 매핑 필요
 import lombok.RequiredArgsConstructor;
@@ -18,19 +17,18 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class LiveAuthUtils {
 
-    private final MemberRepository memberRepository;
+    private final MemberIdentityCache memberIdentityCache;
     private final SellerRepository sellerRepository;
 
-    // 현재 로그인한 일반 회원(Member) 반환
-    @Transactional(readOnly = true)
-    public Member getCurrentMember() {
+    // 현재 로그인한 일반 회원(Member) ID 반환 (MemberIdentityCache 경유, 요청마다 member 조회하지 않음)
+    public Long getCurrentMemberId() {
         String loginId = getCurrentUserLoginId();
-        Member member = memberRepository.findByLoginId(loginId);
+        MemberIdentityCache.Identity member = memberIdentityCache.findByLoginId(loginId);
 
         if (member == null) {
             throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
         }
-        return member;
+        return member.memberId();
     }
 
     // 현재 로그인한 판매자(Seller) 반환
@@ -1,6 +1,5 @@
 package com.deskit.deskit.livehost.controller.member;
 
-import com.deskit.deskit.account.entity.Member;
 import com.deskit.deskit.livehost.common.exception.ApiResult;
 import com.deskit.deskit.livehost.common.utils.LiveAuthUtils;
 import com.deskit.deskit.livehost.dto.response.BroadcastLikeResponse;
@@ -26,8 +25,8 @@ public class BroadcastMemberController {
     public ResponseEntity<ApiResult<BroadcastReportResponse>> reportBroadcast(
             @PathVariable Long broadcastId
     ) {
-        Member member = liveAuthUtils.getCurrentMember();
-        BroadcastReportResponse response = broadcastService.reportBroadcast(broadcastId, member.getMemberId());
+        Long memberId = liveAuthUtils.getCurrentMemberId();
+        BroadcastReportResponse response = broadcastService.reportBroadcast(broadcastId, memberId);
         return ResponseEntity.ok(ApiResult.success(response));
     }
 
@@ -35,8 +34,8 @@ public class BroadcastMemberController {
     public ResponseEntity<ApiResult<BroadcastLikeResponse>> likeBroadcast(
             @PathVariable Long broadcastId
     ) {
-        Member member = liveAuthUtils.getCurrentMember();
-        BroadcastLikeResponse response = broadcastService.likeBroadcast(broadcastId, member.getMemberId());
+        Long memberId = liveAuthUtils.getCurrentMemberId();
+        BroadcastLikeResponse response = broadcastService.likeBroadcast(broadcastId, memberId);
         return ResponseEntity.ok(ApiResult.success(response));
     }
 
@@ -44,8 +43,8 @@ public class BroadcastMemberController {
     public ResponseEntity<ApiResult<BroadcastLikeResponse>> getLikeStatus(
             @PathVariable Long broadcastId
     ) {
-        Member member = liveAuthUtils.getCurrentMember();
-        BroadcastLikeResponse response = broadcastService.getBroadcastLikeStatus(broadcastId, member.getMemberId());
+        Long memberId = liveAuthUtils.getCurrentMemberId();
+        BroadcastLikeResponse response = broadcastService.getBroadcastLikeStatus(broadcastId, memberId);
         return ResponseEntity.ok(ApiResult.success(response));
     }
 }
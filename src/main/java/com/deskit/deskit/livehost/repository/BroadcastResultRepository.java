@@ -2,6 +2,15 @@ package com.deskit.deskit.livehost.repository;
 
 import com.deskit.deskit.livehost.entity.BroadcastResult;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
 
 public interface BroadcastResultRepository extends JpaRepository<BroadcastResult, Long>, BroadcastResultRepositoryCustom {
+
+    @Modifying
+    @Query("UPDATE BroadcastResult r SET r.totalSales = r.totalSales + :delta WHERE r.broadcastId = :broadcastId")
+    int addTotalSales(@Param("broadcastId") Long broadcastId, @Param("delta") BigDecimal delta);
 }
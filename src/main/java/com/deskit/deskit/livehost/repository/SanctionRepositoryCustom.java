@@ -16,6 +16,11 @@ public interface SanctionRepositoryCustom {
 
     SanctionTypeResult findLatestSanction(Long broadcastId, Long memberId);
 
+    List<MemberSanctionResult> findLatestSanctionsByBroadcast(Long broadcastId);
+
     record SanctionTypeResult(Long sanctionId, String status) {
     }
+
+    record MemberSanctionResult(Long memberId, String loginId, String status) {
+    }
 }
@@ -141,6 +141,29 @@ public class SanctionRepositoryImpl implements SanctionRepositoryCustom {
         );
     }
 
+    @Override
+    public List<MemberSanctionResult> findLatestSanctionsByBroadcast(Long broadcastIdValue) {
+        Field<String> memberLoginId = field(name("m", "login_id"), String.class);
+        Field<Long> memberId = field(name("m", "member_id"), Long.class);
+
+        Map<Long, MemberSanctionResult> latest = new java.util.LinkedHashMap<>();
+        dsl.select(sanctionMemberId, memberLoginId, sanctionStatus)
+                .from(sanctionTable)
+                .join(memberTable).on(memberId.eq(sanctionMemberId))
+                .where(field(name("sc", "broadcast_id"), Long.class).eq(broadcastIdValue))
+                .orderBy(sanctionCreatedAt.asc(), sanctionId.asc())
+                .fetch()
+                .forEach(record -> latest.put(
+                        record.get(sanctionMemberId),
+                        new MemberSanctionResult(
+                                record.get(sanctionMemberId),
+                                record.get(memberLoginId),
+                                record.get(sanctionStatus)
+                        )
+                ));
+        return List.copyOf(latest.values());
+    }
+
     private Field<String> getDateExpression(String periodType, Field<LocalDateTime> datePath) {
         String format = "DAILY".equalsIgnoreCase(periodType) ? "%Y-%m-%d" :
                 "MONTHLY".equalsIgnoreCase(periodType) ? "%Y-%m" : "%Y";
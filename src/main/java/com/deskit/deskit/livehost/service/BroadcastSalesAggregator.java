@@ -0,0 +1,212 @@
+package com.deskit.deskit.livehost.service;
+
+import com.deskit.deskit.livehost.entity.BroadcastResult;
+import com.deskit.deskit.livehost.repository.BroadcastResultRepository;
+import com.deskit.deskit.order.entity.Order;
+import com.deskit.deskit.order.event.OrderSalesChangedEvent;
+import com.deskit.deskit.order.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * 종료된 방송의 누적 매출(broadcast_result.total_sales) 증분 반영.
+ * - 결제/환불 요청 커밋 시 주문 이벤트를 Redis 큐(broadcast:sales:pending)에 쌓기만 한다. (요청 스레드에서 집계하지 않음)
+ * - 스케줄러가 모아서 방송별 증감액으로 합친 뒤 방송당 UPDATE 한 번으로 반영한다.
+ * - 이벤트 커밋 이후에 만들어진 결과 row 는 종료 시 집계에 이미 반영돼 있으므로 건너뛴다.
+ * - 큐 적재에 실패한 이벤트는 노드 메모리에 보관했다가 다음 flush 주기에 다시 적재한다. (커밋 시각은 그대로)
+ * - 큐 제거(LTRIM)는 커밋 후에 하고, 락은 그 다음에 푼다.
+ */
+@Slf4j
+@Service
+public class BroadcastSalesAggregator {
+
+    private static final String PENDING_KEY = "broadcast:sales:pending";
+    private static final String FLUSH_LOCK_KEY = "lock:broadcast:sales:flush";
+    private static final int MAX_RETRY_ENTRIES = 10000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisService redisService;
+    private final BroadcastSalesCounter broadcastSalesCounter;
+    private final BroadcastResultRepository broadcastResultRepository;
+    private final OrderRepository orderRepository;
+    private final int batchSize;
+    private final Queue<String> retryEntries = new ConcurrentLinkedQueue<>();
+
+    public BroadcastSalesAggregator(RedisTemplate<String, String> redisTemplate,
+                                    RedisService redisService,
+                                    BroadcastSalesCounter broadcastSalesCounter,
+                                    BroadcastResultRepository broadcastResultRepository,
+                                    OrderRepository orderRepository,
+                                    @Value("${broadcast.sales.flush-batch-size:500}") int batchSize) {
+        this.redisTemplate = redisTemplate;
+        this.redisService = redisService;
+        this.broadcastSalesCounter = broadcastSalesCounter;
+        this.broadcastResultRepository = broadcastResultRepository;
+        this.orderRepository = orderRepository;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderSalesChanged(OrderSalesChangedEvent event) {
+        if (event == null || event.orderId() == null || event.sign() == 0) {
+            return;
+        }
+        String entry = event.orderId() + ":" + event.sign() + ":" + System.currentTimeMillis();
+        try {
+            redisTemplate.opsForList().rightPush(PENDING_KEY, entry);
+        } catch (Exception e) {
+            log.warn("broadcast.sales.enqueue failed, will retry: orderId={}, reason={}", event.orderId(), e.getMessage());
+            keepForRetry(entry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${broadcast.sales.flush-delay-ms:2000}")
+    @Transactional
+    public void flushPendingSales() {
+        retryFailedEnqueues();
+        if (!Boolean.TRUE.equals(redisService.acquireLock(FLUSH_LOCK_KEY, 0, 30000))) {
+            return;
+        }
+        boolean handedOff = false;
+        try {
+            List<String> entries = redisTemplate.opsForList().range(PENDING_KEY, 0, batchSize - 1);
+            if (entries == null || entries.isEmpty()) {
+                return;
+            }
+            List<PendingChange> changes = parse(entries);
+            Map<Long, BigDecimal> deltaByBroadcast = resolveDeltas(changes);
+            deltaByBroadcast.forEach((broadcastId, delta) -> {
+                if (delta.signum() != 0) {
+                    broadcastResultRepository.addTotalSales(broadcastId, delta);
+                }
+            });
+            int applied = entries.size();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    try {
+                        if (status == STATUS_COMMITTED) {
+                            redisTemplate.opsForList().trim(PENDING_KEY, applied, -1);
+                        }
+                    } finally {
+                        redisService.releaseLock(FLUSH_LOCK_KEY);
+                    }
+                }
+            });
+            handedOff = true;
+            log.debug("broadcast.sales.flush entries={} broadcasts={}", applied, deltaByBroadcast.size());
+        } finally {
+            if (!handedOff) {
+                redisService.releaseLock(FLUSH_LOCK_KEY);
+            }
+        }
+    }
+
+    private void keepForRetry(String entry) {
+        if (retryEntries.size() >= MAX_RETRY_ENTRIES) {
+            log.error("broadcast.sales.enqueue dropped (retry buffer full): entry={}", entry);
+            return;
+        }
+        retryEntries.add(entry);
+    }
+
+    // 적재에 실패했던 이벤트를 순서대로 다시 적재한다. 다시 실패하면 남겨 두고 다음 주기에 이어서 한다.
+    private void retryFailedEnqueues() {
+        String entry;
+        while ((entry = retryEntries.peek()) != null) {
+            try {
+                redisTemplate.opsForList().rightPush(PENDING_KEY, entry);
+            } catch (Exception e) {
+                log.warn("broadcast.sales.enqueue retry failed: pending={}, reason={}", retryEntries.size(), e.getMessage());
+                return;
+            }
+            retryEntries.poll();
+        }
+    }
+
+    private Map<Long, BigDecimal> resolveDeltas(List<PendingChange> changes) {
+        Set<Long> orderIds = changes.stream().map(PendingChange::orderId).collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, LocalDateTime> paidAtByOrder = new HashMap<>();
+        for (Order order : orderRepository.findAllById(orderIds)) {
+            if (order.getPaidAt() != null) {
+                paidAtByOrder.put(order.getId(), order.getPaidAt());
+            }
+        }
+
+        List<BroadcastChange> broadcastChanges = new ArrayList<>();
+        Map<Long, Map<Long, BigDecimal>> amountsByOrder = new HashMap<>();
+        for (PendingChange change : changes) {
+            LocalDateTime paidAt = paidAtByOrder.get(change.orderId());
+            if (paidAt == null) {
+                continue;
+            }
+            Map<Long, BigDecimal> amounts = amountsByOrder.computeIfAbsent(
+                    change.orderId(), orderId -> broadcastSalesCounter.resolveSalesAmounts(orderId, paidAt));
+            amounts.forEach((broadcastId, amount) -> broadcastChanges.add(new BroadcastChange(
+                    broadcastId, amount.multiply(BigDecimal.valueOf(change.sign())), change.committedAt())));
+        }
+        if (broadcastChanges.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<Long> broadcastIds = broadcastChanges.stream().map(BroadcastChange::broadcastId).collect(Collectors.toSet());
+        Map<Long, LocalDateTime> resultCreatedAt = broadcastResultRepository.findAllById(broadcastIds).stream()
+                .filter(result -> result.getCreatedAt() != null)
+                .collect(Collectors.toMap(BroadcastResult::getBroadcastId, BroadcastResult::getCreatedAt, (left, right) -> left));
+
+        Map<Long, BigDecimal> deltaByBroadcast = new HashMap<>();
+        for (BroadcastChange change : broadcastChanges) {
+            LocalDateTime createdAt = resultCreatedAt.get(change.broadcastId());
+            // 결과 row 가 없으면(방송 중) 종료 시 집계에 포함되고, 이벤트 이후 생성된 row 는 이미 반영돼 있다.
+            if (createdAt == null || !createdAt.isBefore(change.committedAt())) {
+                continue;
+            }
+            deltaByBroadcast.merge(change.broadcastId(), change.amount(), BigDecimal::add);
+        }
+        return deltaByBroadcast;
+    }
+
+    private List<PendingChange> parse(List<String> entries) {
+        List<PendingChange> changes = new ArrayList<>(entries.size());
+        for (String entry : entries) {
+            String[] parts = entry.split(":");
+            try {
+                changes.add(new PendingChange(
+                        Long.parseLong(parts[0]),
+                        Integer.parseInt(parts[1]),
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(parts[2])), ZoneId.systemDefault())
+                ));
+            } catch (RuntimeException e) {
+                log.warn("broadcast.sales invalid entry: {}", entry);
+            }
+        }
+        return changes;
+    }
+
+    private record PendingChange(Long orderId, int sign, LocalDateTime committedAt) {
+    }
+
+    private record BroadcastChange(Long broadcastId, BigDecimal amount, LocalDateTime committedAt) {
+    }
+}
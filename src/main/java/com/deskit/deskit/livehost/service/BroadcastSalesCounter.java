@@ -0,0 +1,293 @@
+package com.deskit.deskit.livehost.service;
+
+import com.deskit.deskit.livehost.entity.BroadcastProduct;
+import com.deskit.deskit.livehost.repository.BroadcastProductRepository;
+import com.deskit.deskit.order.entity.OrderItem;
+import com.deskit.deskit.order.repository.OrderItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 방송별 상품 판매 수량 카운터 (Redis hash: productId -> 판매 수량).
+ * 주문 결제/환불 시점에 증감하고, 방송 상품 잔여 수량은 이 카운터로 계산한다.
+ * 집계 쿼리(fetchBroadcastSalesSummary)는 카운터가 없을 때의 초기 적재와 주기적 보정에만 사용한다.
+ * 증감마다 _version 을 올리고, 보정은 집계 전에 읽은 _version 이 그대로일 때만 덮어쓴다. (집계 중 반영된 증감 유실 방지)
+ */
+@Slf4j
+@Service
+public class BroadcastSalesCounter {
+
+    private static final String SEEDED_FIELD = "_seeded";
+    private static final String VERSION_FIELD = "_version";
+    private static final Duration COUNTER_TTL = Duration.ofDays(2);
+
+    // 초기 적재 전에는 증감하지 않는다 (적재 시 집계 결과에 이미 포함됨)
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            for i = 1, #ARGV, 2 do
+                redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('HINCRBY', KEYS[1], '_version', 1)
+            return 1
+            """, Long.class);
+
+    // ARGV[1]: ttlSeconds, 이후 productId, quantity 쌍
+    // 다른 노드가 먼저 적재했으면(이후 증감이 쌓였을 수 있음) 덮어쓰지 않고 0
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], '_seeded', '1')
+            for i = 2, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // ARGV[1]: 집계 전에 읽은 _version ('' = 카운터 없음), ARGV[2]: ttlSeconds, 이후 productId, quantity 쌍
+    // 그 사이 증감이 있었으면 덮어쓰지 않고 0 (다음 보정 주기에 다시 맞춘다)
+    private static final RedisScript<Long> RESEED_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], '_version')
+            if not current then
+                current = redis.call('EXISTS', KEYS[1]) == 1 and '0' or ''
+            end
+            if current ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], '_seeded', '1')
+            if ARGV[1] ~= '' then
+                redis.call('HSET', KEYS[1], '_version', ARGV[1])
+            end
+            for i = 3, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisService redisService;
+    private final OrderItemRepository orderItemRepository;
+    private final BroadcastProductRepository broadcastProductRepository;
+
+    public BroadcastSalesCounter(RedisTemplate<String, String> redisTemplate,
+                                 RedisService redisService,
+                                 OrderItemRepository orderItemRepository,
+                                 BroadcastProductRepository broadcastProductRepository) {
+        this.redisTemplate = redisTemplate;
+        this.redisService = redisService;
+        this.orderItemRepository = orderItemRepository;
+        this.broadcastProductRepository = broadcastProductRepository;
+    }
+
+    /**
+     * 판매 수량 카운터. 아직 적재되지 않았거나 Redis 오류면 null 을 돌려준다.
+     */
+    public Map<Long, Integer> getSoldQuantities(Long broadcastId) {
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(redisService.getSoldQuantityKey(broadcastId));
+            if (entries == null || !entries.containsKey(SEEDED_FIELD)) {
+                return null;
+            }
+            Map<Long, Integer> sold = new HashMap<>();
+            entries.forEach((key, value) -> {
+                if (SEEDED_FIELD.equals(key) || VERSION_FIELD.equals(key)) {
+                    return;
+                }
+                try {
+                    sold.put(Long.parseLong(key.toString()), Integer.parseInt(value.toString()));
+                } catch (NumberFormatException ignored) {
+                }
+            });
+            return sold;
+        } catch (Exception e) {
+            log.warn("broadcast.sold.read failed: broadcastId={}, reason={}", broadcastId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 카운터가 없을 때만 집계 결과로 적재한다. (동시에 캐시 미스가 난 노드끼리 서로의 증감을 지우지 않도록)
+     */
+    public void seed(Long broadcastId, Map<Long, Integer> soldQuantities) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(COUNTER_TTL.toSeconds()));
+        soldQuantities.forEach((productId, quantity) -> {
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(quantity));
+        });
+        try {
+            redisTemplate.execute(SEED_SCRIPT, List.of(redisService.getSoldQuantityKey(broadcastId)), args.toArray());
+        } catch (Exception e) {
+            log.warn("broadcast.sold.seed failed: broadcastId={}, reason={}", broadcastId, e.getMessage());
+        }
+    }
+
+    /**
+     * 집계 쿼리로 카운터를 다시 맞춘다. 집계하는 동안 결제/환불 증감이 반영됐으면 덮어쓰지 않는다.
+     *
+     * @return 덮어썼으면 true
+     */
+    public boolean reconcile(Long broadcastId, Supplier<Map<Long, Integer>> aggregator) {
+        String key = redisService.getSoldQuantityKey(broadcastId);
+        try {
+            String expectedVersion = currentVersion(key);
+            Map<Long, Integer> soldQuantities = aggregator.get();
+            List<String> args = new ArrayList<>();
+            args.add(expectedVersion);
+            args.add(String.valueOf(COUNTER_TTL.toSeconds()));
+            soldQuantities.forEach((productId, quantity) -> {
+                args.add(String.valueOf(productId));
+                args.add(String.valueOf(quantity));
+            });
+            Long replaced = redisTemplate.execute(RESEED_SCRIPT, List.of(key), args.toArray());
+            if (!Long.valueOf(1L).equals(replaced)) {
+                log.debug("broadcast.sold.reconcile skipped (counter changed): broadcastId={}", broadcastId);
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("broadcast.sold.reconcile failed: broadcastId={}, reason={}", broadcastId, e.getMessage());
+            return false;
+        }
+    }
+
+    private String currentVersion(String key) {
+        Object version = redisTemplate.opsForHash().get(key, VERSION_FIELD);
+        if (version != null) {
+            return version.toString();
+        }
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key)) ? "0" : "";
+    }
+
+    public void recordPaid(Long orderId, LocalDateTime paidAt) {
+        apply(orderId, paidAt, 1);
+    }
+
+    /**
+     * 주문이 PAID 상태에서 벗어날 때(환불 요청/환불) 호출한다. 집계 쿼리도 PAID/COMPLETED 만 판매로 본다.
+     */
+    public void recordRefunded(Long orderId, LocalDateTime paidAt) {
+        apply(orderId, paidAt, -1);
+    }
+
+    // 현재 트랜잭션에서 증감량을 계산하고 Redis 반영은 커밋 이후에 한다.
+    private void apply(Long orderId, LocalDateTime paidAt, int sign) {
+        if (orderId == null || paidAt == null) {
+            return;
+        }
+        Map<Long, Map<Long, Integer>> deltas = resolveDeltas(orderId, paidAt, sign);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deltas.forEach(BroadcastSalesCounter.this::increment);
+                }
+            });
+            return;
+        }
+        deltas.forEach(this::increment);
+    }
+
+    private Map<Long, Map<Long, Integer>> resolveDeltas(Long orderId, LocalDateTime paidAt, int sign) {
+        Map<Long, Map<Long, Integer>> deltas = new HashMap<>();
+        forEachBroadcastItem(orderId, paidAt, (broadcastId, item, bp) -> {
+            int quantity = item.getQuantity() == null ? 0 : item.getQuantity();
+            deltas.computeIfAbsent(broadcastId, key -> new HashMap<>())
+                    .merge(item.getProductId(), sign * quantity, Integer::sum);
+        });
+        return deltas;
+    }
+
+    /**
+     * 주문 한 건이 방송별 매출(total_sales)에 기여하는 금액. fetchBroadcastSalesSummary 와 같은 금액 기준.
+     */
+    public Map<Long, BigDecimal> resolveSalesAmounts(Long orderId, LocalDateTime paidAt) {
+        Map<Long, BigDecimal> amounts = new HashMap<>();
+        if (orderId == null || paidAt == null) {
+            return amounts;
+        }
+        forEachBroadcastItem(orderId, paidAt, (broadcastId, item, bp) -> {
+            int quantity = item.getQuantity() == null ? 0 : item.getQuantity();
+            Integer price = bp.getBpPrice() != null ? bp.getBpPrice() : item.getUnitPrice();
+            if (price == null) {
+                return;
+            }
+            amounts.merge(broadcastId, BigDecimal.valueOf(price).multiply(BigDecimal.valueOf(quantity)), BigDecimal::add);
+        });
+        return amounts;
+    }
+
+    // fetchBroadcastSalesSummary 와 같은 기준: 결제 시각이 방송 구간 안이고 단가가 라이브 특가와 일치(또는 특가 없음)
+    private void forEachBroadcastItem(Long orderId, LocalDateTime paidAt, BroadcastItemConsumer consumer) {
+        List<OrderItem> items = orderItemRepository.findByOrder_Id(orderId).stream()
+                .filter(item -> item.getDeletedAt() == null && item.getProductId() != null)
+                .toList();
+        if (items.isEmpty()) {
+            return;
+        }
+        List<Long> productIds = items.stream().map(OrderItem::getProductId).distinct().toList();
+        List<Long> broadcastIds = broadcastProductRepository.findBroadcastIdsByProductIdsAndPaidAt(productIds, paidAt);
+        if (broadcastIds.isEmpty()) {
+            return;
+        }
+        Map<Long, List<BroadcastProduct>> productsByBroadcast = broadcastProductRepository
+                .findAllWithProductByBroadcastIdIn(broadcastIds).stream()
+                .collect(Collectors.groupingBy(bp -> bp.getBroadcast().getBroadcastId()));
+
+        productsByBroadcast.forEach((broadcastId, products) -> {
+            for (OrderItem item : items) {
+                for (BroadcastProduct bp : products) {
+                    if (!bp.getProduct().getId().equals(item.getProductId())) {
+                        continue;
+                    }
+                    if (bp.getBpPrice() != null && !bp.getBpPrice().equals(item.getUnitPrice())) {
+                        continue;
+                    }
+                    consumer.accept(broadcastId, item, bp);
+                }
+            }
+        });
+    }
+
+    private void increment(Long broadcastId, Map<Long, Integer> deltas) {
+        List<String> args = new ArrayList<>(deltas.size() * 2);
+        deltas.forEach((productId, delta) -> {
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(delta));
+        });
+        try {
+            redisTemplate.execute(APPLY_SCRIPT, List.of(redisService.getSoldQuantityKey(broadcastId)), args.toArray());
+        } catch (Exception e) {
+            // 보정 스케줄러가 집계 쿼리로 다시 맞춘다.
+            log.warn("broadcast.sold.apply failed: broadcastId={}, reason={}", broadcastId, e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface BroadcastItemConsumer {
+        void accept(Long broadcastId, OrderItem item, BroadcastProduct bp);
+    }
+}
@@ -4,6 +4,7 @@ import com.deskit.deskit.account.entity.Member;
 import com.deskit.deskit.account.entity.Seller;
 import com.deskit.deskit.account.repository.MemberRepository;
 import com.deskit.deskit.account.repository.SellerRepository;
+import com.deskit.deskit.common.http.OutboundHttpClient;
 import com.deskit.deskit.livehost.common.enums.BroadcastProductStatus;
 import com.deskit.deskit.livehost.common.enums.BroadcastStatus;
 import com.deskit.deskit.livehost.common.enums.SanctionType;
@@ -53,11 +54,15 @@ import com.deskit.deskit.product.entity.ProductImage;
 import com.deskit.deskit.product.entity.ProductImage.ImageType;
 import com.deskit.deskit.product.repository.ProductImageRepository;
 import com.deskit.deskit.product.repository.ProductRepository;
+import com.deskit.deskit.product.service.ProductCatalogCache;
 import com.deskit.deskit.tag.entity.TagCategory;
 import com.deskit.deskit.tag.repository.TagCategoryRepository;
 import io.openvidu.java.client.OpenViduHttpException;
 import io.openvidu.java.client.OpenViduJavaClientException;
 import io.openvidu.java.client.Recording;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jooq.DSLContext;
@@ -68,24 +73,18 @@ import org.springframework.data.domain.Slice;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.HttpsURLConnection;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
 import java.io.InputStream;
 import java.math.BigDecimal;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.util.Collection;
 import java.util.Collections;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.security.cert.X509Certificate;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -115,6 +114,8 @@ public class BroadcastService {
     private static final Duration RECORDING_START_RETRY_BASE_DELAY = Duration.ofSeconds(5);
     private static final long SLOT_LOCK_WAIT_MILLIS = 10000L;
     private static final long SLOT_LOCK_LEASE_MILLIS = 10000L;
+    private static final String SOLD_RECONCILE_LOCK_KEY = "lock:broadcast:sold:reconcile";
+    private static final long SOLD_RECONCILE_LOCK_LEASE_MILLIS = 55000L;
 
     private final BroadcastRepository broadcastRepository;
     private final BroadcastProductRepository broadcastProductRepository;
@@ -127,6 +128,7 @@ public class BroadcastService {
     private final SellerRepository sellerRepository;
     private final TagCategoryRepository tagCategoryRepository;
     private final ProductRepository productRepository;
+    private final ProductCatalogCache productCatalogCache;
     private final SanctionRepository sanctionRepository;
     private final ViewHistoryRepository viewHistoryRepository;
     private final LiveChatRepository liveChatRepository;
@@ -134,8 +136,11 @@ public class BroadcastService {
 
     private final RedisService redisService;
     private final SseService sseService;
+    private final ChatSanctionCache chatSanctionCache;
+    private final BroadcastSalesCounter broadcastSalesCounter;
     private final OpenViduService openViduService;
     private final BroadcastScheduleEmailService broadcastScheduleEmailService;
+    private final OutboundHttpClient outboundHttpClient;
     private final AwsS3Service s3Service;
     private final DSLContext dsl;
 
@@ -625,6 +630,7 @@ public class BroadcastService {
             validateTransition(broadcast.getStatus(), BroadcastStatus.ON_AIR);
             broadcast.startBroadcast(sessionId);
             applyLiveProductPrice(broadcast);
+            chatSanctionCache.invalidateAfterCommit(broadcastId);
             sseService.notifyBroadcastUpdate(broadcastId, "BROADCAST_STARTED", "started");
 
             try {
@@ -660,10 +666,7 @@ public class BroadcastService {
         }
 
         String uuid = (viewerId != null) ? viewerId : UUID.randomUUID().toString();
-        redisService.enterLiveRoom(broadcastId, uuid);
-        if (broadcast.getStatus() == BroadcastStatus.ON_AIR) {
-            redisService.updatePeakViewers(broadcastId);
-        }
+        redisService.enterLiveRoom(broadcastId, uuid, broadcast.getStatus() == BroadcastStatus.ON_AIR);
         recordViewEnter(broadcast, viewerId);
 
         try {
@@ -704,6 +707,7 @@ public class BroadcastService {
             validateTransition(broadcast.getStatus(), BroadcastStatus.ENDED);
             broadcast.endBroadcast();
             closeActiveViewHistories(broadcast);
+            chatSanctionCache.invalidateAfterCommit(broadcastId);
             try {
                 openViduService.stopRecording(broadcastId);
             } catch (Exception e) {
@@ -828,6 +832,7 @@ public class BroadcastService {
             broadcast.changeStatus(BroadcastStatus.VOD);
             restoreOriginalProductPrice(broadcast);
             redisService.persistVodReactionKeys(broadcastId);
+            chatSanctionCache.invalidateAfterCommit(broadcastId);
         }
         return nextStatus.name();
     }
@@ -873,13 +878,12 @@ public class BroadcastService {
                 log.warn("Invalid broadcastId on connect: {}", bId);
                 return;
             }
-            redisService.enterLiveRoom(broadcastId, vId);
-            broadcastRepository.findById(broadcastId)
-                    .filter(broadcast -> broadcast.getStatus() == BroadcastStatus.ON_AIR)
-                    .ifPresent(broadcast -> {
-                        redisService.updatePeakViewers(broadcastId);
-                        recordViewEnter(broadcast, vId);
-                    });
+            Broadcast broadcast = broadcastRepository.findById(broadcastId).orElse(null);
+            boolean onAir = broadcast != null && broadcast.getStatus() == BroadcastStatus.ON_AIR;
+            redisService.enterLiveRoom(broadcastId, vId, onAir);
+            if (onAir) {
+                recordViewEnter(broadcast, vId);
+            }
             Map<String, Object> attrs = accessor.getSessionAttributes();
             if (attrs != null) {
                 attrs.put("broadcastId", bId);
@@ -1067,35 +1071,35 @@ public class BroadcastService {
         while (attempts < 3) {
             attempts++;
             try {
-                disableSslVerification();
-
                 String videoUrl = openViduUrl.replaceAll("/$", "") +
                         "/openvidu/recordings/" + recordingId + "/" + recordingId + ".mp4";
 
-                URL url = new URL(videoUrl);
-                HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-                conn.setRequestMethod("GET");
-
                 String auth = "OPENVIDUAPP:" + openViduSecret;
                 String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes());
-                conn.setRequestProperty("Authorization", "Basic " + encodedAuth);
-
-                int responseCode = conn.getResponseCode();
-                if (responseCode == HttpURLConnection.HTTP_OK) {
-                    try (InputStream inputStream = conn.getInputStream()) {
-                        long contentLength = conn.getContentLengthLong();
-                        String s3Url = s3Service.uploadVodStream(inputStream, s3Key, contentLength);
-                        log.info("VOD Upload Success: {}", s3Url);
-                        try {
-                            openViduService.deleteRecording(recordingId);
-                        } catch (OpenViduJavaClientException | OpenViduHttpException e) {
-                            log.warn("Failed to delete OpenVidu recording after upload: recordingId={}, reason={}",
-                                    recordingId, e.getMessage());
+                Request request = new Request.Builder()
+                        .url(videoUrl)
+                        .header("Authorization", "Basic " + encodedAuth)
+                        .get()
+                        .build();
+
+                try (Response response = outboundHttpClient.execute("openvidu", "recording-download", request)) {
+                    ResponseBody body = response.body();
+                    if (response.code() == 200 && body != null) {
+                        try (InputStream inputStream = body.byteStream()) {
+                            long contentLength = body.contentLength();
+                            String s3Url = s3Service.uploadVodStream(inputStream, s3Key, contentLength);
+                            log.info("VOD Upload Success: {}", s3Url);
+                            try {
+                                openViduService.deleteRecording(recordingId);
+                            } catch (OpenViduJavaClientException | OpenViduHttpException e) {
+                                log.warn("Failed to delete OpenVidu recording after upload: recordingId={}, reason={}",
+                                        recordingId, e.getMessage());
+                            }
+                            return s3Url;
                         }
-                        return s3Url;
+                    } else {
+                        log.error("Failed to fetch recording from OpenVidu: {}", response.code());
                     }
-                } else {
-                    log.error("Failed to fetch recording from OpenVidu: {}", responseCode);
                 }
             } catch (Exception e) {
                 log.error("VOD Processing Error (attempt {}): {}", attempts, e.getMessage());
@@ -1200,20 +1204,17 @@ public class BroadcastService {
                 .collect(Collectors.toList());
     }
 
-    @Transactional(readOnly = true)
     public boolean canChat(Long broadcastId, Long memberId) {
-        Broadcast broadcast = broadcastRepository.findById(broadcastId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BROADCAST_NOT_FOUND));
-
-        if (broadcast.getStatus() == BroadcastStatus.STOPPED) {
-            return false;
+        ChatSanctionCache.Snapshot snapshot = chatSanctionCache.getSnapshot(broadcastId);
+        if (snapshot == null) {
+            throw new BusinessException(ErrorCode.BROADCAST_NOT_FOUND);
         }
 
-        if (memberId == null) {
-            return true;
+        if (snapshot.status() == BroadcastStatus.STOPPED) {
+            return false;
         }
 
-        return !isViewerSanctioned(broadcastId, memberId, SanctionType.MUTE, SanctionType.OUT);
+        return !snapshot.isBlocked(memberId);
     }
 
     public BroadcastReportResponse reportBroadcast(Long broadcastId, Long memberId) {
@@ -1722,6 +1723,7 @@ public class BroadcastService {
                     }
                     if (broadcast != null) {
                         saveBroadcastResultSnapshot(broadcast);
+                        chatSanctionCache.invalidateAfterCommit(schedule.broadcastId());
                     }
                     sseService.notifyBroadcastUpdate(schedule.broadcastId(), "BROADCAST_SCHEDULED_END", "ended");
                 }
@@ -1964,6 +1966,7 @@ public class BroadcastService {
             Product product = bp.getProduct();
             redisService.storeOriginalPrice(broadcast.getBroadcastId(), product.getId(), product.getPrice());
             product.changePrice(bpPrice);
+            productCatalogCache.invalidateAfterCommit(product.getId());
         }
     }
 
@@ -1975,6 +1978,7 @@ public class BroadcastService {
                 continue;
             }
             bp.getProduct().changePrice(originalPrice);
+            productCatalogCache.invalidateAfterCommit(bp.getProduct().getId());
         }
         redisService.clearOriginalPrices(broadcast.getBroadcastId());
     }
@@ -2047,9 +2051,20 @@ public class BroadcastService {
             return;
         }
         bp.getProduct().changePrice(originalPrice);
+        productCatalogCache.invalidateAfterCommit(bp.getProduct().getId());
         redisService.removeOriginalPrice(broadcast.getBroadcastId(), bp.getProduct().getId());
     }
 
+    /**
+     * 주문 생성 트랜잭션 커밋 이후 호출된다. (주문 트랜잭션의 상품 row lock 밖에서 별도 트랜잭션으로 처리)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void restoreCostPricesIfSoldOut(Collection<Long> productIds) {
+        for (Long productId : productIds) {
+            restoreCostPriceIfSoldOut(productId);
+        }
+    }
+
     @Transactional
     public void restoreCostPriceIfSoldOut(Long productId) {
         if (productId == null) {
@@ -2237,15 +2252,28 @@ public class BroadcastService {
     }
 
     private void injectLiveStats(List<BroadcastListResponse> list) {
+        Map<Long, LiveStats> statsMap = fetchRealtimeStats(list);
         list.forEach(item -> {
             if (shouldUseRealtimeStats(item.getStatus())) {
-                item.setLiveViewerCount(redisService.getRealtimeViewerCount(item.getBroadcastId()));
-                item.setTotalLikes(redisService.getLikeCount(item.getBroadcastId()));
-                item.setReportCount(redisService.getReportCount(item.getBroadcastId()));
+                applyRealtimeStats(item, statsMap.getOrDefault(item.getBroadcastId(), LiveStats.EMPTY));
             }
         });
     }
 
+    private Map<Long, LiveStats> fetchRealtimeStats(List<BroadcastListResponse> list) {
+        List<Long> ids = list.stream()
+                .filter(item -> shouldUseRealtimeStats(item.getStatus()))
+                .map(BroadcastListResponse::getBroadcastId)
+                .toList();
+        return redisService.getLiveStats(ids);
+    }
+
+    private void applyRealtimeStats(BroadcastListResponse item, LiveStats stats) {
+        item.setLiveViewerCount(stats.viewerCount());
+        item.setTotalLikes(stats.likeCount());
+        item.setReportCount(stats.reportCount());
+    }
+
     private void injectLiveDetails(List<BroadcastListResponse> list) {
         List<Long> liveIds = list.stream()
                 .filter(item -> isLiveGroup(item.getStatus()))
@@ -2259,13 +2287,12 @@ public class BroadcastService {
                 .collect(Collectors.groupingBy(bp -> bp.getBroadcast().getBroadcastId()));
         var broadcastMap = broadcastRepository.findAllById(liveIds).stream()
                 .collect(Collectors.toMap(Broadcast::getBroadcastId, java.util.function.Function.identity()));
+        Map<Long, LiveStats> statsMap = fetchRealtimeStats(list);
 
         list.forEach(item -> {
             if (isLiveGroup(item.getStatus())) {
                 if (shouldUseRealtimeStats(item.getStatus())) {
-                    item.setLiveViewerCount(redisService.getRealtimeViewerCount(item.getBroadcastId()));
-                    item.setTotalLikes(redisService.getLikeCount(item.getBroadcastId()));
-                    item.setReportCount(redisService.getReportCount(item.getBroadcastId()));
+                    applyRealtimeStats(item, statsMap.getOrDefault(item.getBroadcastId(), LiveStats.EMPTY));
                 }
 
                 List<BroadcastProduct> products = productMap.getOrDefault(item.getBroadcastId(), List.of());
@@ -2288,8 +2315,7 @@ public class BroadcastService {
         if (broadcast == null || products == null || products.isEmpty()) {
             return Map.of();
         }
-        SalesSummary salesSummary = fetchBroadcastSalesSummary(broadcast);
-        Map<Long, SalesMetric> metrics = salesSummary.productMetrics();
+        Map<Long, Integer> soldQuantities = getSoldQuantities(broadcast);
         Map<Long, Integer> totalQuantities = products.stream()
                 .collect(Collectors.groupingBy(
                         bp -> bp.getProduct().getId(),
@@ -2298,13 +2324,43 @@ public class BroadcastService {
         return totalQuantities.entrySet().stream()
                 .collect(Collectors.toMap(
                         Map.Entry::getKey,
-                        entry -> Math.max(0, entry.getValue()
-                                - Optional.ofNullable(metrics.get(entry.getKey()))
-                                .map(SalesMetric::salesQuantity)
-                                .orElse(0))
+                        entry -> Math.max(0, entry.getValue() - soldQuantities.getOrDefault(entry.getKey(), 0))
                 ));
     }
 
+    // Redis 판매 수량 카운터를 우선 사용하고, 없으면 집계 쿼리로 적재한다.
+    private Map<Long, Integer> getSoldQuantities(Broadcast broadcast) {
+        Map<Long, Integer> sold = broadcastSalesCounter.getSoldQuantities(broadcast.getBroadcastId());
+        if (sold != null) {
+            return sold;
+        }
+        Map<Long, Integer> aggregated = aggregateSoldQuantities(broadcast);
+        broadcastSalesCounter.seed(broadcast.getBroadcastId(), aggregated);
+        return aggregated;
+    }
+
+    private Map<Long, Integer> aggregateSoldQuantities(Broadcast broadcast) {
+        return fetchBroadcastSalesSummary(broadcast).productMetrics().entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().salesQuantity()));
+    }
+
+    // 카운터 누락(Redis 장애, 적재 직후 결제 등)을 집계 쿼리로 주기적으로 보정한다.
+    // 노드 하나만 돌도록 락을 잡고, 집계 중에 증감이 반영된 방송은 다음 주기로 미룬다.
+    @Scheduled(fixedDelay = 60000)
+    @Transactional(readOnly = true)
+    public void reconcileLiveSoldQuantities() {
+        if (!Boolean.TRUE.equals(redisService.acquireLock(SOLD_RECONCILE_LOCK_KEY, 0, SOLD_RECONCILE_LOCK_LEASE_MILLIS))) {
+            return;
+        }
+        try {
+            for (Broadcast broadcast : broadcastRepository.findByStatusAndStartedAtBefore(BroadcastStatus.ON_AIR, LocalDateTime.now())) {
+                broadcastSalesCounter.reconcile(broadcast.getBroadcastId(), () -> aggregateSoldQuantities(broadcast));
+            }
+        } finally {
+            redisService.releaseLock(SOLD_RECONCILE_LOCK_KEY);
+        }
+    }
+
     private void ensureSlotCapacityForReservation(LocalDateTime scheduledAt) {
         long slotCount = broadcastRepository.countByTimeSlot(scheduledAt, scheduledAt.plusMinutes(30));
         if (slotCount >= 3) {
@@ -2332,27 +2388,4 @@ public class BroadcastService {
             log.warn("DB slot lock release failed: key={}, message={}", lockKey, e.getMessage());
         }
     }
-
-    private void disableSslVerification() {
-        try {
-            TrustManager[] trustAllCerts = new TrustManager[]{new X509TrustManager() {
-                public X509Certificate[] getAcceptedIssuers() {
-                    return null;
-                }
-
-                public void checkClientTrusted(X509Certificate[] certs, String authType) {
-                }
-
-                public void checkServerTrusted(X509Certificate[] certs, String authType) {
-                }
-            }};
-            SSLContext sc = SSLContext.getInstance("SSL");
-            sc.init(null, trustAllCerts, new java.security.SecureRandom());
-            HttpsURLConnection.setDefaultSSLSocketFactory(sc.getSocketFactory());
-            HostnameVerifier allHostsValid = (hostname, session) -> true;
-            HttpsURLConnection.setDefaultHostnameVerifier(allHostsValid);
-        } catch (Exception e) {
-            log.warn("SSL verification disable failed: {}", e.getMessage());
-        }
-    }
 }
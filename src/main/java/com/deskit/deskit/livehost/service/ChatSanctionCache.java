@@ -0,0 +1,181 @@
+package com.deskit.deskit.livehost.service;
+
+import com.deskit.deskit.livehost.common.enums.BroadcastStatus;
+import com.deskit.deskit.livehost.common.enums.SanctionType;
+import com.deskit.deskit.livehost.entity.Broadcast;
+import com.deskit.deskit.livehost.repository.BroadcastRepository;
+import com.deskit.deskit.livehost.repository.SanctionRepository;
+import com.deskit.deskit.livehost.repository.SanctionRepositoryCustom;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 라이브 채팅 hot path 용 방송별 제재 스냅샷 캐시.
+ * 방송 상태와 MUTE/OUT 제재 대상(memberId, loginId)을 노드 로컬에 보관하고,
+ * 제재/상태 전이 시 Redis Pub/Sub 으로 모든 노드의 스냅샷을 무효화한다.
+ */
+@Slf4j
+@Service
+public class ChatSanctionCache implements MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "livechat:sanction:invalidate";
+    // Pub/Sub 메시지 유실 대비 안전장치
+    private static final Duration SNAPSHOT_TTL = Duration.ofSeconds(30);
+
+    private final BroadcastRepository broadcastRepository;
+    private final SanctionRepository sanctionRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    public ChatSanctionCache(BroadcastRepository broadcastRepository,
+                             SanctionRepository sanctionRepository,
+                             RedisTemplate<String, String> redisTemplate,
+                             @Qualifier("redisMessageListenerContainer") RedisMessageListenerContainer listenerContainer) {
+        this.broadcastRepository = broadcastRepository;
+        this.sanctionRepository = sanctionRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * loginId 기준 채팅 가능 여부. 스냅샷이 살아있는 동안은 DB 를 조회하지 않는다.
+     */
+    public boolean canChat(Long broadcastId, String loginId) {
+        Snapshot snapshot = getSnapshot(broadcastId);
+        if (snapshot == null || snapshot.status() == BroadcastStatus.STOPPED) {
+            return false;
+        }
+        return loginId == null || !snapshot.blockedLoginIds().contains(loginId);
+    }
+
+    /**
+     * 방송이 없으면 null 을 돌려주므로 호출 측에서 예외 처리한다.
+     */
+    public Snapshot getSnapshot(Long broadcastId) {
+        if (broadcastId == null) {
+            return null;
+        }
+        Snapshot cached = snapshots.get(broadcastId);
+        long now = System.currentTimeMillis();
+        if (cached != null && cached.expiresAt() > now) {
+            return cached;
+        }
+        Snapshot loaded = load(broadcastId, now);
+        if (loaded == null) {
+            snapshots.remove(broadcastId);
+            return null;
+        }
+        snapshots.put(broadcastId, loaded);
+        return loaded;
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 클러스터 전체 스냅샷을 무효화한다.
+     * 커밋 전에 무효화하면 다른 노드가 이전 상태를 다시 적재할 수 있다.
+     */
+    public void invalidateAfterCommit(Long broadcastId) {
+        if (broadcastId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(broadcastId);
+                }
+            });
+            return;
+        }
+        invalidate(broadcastId);
+    }
+
+    public void invalidate(Long broadcastId) {
+        snapshots.remove(broadcastId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(broadcastId));
+        } catch (Exception e) {
+            log.warn("livechat.sanction.invalidate publish failed: broadcastId={}, reason={}", broadcastId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8).replace("\"", "").trim();
+        try {
+            snapshots.remove(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("livechat.sanction.invalidate invalid payload: {}", body);
+        }
+    }
+
+    private Snapshot load(Long broadcastId, long now) {
+        Broadcast broadcast = broadcastRepository.findById(broadcastId).orElse(null);
+        if (broadcast == null) {
+            return null;
+        }
+        Set<Long> blockedMemberIds = new HashSet<>();
+        Set<String> blockedLoginIds = new HashSet<>();
+        for (SanctionRepositoryCustom.MemberSanctionResult result
+                : sanctionRepository.findLatestSanctionsByBroadcast(broadcastId)) {
+            SanctionType type = parseSanctionType(result.status());
+            if (type == null) {
+                continue;
+            }
+            blockedMemberIds.add(result.memberId());
+            if (result.loginId() != null) {
+                blockedLoginIds.add(result.loginId());
+            }
+        }
+        log.debug("livechat.sanction.snapshot.loaded broadcastId={} status={} blocked={}",
+                broadcastId, broadcast.getStatus(), blockedMemberIds.size());
+        return new Snapshot(
+                broadcast.getStatus(),
+                Set.copyOf(blockedMemberIds),
+                Set.copyOf(blockedLoginIds),
+                now + SNAPSHOT_TTL.toMillis()
+        );
+    }
+
+    private SanctionType parseSanctionType(String status) {
+        if (status == null) {
+            return null;
+        }
+        try {
+            return SanctionType.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public record Snapshot(BroadcastStatus status,
+                           Set<Long> blockedMemberIds,
+                           Set<String> blockedLoginIds,
+                           long expiresAt) {
+
+        public boolean isBlocked(Long memberId) {
+            return memberId != null && blockedMemberIds.contains(memberId);
+        }
+    }
+}
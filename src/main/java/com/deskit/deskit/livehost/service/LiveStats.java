@@ -0,0 +1,5 @@
+package com.deskit.deskit.livehost.service;
+
+public record LiveStats(int viewerCount, int likeCount, int reportCount) {
+    public static final LiveStats EMPTY = new LiveStats(0, 0, 0);
+}
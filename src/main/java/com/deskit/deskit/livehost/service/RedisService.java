@@ -1,15 +1,28 @@
 package com.deskit.deskit.livehost.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -18,8 +31,67 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RedisService {
 
+    private static final long ROOM_KEY_TTL_SECONDS = Duration.ofDays(1).toSeconds();
+
+    // KEYS: session_counts, active_uv, total_uv, max_viewers, max_viewers_time
+    // ARGV: sessionField, viewer, ttlSeconds, trackPeak(1/0), peakTime, uvMode(set/hll)
+    private static final RedisScript<Long> ENTER_ROOM_SCRIPT = new DefaultRedisScript<>("""
+            local count = redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            if count == 1 then
+                redis.call('SADD', KEYS[2], ARGV[2])
+            end
+            if ARGV[6] == 'hll' then
+                redis.call('PFADD', KEYS[3], ARGV[2])
+            else
+                redis.call('SADD', KEYS[3], ARGV[2])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            redis.call('EXPIRE', KEYS[3], ARGV[3])
+            local active = redis.call('SCARD', KEYS[2])
+            if ARGV[4] == '1' then
+                local max = tonumber((string.gsub(redis.call('GET', KEYS[4]) or '0', '"', ''))) or 0
+                if active > max then
+                    redis.call('SET', KEYS[4], active)
+                    redis.call('SET', KEYS[5], ARGV[5])
+                end
+            end
+            return active
+            """, Long.class);
+
+    // KEYS: session_counts, active_uv / ARGV: sessionField, viewer
+    private static final RedisScript<Long> EXIT_ROOM_SCRIPT = new DefaultRedisScript<>("""
+            local count = redis.call('HINCRBY', KEYS[1], ARGV[1], -1)
+            if count <= 0 then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+                redis.call('SREM', KEYS[2], ARGV[2])
+            end
+            return redis.call('SCARD', KEYS[2])
+            """, Long.class);
+
+    // KEYS: active_uv, max_viewers, max_viewers_time / ARGV: peakTime
+    private static final RedisScript<Long> PEAK_SCRIPT = new DefaultRedisScript<>("""
+            local active = redis.call('SCARD', KEYS[1])
+            local max = tonumber((string.gsub(redis.call('GET', KEYS[2]) or '0', '"', ''))) or 0
+            if active > max then
+                redis.call('SET', KEYS[2], active)
+                redis.call('SET', KEYS[3], ARGV[1])
+            end
+            return active
+            """, Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
     private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+
+    // script: Lua 로 한 번에 처리, legacy: 기존 명령 단위 호출 (k6 broadcast_join_leave.js 비교용)
+    @Value("${livehost.presence.mode:script}")
+    private String presenceMode;
+
+    // set: 누적 시청자를 SET 에 저장 (정확, 시청자 수에 비례해 메모리 증가)
+    // hll: HyperLogLog(PFADD/PFCOUNT) 사용 (방송당 최대 약 12KB 고정, 표준 오차 약 0.81%)
+    @Value("${livehost.uv.mode:set}")
+    private String uvMode;
 
     public String getRealtimeViewKey(Long broadcastId) {
         return "broadcast:" + broadcastId + ":active_uv";
@@ -33,6 +105,10 @@ public class RedisService {
         return "broadcast:" + broadcastId + ":total_uv";
     }
 
+    public String getTotalUvHllKey(Long broadcastId) {
+        return "broadcast:" + broadcastId + ":total_uv_hll";
+    }
+
     public String getLikeUsersKey(Long broadcastId) {
         return "broadcast:" + broadcastId + ":like_users";
     }
@@ -101,6 +177,10 @@ public class RedisService {
         return "broadcast:" + broadcastId + ":original_price";
     }
 
+    public String getSoldQuantityKey(Long broadcastId) {
+        return "broadcast:" + broadcastId + ":sold_qty";
+    }
+
     public String getRecordingRetryQueueKey() {
         return "broadcast:recording:retry";
     }
@@ -231,9 +311,66 @@ public class RedisService {
     }
 
     public void enterLiveRoom(Long broadcastId, String uuid) {
+        enterLiveRoom(broadcastId, uuid, false);
+    }
+
+    /**
+     * 입장 처리 + (trackPeak 이면) 최고 동시 시청자 갱신을 한 번의 round-trip 으로 처리하고 현재 시청자 수를 돌려준다.
+     */
+    public int enterLiveRoom(Long broadcastId, String uuid, boolean trackPeak) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            if (isLegacyPresence()) {
+                enterLiveRoomLegacy(broadcastId, uuid);
+                if (trackPeak) {
+                    updatePeakViewersLegacy(broadcastId);
+                }
+                return getRealtimeViewerCount(broadcastId);
+            }
+            Long active = executeScript(
+                    ENTER_ROOM_SCRIPT,
+                    List.of(
+                            getSessionCountKey(broadcastId),
+                            getRealtimeViewKey(broadcastId),
+                            getTotalUvTargetKey(broadcastId),
+                            getMaxViewersKey(broadcastId),
+                            getMaxViewersTimeKey(broadcastId)
+                    ),
+                    rawHashKey(uuid),
+                    rawValue(uuid),
+                    rawString(String.valueOf(ROOM_KEY_TTL_SECONDS)),
+                    rawString(trackPeak ? "1" : "0"),
+                    rawValue(LocalDateTime.now().toString()),
+                    rawString(isHllUv() ? "hll" : "set")
+            );
+            return active != null ? active.intValue() : 0;
+        } finally {
+            sample.stop(presenceTimer("enter"));
+        }
+    }
+
+    public void exitLiveRoom(Long broadcastId, String uuid) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            if (isLegacyPresence()) {
+                exitLiveRoomLegacy(broadcastId, uuid);
+                return;
+            }
+            executeScript(
+                    EXIT_ROOM_SCRIPT,
+                    List.of(getSessionCountKey(broadcastId), getRealtimeViewKey(broadcastId)),
+                    rawHashKey(uuid),
+                    rawValue(uuid)
+            );
+        } finally {
+            sample.stop(presenceTimer("exit"));
+        }
+    }
+
+    private void enterLiveRoomLegacy(Long broadcastId, String uuid) {
         String sessionKey = getSessionCountKey(broadcastId);
         String activeKey = getRealtimeViewKey(broadcastId);
-        String totalKey = getTotalUvKey(broadcastId);
+        String totalKey = getTotalUvTargetKey(broadcastId);
 
         Long count = redisTemplate.opsForHash().increment(sessionKey, uuid, 1);
 
@@ -241,14 +378,18 @@ public class RedisService {
             redisTemplate.opsForSet().add(activeKey, uuid);
         }
 
-        redisTemplate.opsForSet().add(totalKey, uuid);
+        if (isHllUv()) {
+            redisTemplate.opsForHyperLogLog().add(totalKey, uuid);
+        } else {
+            redisTemplate.opsForSet().add(totalKey, uuid);
+        }
 
         expireKey(sessionKey);
         expireKey(activeKey);
         expireKey(totalKey);
     }
 
-    public void exitLiveRoom(Long broadcastId, String uuid) {
+    private void exitLiveRoomLegacy(Long broadcastId, String uuid) {
         String sessionKey = getSessionCountKey(broadcastId);
         String activeKey = getRealtimeViewKey(broadcastId);
 
@@ -265,8 +406,13 @@ public class RedisService {
         return size != null ? size.intValue() : 0;
     }
 
+    /**
+     * 누적 순 시청자 수. livehost.uv.mode=hll 이면 PFCOUNT 추정치(표준 오차 약 0.81%)를 돌려준다.
+     */
     public int getTotalUniqueViewerCount(Long broadcastId) {
-        Long size = redisTemplate.opsForSet().size(getTotalUvKey(broadcastId));
+        Long size = isHllUv()
+                ? redisTemplate.opsForHyperLogLog().size(getTotalUvHllKey(broadcastId))
+                : redisTemplate.opsForSet().size(getTotalUvKey(broadcastId));
         return size != null ? size.intValue() : 0;
     }
 
@@ -312,6 +458,34 @@ public class RedisService {
         return size != null ? size.intValue() : 0;
     }
 
+    /**
+     * 여러 방송의 실시간 시청자/좋아요/신고 수를 한 번의 pipeline 으로 조회한다.
+     */
+    public Map<Long, LiveStats> getLiveStats(Collection<Long> broadcastIds) {
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(broadcastIds));
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long id : ids) {
+                connection.setCommands().sCard(rawString(getRealtimeViewKey(id)));
+                connection.setCommands().sCard(rawString(getLikeUsersKey(id)));
+                connection.stringCommands().get(rawString(getReportCountKey(id)));
+            }
+            return null;
+        });
+        Map<Long, LiveStats> stats = new HashMap<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            int offset = i * 3;
+            stats.put(ids.get(i), new LiveStats(
+                    toInt(results.get(offset)),
+                    toInt(results.get(offset + 1)),
+                    toInt(results.get(offset + 2))
+            ));
+        }
+        return stats;
+    }
+
     public boolean reportBroadcast(Long broadcastId, Long memberId) {
         String userKey = getReportUsersKey(broadcastId);
         String countKey = getReportCountKey(broadcastId);
@@ -457,18 +631,21 @@ public class RedisService {
         redisTemplate.delete(getRealtimeViewKey(broadcastId));
         redisTemplate.delete(getSessionCountKey(broadcastId));
         redisTemplate.delete(getTotalUvKey(broadcastId));
+        redisTemplate.delete(getTotalUvHllKey(broadcastId));
         redisTemplate.delete(getLikeUsersKey(broadcastId));
         redisTemplate.delete(getSanctionKey(broadcastId));
         redisTemplate.delete(getReportUsersKey(broadcastId));
         redisTemplate.delete(getReportCountKey(broadcastId));
         redisTemplate.delete(getMaxViewersKey(broadcastId));
         redisTemplate.delete(getMaxViewersTimeKey(broadcastId));
+        redisTemplate.delete(getSoldQuantityKey(broadcastId));
     }
 
     public void deleteBroadcastRuntimeKeys(Long broadcastId) {
         redisTemplate.delete(getRealtimeViewKey(broadcastId));
         redisTemplate.delete(getSessionCountKey(broadcastId));
         redisTemplate.delete(getTotalUvKey(broadcastId));
+        redisTemplate.delete(getTotalUvHllKey(broadcastId));
         redisTemplate.delete(getSanctionKey(broadcastId));
         redisTemplate.delete(getMaxViewersKey(broadcastId));
         redisTemplate.delete(getMaxViewersTimeKey(broadcastId));
@@ -496,6 +673,18 @@ public class RedisService {
     }
 
     public void updatePeakViewers(Long broadcastId) {
+        if (isLegacyPresence()) {
+            updatePeakViewersLegacy(broadcastId);
+            return;
+        }
+        executeScript(
+                PEAK_SCRIPT,
+                List.of(getRealtimeViewKey(broadcastId), getMaxViewersKey(broadcastId), getMaxViewersTimeKey(broadcastId)),
+                rawValue(LocalDateTime.now().toString())
+        );
+    }
+
+    private void updatePeakViewersLegacy(Long broadcastId) {
         int current = getRealtimeViewerCount(broadcastId);
         String maxKey = getMaxViewersKey(broadcastId);
 
@@ -507,8 +696,55 @@ public class RedisService {
         }
     }
 
+    private boolean isHllUv() {
+        return "hll".equalsIgnoreCase(uvMode);
+    }
+
+    private String getTotalUvTargetKey(Long broadcastId) {
+        return isHllUv() ? getTotalUvHllKey(broadcastId) : getTotalUvKey(broadcastId);
+    }
+
+    private boolean isLegacyPresence() {
+        return "legacy".equalsIgnoreCase(presenceMode);
+    }
+
+    private Timer presenceTimer(String operation) {
+        return Timer.builder("livehost.presence")
+                .tag("operation", operation)
+                .tag("mode", isLegacyPresence() ? "legacy" : "script")
+                .register(meterRegistry);
+    }
+
+    // 인자는 기존 명령과 같은 직렬화(hash field/set member 등)로 미리 변환해서 넘긴다.
+    private Long executeScript(RedisScript<Long> script, List<String> keys, byte[]... args) {
+        return redisTemplate.execute(
+                script,
+                RedisSerializer.byteArray(),
+                new GenericToStringSerializer<>(Long.class),
+                keys,
+                (Object[]) args
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] rawHashKey(Object value) {
+        return ((RedisSerializer<Object>) redisTemplate.getHashKeySerializer()).serialize(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] rawValue(Object value) {
+        return ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(value);
+    }
+
+    private byte[] rawString(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
     private int getInt(String key) {
-        Object value = redisTemplate.opsForValue().get(key);
+        return toInt(redisTemplate.opsForValue().get(key));
+    }
+
+    private int toInt(Object value) {
         if (value == null) {
             return 0;
         }
@@ -26,6 +26,7 @@ public class SanctionService {
     private final MemberRepository memberRepository;
     private final RedisService redisService;
     private final SseService sseService;
+    private final ChatSanctionCache chatSanctionCache;
     private final OpenViduService openViduService;
 
     @Transactional
@@ -55,6 +56,7 @@ public class SanctionService {
         sanctionRepository.save(sanction);
 
         redisService.increment(redisService.getSanctionKey(broadcastId));
+        chatSanctionCache.invalidateAfterCommit(broadcastId);
 
         if (request.getStatus() == SanctionType.OUT && request.getConnectionId() != null) {
             openViduService.forceDisconnect(broadcastId, request.getConnectionId());
@@ -111,6 +113,7 @@ public class SanctionService {
         sanctionRepository.save(sanction);
 
         redisService.increment(redisService.getSanctionKey(broadcastId));
+        chatSanctionCache.invalidateAfterCommit(broadcastId);
 
         if (request.getStatus() == SanctionType.OUT && request.getConnectionId() != null) {
             openViduService.forceDisconnect(broadcastId, request.getConnectionId());
@@ -1,33 +1,81 @@
 package com.deskit.deskit.livehost.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
+/**
+ * SSE 구독 관리 및 이벤트 전송.
+ * 이벤트는 emitter 별 bounded 큐에 쌓고 sseDispatchExecutor 에서 비동기로 전송하므로
+ * 느린 클라이언트가 호출 스레드(트랜잭션)를 붙잡지 않는다. 큐가 넘치는 emitter 는 끊는다.
+ * 트랜잭션 안에서 호출되면 커밋 이후에만 전송한다.
+ */
 @Slf4j
 @Service
 public class SseService {
 
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    // broadcastId -> userId -> emitterKey -> emitter
+    private final Map<Long, Map<String, Map<String, EmitterHandle>>> broadcastEmitters = new ConcurrentHashMap<>();
+    // subscribeAll(ALL 버킷): userId -> emitterKey -> emitter
+    private final Map<String, Map<String, EmitterHandle>> globalEmitters = new ConcurrentHashMap<>();
+    private final MultiGauge broadcastEmitterGauge;
+    private final Counter evictedCounter;
+    private final Executor dispatchExecutor;
+    private final int outboundQueueCapacity;
+
+    public SseService(MeterRegistry meterRegistry,
+                      @Qualifier("sseDispatchExecutor") Executor dispatchExecutor,
+                      @Value("${sse.dispatch.queue-capacity:64}") int outboundQueueCapacity) {
+        this.dispatchExecutor = dispatchExecutor;
+        this.outboundQueueCapacity = Math.max(1, outboundQueueCapacity);
+        this.evictedCounter = Counter.builder("sse.emitters.evicted")
+                .description("SSE emitters dropped because their outbound queue overflowed")
+                .register(meterRegistry);
+        this.broadcastEmitterGauge = MultiGauge.builder("sse.emitters.broadcast")
+                .description("SSE emitters connected per broadcast")
+                .register(meterRegistry);
+        Gauge.builder("sse.emitters.global", globalEmitters, this::countEmitters)
+                .description("SSE emitters subscribed to all broadcasts")
+                .register(meterRegistry);
+    }
 
     public SseEmitter subscribe(Long broadcastId, String userId) {
         String resolvedUserId = resolveUserId(userId);
         String key = buildBroadcastKey(broadcastId, resolvedUserId, UUID.randomUUID().toString());
         SseEmitter emitter = new SseEmitter(10 * 60 * 1000L);
+        EmitterHandle handle = new EmitterHandle(key, broadcastId, resolvedUserId, emitter, outboundQueueCapacity);
 
-        emitters.put(key, emitter);
-
-        emitter.onCompletion(() -> removeEmitter(key));
-        emitter.onTimeout(() -> removeEmitter(key));
-        emitter.onError((e) -> removeEmitter(key));
+        broadcastEmitters.compute(broadcastId, (id, users) -> {
+            Map<String, Map<String, EmitterHandle>> target = users != null ? users : new ConcurrentHashMap<>();
+            target.computeIfAbsent(resolvedUserId, user -> new ConcurrentHashMap<>()).put(key, handle);
+            return target;
+        });
 
-        sendToClient(emitter, key, "connect", "Connected!");
+        registerCallbacks(handle);
+        sendToClient(handle, "connect", "Connected!");
 
         return emitter;
     }
@@ -36,25 +84,18 @@ public class SseService {
         String resolvedUserId = resolveUserId(userId);
         String key = buildAllKey(resolvedUserId, UUID.randomUUID().toString());
         SseEmitter emitter = new SseEmitter(10 * 60 * 1000L);
-        emitters.put(key, emitter);
+        EmitterHandle handle = new EmitterHandle(key, null, resolvedUserId, emitter, outboundQueueCapacity);
 
-        emitter.onCompletion(() -> removeEmitter(key));
-        emitter.onTimeout(() -> removeEmitter(key));
-        emitter.onError((e) -> removeEmitter(key));
+        globalEmitters.computeIfAbsent(resolvedUserId, user -> new ConcurrentHashMap<>()).put(key, handle);
 
-        sendToClient(emitter, key, "connect", "Connected!");
+        registerCallbacks(handle);
+        sendToClient(handle, "connect", "Connected!");
 
         return emitter;
     }
 
     public void notifyBroadcastUpdate(Long broadcastId, String eventName, Object data) {
-        String prefix = broadcastId + ":";
-        emitters.forEach((key, emitter) -> {
-            if (key.startsWith(prefix)) {
-                sendToClient(emitter, key, eventName, data);
-            }
-        });
-        notifyGlobalUpdate(broadcastId, eventName, data);
+        runAfterCommit(() -> dispatchBroadcastUpdate(broadcastId, eventName, data));
     }
 
     public void notifyBroadcastUpdate(Long broadcastId, String eventName) {
@@ -66,18 +107,8 @@ public class SseService {
     }
 
     public void notifyTargetUser(Long broadcastId, Long userId, String eventName, Object data) {
-        String prefix = broadcastId + ":" + userId + ":";
-        boolean delivered = false;
-        for (Map.Entry<String, SseEmitter> entry : emitters.entrySet()) {
-            String key = entry.getKey();
-            if (key.startsWith(prefix)) {
-                sendToClient(entry.getValue(), key, eventName, data);
-                delivered = true;
-            }
-        }
-        if (!delivered) {
-            log.warn("Target user not found or disconnected: keyPrefix={}", prefix);
-        }
+        String resolvedUserId = String.valueOf(userId);
+        runAfterCommit(() -> deliverToUser(broadcastId, resolvedUserId, eventName, data));
     }
 
     public void notifyTargetUser(Long broadcastId, String userId, String eventName, Object data) {
@@ -86,48 +117,175 @@ public class SseService {
             return;
         }
         String resolvedUserId = resolveUserId(userId);
-        String prefix = broadcastId + ":" + resolvedUserId + ":";
-        boolean delivered = false;
-        for (Map.Entry<String, SseEmitter> entry : emitters.entrySet()) {
-            String key = entry.getKey();
-            if (key.startsWith(prefix)) {
-                sendToClient(entry.getValue(), key, eventName, data);
-                delivered = true;
-            }
+        runAfterCommit(() -> deliverToUser(broadcastId, resolvedUserId, eventName, data));
+    }
+
+    public int getBroadcastEmitterCount(Long broadcastId) {
+        Map<String, Map<String, EmitterHandle>> users = broadcastEmitters.get(broadcastId);
+        return users != null ? countEmitters(users) : 0;
+    }
+
+    private void dispatchBroadcastUpdate(Long broadcastId, String eventName, Object data) {
+        Map<String, Map<String, EmitterHandle>> users = broadcastEmitters.get(broadcastId);
+        if (users != null) {
+            users.values().forEach(sessions -> sessions.values()
+                    .forEach(handle -> sendToClient(handle, eventName, data)));
         }
-        if (!delivered) {
-            log.warn("Target user not found or disconnected: keyPrefix={}", prefix);
+        notifyGlobalUpdate(broadcastId, eventName, data);
+    }
+
+    private void deliverToUser(Long broadcastId, String userId, String eventName, Object data) {
+        Map<String, Map<String, EmitterHandle>> users = broadcastEmitters.get(broadcastId);
+        Map<String, EmitterHandle> sessions = users != null ? users.get(userId) : null;
+        if (sessions == null || sessions.isEmpty()) {
+            log.warn("Target user not found or disconnected: broadcastId={}, userId={}", broadcastId, userId);
+            return;
         }
+        sessions.values().forEach(handle -> sendToClient(handle, eventName, data));
     }
 
     private void notifyGlobalUpdate(Long broadcastId, String eventName, Object data) {
+        if (globalEmitters.isEmpty()) {
+            return;
+        }
         Map<String, Object> payload = Map.of(
                 "broadcastId", broadcastId,
                 "payload", data
         );
-        emitters.forEach((key, emitter) -> {
-            if (key.startsWith("ALL:")) {
-                sendToClient(emitter, key, eventName, payload);
-            }
-        });
+        globalEmitters.values().forEach(sessions -> sessions.values()
+                .forEach(handle -> sendToClient(handle, eventName, payload)));
     }
 
     @Scheduled(fixedRate = 30000)
     public void sendHeartbeat() {
-        emitters.forEach((key, emitter) -> sendToClient(emitter, key, "PING", "ping"));
+        forEachEmitter(handle -> sendToClient(handle, "PING", "ping"));
+        refreshGauges();
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+
+    // 호출 스레드에서는 큐에 넣기만 하고, 실제 전송은 dispatchExecutor 에서 한다.
+    private void sendToClient(EmitterHandle handle, String name, Object data) {
+        if (handle.isClosed()) {
+            return;
+        }
+        if (!handle.outbound().offer(new OutboundEvent(name, data))) {
+            evictedCounter.increment();
+            log.warn("SSE outbound queue overflow, evicting emitter: key={}", handle.key());
+            evict(handle);
+            return;
+        }
+        scheduleDrain(handle);
+    }
+
+    private void scheduleDrain(EmitterHandle handle) {
+        if (!handle.draining().compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatchExecutor.execute(() -> drain(handle));
+        } catch (RejectedExecutionException e) {
+            handle.draining().set(false);
+            log.warn("SSE dispatch rejected, evicting emitter: key={}", handle.key());
+            evict(handle);
+        }
     }
 
-    private void sendToClient(SseEmitter emitter, String id, String name, Object data) {
+    // emitter 당 drain 작업은 하나만 돌기 때문에 이벤트 순서가 유지된다.
+    private void drain(EmitterHandle handle) {
         try {
-            emitter.send(SseEmitter.event().id(id).name(name).data(data));
+            OutboundEvent event;
+            while (!handle.isClosed() && (event = handle.outbound().poll()) != null) {
+                handle.emitter().send(SseEmitter.event().id(handle.key()).name(event.name()).data(event.data()));
+            }
         } catch (IOException | IllegalStateException e) {
-            removeEmitter(id);
-            log.debug("SSE connection closed: key={}, reason={}", id, e.getMessage());
+            handle.close();
+            removeEmitter(handle);
+            log.debug("SSE connection closed: key={}, reason={}", handle.key(), e.getMessage());
+        } finally {
+            handle.draining().set(false);
+        }
+        // drain 종료와 offer 사이에 들어온 이벤트 처리
+        if (!handle.isClosed() && !handle.outbound().isEmpty()) {
+            scheduleDrain(handle);
         }
     }
 
-    private void removeEmitter(String key) {
-        emitters.remove(key);
+    private void evict(EmitterHandle handle) {
+        handle.close();
+        removeEmitter(handle);
+        try {
+            handle.emitter().complete();
+        } catch (Exception e) {
+            log.debug("SSE emitter complete failed: key={}, reason={}", handle.key(), e.getMessage());
+        }
+    }
+
+    private void registerCallbacks(EmitterHandle handle) {
+        handle.emitter().onCompletion(() -> {
+            handle.close();
+            removeEmitter(handle);
+        });
+        handle.emitter().onTimeout(() -> {
+            handle.close();
+            removeEmitter(handle);
+        });
+        handle.emitter().onError((e) -> {
+            handle.close();
+            removeEmitter(handle);
+        });
+    }
+
+    private void removeEmitter(EmitterHandle handle) {
+        if (handle.broadcastId() == null) {
+            globalEmitters.computeIfPresent(handle.userId(), (user, sessions) -> {
+                sessions.remove(handle.key());
+                return sessions.isEmpty() ? null : sessions;
+            });
+            return;
+        }
+        broadcastEmitters.computeIfPresent(handle.broadcastId(), (id, users) -> {
+            users.computeIfPresent(handle.userId(), (user, sessions) -> {
+                sessions.remove(handle.key());
+                return sessions.isEmpty() ? null : sessions;
+            });
+            return users.isEmpty() ? null : users;
+        });
+    }
+
+    private void forEachEmitter(Consumer<EmitterHandle> action) {
+        broadcastEmitters.values().forEach(users -> users.values()
+                .forEach(sessions -> sessions.values().forEach(action)));
+        globalEmitters.values().forEach(sessions -> sessions.values().forEach(action));
+    }
+
+    private void refreshGauges() {
+        List<MultiGauge.Row<?>> rows = broadcastEmitters.entrySet().stream()
+                .map(entry -> MultiGauge.Row.of(
+                        Tags.of("broadcastId", String.valueOf(entry.getKey())),
+                        countEmitters(entry.getValue())
+                ))
+                .collect(Collectors.toList());
+        broadcastEmitterGauge.register(rows, true);
+    }
+
+    private int countEmitters(Map<String, ? extends Map<String, EmitterHandle>> users) {
+        int count = 0;
+        for (Map<String, EmitterHandle> sessions : users.values()) {
+            count += sessions.size();
+        }
+        return count;
     }
 
     private String resolveUserId(String userId) {
@@ -144,4 +302,58 @@ public class SseService {
     private String buildAllKey(String userId, String sessionId) {
         return "ALL:" + userId + ":" + sessionId;
     }
+
+    private record OutboundEvent(String name, Object data) {
+    }
+
+    private static final class EmitterHandle {
+        private final String key;
+        private final Long broadcastId;
+        private final String userId;
+        private final SseEmitter emitter;
+        private final Queue<OutboundEvent> outbound;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private volatile boolean closed;
+
+        private EmitterHandle(String key, Long broadcastId, String userId, SseEmitter emitter, int queueCapacity) {
+            this.key = key;
+            this.broadcastId = broadcastId;
+            this.userId = userId;
+            this.emitter = emitter;
+            this.outbound = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        String key() {
+            return key;
+        }
+
+        Long broadcastId() {
+            return broadcastId;
+        }
+
+        String userId() {
+            return userId;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        Queue<OutboundEvent> outbound() {
+            return outbound;
+        }
+
+        AtomicBoolean draining() {
+            return draining;
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+
+        void close() {
+            closed = true;
+            outbound.clear();
+        }
+    }
 }
@@ -1,12 +1,12 @@
 package com.deskit.deskit.order.controller;
 
-import com.deskit.deskit.account.entity.Member;
 import com.deskit.deskit.account.oauth.CustomOAuth2User;
-import com.deskit.deskit.account.repository.MemberRepository;
+import com.deskit.deskit.account.service.MemberIdentityCache;
 import com.deskit.deskit.order.dto.CreateOrderRequest;
 import com.deskit.deskit.order.dto.CreateOrderResponse;
 import com.deskit.deskit.order.dto.OrderCancelRequest;
 import com.deskit.deskit.order.dto.OrderCancelResponse;
+import com.deskit.deskit.order.dto.OrderCursorPageResponse;
 import com.deskit.deskit.order.dto.OrderDetailResponse;
 import com.deskit.deskit.order.dto.OrderSummaryResponse;
 import com.deskit.deskit.order.service.OrderService;
@@ -21,6 +21,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.server.ResponseStatusException;
@@ -30,11 +31,11 @@ import org.springframework.web.server.ResponseStatusException;
 public class OrderController {
 
   private final OrderService orderService;
-  private final MemberRepository memberRepository;
+  private final MemberIdentityCache memberIdentityCache;
 
-  public OrderController(OrderService orderService, MemberRepository memberRepository) {
+  public OrderController(OrderService orderService, MemberIdentityCache memberIdentityCache) {
     this.orderService = orderService;
-    this.memberRepository = memberRepository;
+    this.memberIdentityCache = memberIdentityCache;
   }
 
   @PostMapping
@@ -54,6 +55,17 @@ public class OrderController {
     return ResponseEntity.ok(orderService.getMyOrders(memberId));
   }
 
+  @GetMapping("/cursor")
+  public ResponseEntity<OrderCursorPageResponse<OrderSummaryResponse>> getMyOrdersPage(
+          @AuthenticationPrincipal CustomOAuth2User user,
+          @RequestParam(name = "cursor", required = false) String cursor,
+          @RequestParam(name = "size", defaultValue = "20") int size,
+          @RequestParam(name = "include_total", defaultValue = "false") boolean includeTotal
+  ) {
+    Long memberId = resolveMemberId(user);
+    return ResponseEntity.ok(orderService.getMyOrdersPage(memberId, cursor, size, includeTotal));
+  }
+
   @GetMapping("/{orderId}")
   public ResponseEntity<OrderDetailResponse> getMyOrderDetail(
           @AuthenticationPrincipal CustomOAuth2User user,
@@ -98,12 +110,12 @@ public class OrderController {
       throw new ResponseStatusException(HttpStatus.NOT_FOUND, "member not found");
     }
 
-    Member member = memberRepository.findByLoginId(loginId);
+    MemberIdentityCache.Identity member = memberIdentityCache.findByLoginId(loginId);
     if (member == null) {
       throw new ResponseStatusException(HttpStatus.NOT_FOUND, "member not found");
     }
 
-    return member.getMemberId();
+    return member.memberId();
   }
 
   private Long tryExtractMemberId(CustomOAuth2User user) {
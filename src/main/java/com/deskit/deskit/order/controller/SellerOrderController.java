@@ -4,6 +4,7 @@ import com.deskit.deskit.account.entity.Seller;
 import com.deskit.deskit.account.enums.SellerStatus;
 import com.deskit.deskit.account.oauth.CustomOAuth2User;
 import com.deskit.deskit.account.repository.SellerRepository;
+import com.deskit.deskit.order.dto.OrderCursorPageResponse;
 import com.deskit.deskit.order.dto.SellerOrderDetailResponse;
 import com.deskit.deskit.order.dto.SellerOrderSummaryResponse;
 import com.deskit.deskit.order.enums.OrderStatus;
@@ -48,6 +49,18 @@ public class SellerOrderController {
     return ResponseEntity.ok(sellerOrderService.getSellerOrders(sellerId, status, pageable));
   }
 
+  @GetMapping("/cursor")
+  public ResponseEntity<OrderCursorPageResponse<SellerOrderSummaryResponse>> getSellerOrdersPage(
+    @AuthenticationPrincipal CustomOAuth2User user,
+    @RequestParam(name = "status", required = false) OrderStatus status,
+    @RequestParam(name = "cursor", required = false) String cursor,
+    @RequestParam(name = "size", defaultValue = "10") int size,
+    @RequestParam(name = "include_total", defaultValue = "false") boolean includeTotal
+  ) {
+    Long sellerId = resolveSellerId(user);
+    return ResponseEntity.ok(sellerOrderService.getSellerOrdersPage(sellerId, status, cursor, size, includeTotal));
+  }
+
   @GetMapping("/{orderId}")
   public ResponseEntity<SellerOrderDetailResponse> getSellerOrderDetail(
     @AuthenticationPrincipal CustomOAuth2User user,
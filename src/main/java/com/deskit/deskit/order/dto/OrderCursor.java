@@ -0,0 +1,37 @@
+package com.deskit.deskit.order.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 주문 목록 keyset 페이지네이션 커서 (created_at desc, order_id desc)
+ * - 클라이언트에는 base64url 문자열로만 노출한다.
+ */
+public record OrderCursor(LocalDateTime createdAt, Long orderId) {
+
+  private static final String SEPARATOR = "|";
+
+  public String encode() {
+    String raw = createdAt + SEPARATOR + orderId;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static OrderCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+      int separator = raw.lastIndexOf(SEPARATOR);
+      return new OrderCursor(
+        LocalDateTime.parse(raw.substring(0, separator)),
+        Long.parseLong(raw.substring(separator + 1))
+      );
+    } catch (RuntimeException ex) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid cursor");
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package com.deskit.deskit.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public record OrderCursorPageResponse<T>(
+  @JsonProperty("items")
+  List<T> items,
+
+  @JsonProperty("next_cursor")
+  String nextCursor,
+
+  @JsonProperty("has_next")
+  boolean hasNext,
+
+  // include_total=true 로 요청한 경우에만 채운다. (count 쿼리 비용)
+  @JsonProperty("total_count")
+  Long totalCount
+) {}
@@ -9,6 +9,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
@@ -23,7 +24,13 @@ import lombok.NoArgsConstructor;
  * - 결제/취소 시각(paid_at/cancelled_at)은 주문 특화 필드이므로 Order에 별도 필드로 보관
  */
 @Entity
-@Table(name = "`order`")
+@Table(
+  name = "`order`",
+  indexes = {
+    @Index(name = "idx_order_member_created", columnList = "member_id, deleted_at, created_at, order_id"),
+    @Index(name = "idx_order_created", columnList = "deleted_at, created_at, order_id")
+  }
+)
 @Getter
 // JPA 기본 생성자 요구사항 충족(외부에서 new로 생성하지 못하게 protected로 제한)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -92,7 +99,7 @@ public class Order extends BaseEntity {
 
   /**
    * 주문 상태
-   * - SQL ENUM('CREATED','PAID','CANCEL_REQUESTED','CANCELLED','COMPLETED','REFUND_REQUESTED','REFUND_REJECTED','REFUNDED')
+   * - SQL ENUM('CREATED','PAYMENT_PENDING','PAID','CANCEL_REQUESTED','CANCELLED','COMPLETED','REFUND_REQUESTED','REFUND_REJECTED','REFUNDED')
    * - EnumType.STRING으로 저장하여 값이 명확하고, enum 순서 변경에 안전
    */
   @Enumerated(EnumType.STRING)
@@ -155,11 +162,32 @@ public class Order extends BaseEntity {
     return order;
   }
 
+  /**
+   * 결제 승인 요청(PG 호출) 직전 상태로 전환
+   * - PAYMENT_PENDING 동안에는 취소/포기 요청이 CREATED 조건에 걸려 반영되지 않는다.
+   */
+  public void markPaymentPending() {
+    if (this.status != OrderStatus.CREATED) {
+      throw new IllegalStateException("invalid status for payment pending");
+    }
+    this.status = OrderStatus.PAYMENT_PENDING;
+  }
+
+  /**
+   * PG 가 승인을 거절했거나 승인 내역이 없는 경우 다시 결제 가능한 상태로 되돌린다.
+   */
+  public void revertPaymentPending() {
+    if (this.status != OrderStatus.PAYMENT_PENDING) {
+      return;
+    }
+    this.status = OrderStatus.CREATED;
+  }
+
   public void markPaid() {
     if (this.status == OrderStatus.PAID) {
       return;
     }
-    if (this.status != OrderStatus.CREATED) {
+    if (this.status != OrderStatus.CREATED && this.status != OrderStatus.PAYMENT_PENDING) {
       throw new IllegalStateException("invalid status for paid");
     }
     this.status = OrderStatus.PAID;
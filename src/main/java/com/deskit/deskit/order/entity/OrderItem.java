@@ -7,6 +7,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,7 +24,13 @@ import lombok.NoArgsConstructor;
  * - BaseEntity를 상속하여 created_at/updated_at/deleted_at(소프트 삭제) 컬럼을 공통으로 사용
  */
 @Entity
-@Table(name = "order_item")
+@Table(
+  name = "order_item",
+  indexes = {
+    @Index(name = "idx_order_item_seller_order", columnList = "seller_id, deleted_at, order_id"),
+    @Index(name = "idx_order_item_seller_created", columnList = "seller_id, deleted_at, created_at, order_id")
+  }
+)
 @Getter
 // JPA 기본 생성자 요구사항 충족(외부에서 new로 생성하지 못하게 protected로 제한)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -91,6 +98,15 @@ public class OrderItem extends BaseEntity {
   @Column(name = "subtotal_price", nullable = false)
   private Integer subtotalPrice;
 
+  /**
+   * 주문 시점 상품 가격 epoch 스냅샷 (product.price_epoch)
+   * - price_epoch
+   * - 결제 승인 시 현재 epoch 와 같으면 가격이 바뀌지 않은 것으로 본다.
+   * - null 이면(도입 이전 주문) 가격을 다시 계산해 검증한다.
+   */
+  @Column(name = "price_epoch")
+  private Long priceEpoch;
+
   /**
    * 주문상품 생성 팩토리 메서드
    *
@@ -104,7 +120,8 @@ public class OrderItem extends BaseEntity {
           String productName,
           Integer unitPrice,
           Integer quantity,
-          Integer subtotalPrice
+          Integer subtotalPrice,
+          Long priceEpoch
   ) {
     OrderItem item = new OrderItem();
     item.order = order;
@@ -114,6 +131,7 @@ public class OrderItem extends BaseEntity {
     item.unitPrice = unitPrice;
     item.quantity = quantity;
     item.subtotalPrice = subtotalPrice;
+    item.priceEpoch = priceEpoch;
     return item;
   }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.deskit.deskit.order.enums;
 
 public enum OrderStatus {
   CREATED,
+  PAYMENT_PENDING,
   PAID,
   CANCEL_REQUESTED,
   CANCELLED,
@@ -0,0 +1,16 @@
+package com.deskit.deskit.order.event;
+
+/**
+ * 주문이 매출 집계 대상(PAID)에 들어오거나(sign=+1) 빠질 때(sign=-1) 발행된다.
+ * - 발행한 트랜잭션이 커밋된 뒤에만 소비한다.
+ */
+public record OrderSalesChangedEvent(Long orderId, int sign) {
+
+  public static OrderSalesChangedEvent paid(Long orderId) {
+    return new OrderSalesChangedEvent(orderId, 1);
+  }
+
+  public static OrderSalesChangedEvent refunded(Long orderId) {
+    return new OrderSalesChangedEvent(orderId, -1);
+  }
+}
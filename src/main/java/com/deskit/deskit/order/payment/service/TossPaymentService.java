@@ -1,7 +1,9 @@
 package com.deskit.deskit.order.payment.service;
 
+import com.deskit.deskit.common.http.OutboundHttpClient;
 import com.deskit.deskit.order.entity.Order;
 import com.deskit.deskit.order.enums.OrderStatus;
+import com.deskit.deskit.order.event.OrderSalesChangedEvent;
 import com.deskit.deskit.order.payment.dto.TossPaymentConfirmRequest;
 import com.deskit.deskit.order.payment.dto.TossPaymentConfirmResult;
 import com.deskit.deskit.order.payment.entity.TossPayment;
@@ -10,37 +12,75 @@ import com.deskit.deskit.order.payment.repository.TossPaymentRepository;
 import com.deskit.deskit.order.payment.repository.TossRefundRepository;
 import com.deskit.deskit.order.repository.OrderItemRepository;
 import com.deskit.deskit.order.repository.OrderRepository;
+import com.deskit.deskit.order.service.StockReservationService;
 import com.deskit.deskit.livehost.repository.BroadcastProductRepository;
+import com.deskit.deskit.livehost.service.BroadcastSalesCounter;
 import com.deskit.deskit.product.entity.Product;
 import com.deskit.deskit.product.repository.ProductRepository;
+import com.deskit.deskit.product.service.ProductPriceEpochService;
 import com.deskit.deskit.order.entity.OrderItem;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
+@Slf4j
 @Service
-@Transactional
 public class TossPaymentService {
 
-  private static final String CONFIRM_URL = "https://api.tosspayments.com/v1/payments/confirm";
-  private static final String CANCEL_URL_TEMPLATE = "https://api.tosspayments.com/v1/payments/%s/cancel";
+  private static final String CONFIRM_PATH = "/v1/payments/confirm";
+  private static final String CANCEL_PATH_TEMPLATE = "/v1/payments/%s/cancel";
+  private static final String ORDER_LOOKUP_PATH_TEMPLATE = "/v1/payments/orders/%s";
+  private static final String ALREADY_PROCESSED_CODE = "ALREADY_PROCESSED_PAYMENT";
+  // 승인되지 않았음이 확실한 거절 코드 (4xx). 이 경우에만 주문을 CREATED 로 되돌린다.
+  private static final Set<String> DEFINITIVE_REJECTION_CODES = Set.of(
+    "REJECT_CARD_PAYMENT",
+    "REJECT_CARD_COMPANY",
+    "REJECT_ACCOUNT_PAYMENT",
+    "REJECT_TOSSPAY_INVALID_ACCOUNT",
+    "INVALID_REJECT_CARD",
+    "INVALID_CARD_EXPIRATION",
+    "INVALID_STOPPED_CARD",
+    "INVALID_CARD_LOST_OR_STOLEN",
+    "INVALID_CARD_NUMBER",
+    "INVALID_CARD_INSTALLMENT_PLAN",
+    "NOT_SUPPORTED_INSTALLMENT_PLAN_CARD_OR_MERCHANT",
+    "INVALID_PASSWORD",
+    "INVALID_ACCOUNT_INFO_RE_REGISTER",
+    "RESTRICTED_TRANSFER_ACCOUNT",
+    "EXCEED_MAX_DAILY_PAYMENT_COUNT",
+    "EXCEED_MAX_PAYMENT_AMOUNT",
+    "EXCEED_MAX_ONE_DAY_AMOUNT",
+    "EXCEED_MAX_AUTH_COUNT",
+    "BELOW_MINIMUM_AMOUNT",
+    "NOT_AVAILABLE_PAYMENT",
+    "NOT_FOUND_PAYMENT_SESSION"
+  );
+  private static final String HTTP_TARGET = "toss";
+  private static final MediaType JSON = MediaType.get("application/json");
 
   private final OrderRepository orderRepository;
   private final TossPaymentRepository tossPaymentRepository;
@@ -49,10 +89,23 @@ public class TossPaymentService {
   private final ProductRepository productRepository;
   private final BroadcastProductRepository broadcastProductRepository;
   private final ObjectMapper objectMapper;
+  private final BroadcastSalesCounter broadcastSalesCounter;
+  private final StockReservationService stockReservationService;
+  private final TransactionTemplate transactionTemplate;
+  private final OutboundHttpClient outboundHttpClient;
+  private final ProductPriceEpochService productPriceEpochService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Value("${toss.payments.secret-key}")
   private String tossSecretKey;
 
+  // 부하 테스트 프로필에서는 로컬 스텁으로 바꾼다.
+  @Value("${toss.payments.base-url:https://api.tosspayments.com}")
+  private String tossBaseUrl;
+
+  @Value("${toss.payments.pending-recovery-seconds:120}")
+  private long pendingRecoverySeconds;
+
   public TossPaymentService(
     OrderRepository orderRepository,
     TossPaymentRepository tossPaymentRepository,
@@ -60,7 +113,13 @@ public class TossPaymentService {
     OrderItemRepository orderItemRepository,
     ProductRepository productRepository,
     BroadcastProductRepository broadcastProductRepository,
-    ObjectMapper objectMapper
+    ObjectMapper objectMapper,
+    BroadcastSalesCounter broadcastSalesCounter,
+    StockReservationService stockReservationService,
+    TransactionTemplate transactionTemplate,
+    OutboundHttpClient outboundHttpClient,
+    ProductPriceEpochService productPriceEpochService,
+    ApplicationEventPublisher eventPublisher
   ) {
     this.orderRepository = orderRepository;
     this.tossPaymentRepository = tossPaymentRepository;
@@ -69,8 +128,22 @@ public class TossPaymentService {
     this.productRepository = productRepository;
     this.broadcastProductRepository = broadcastProductRepository;
     this.objectMapper = objectMapper;
+    this.broadcastSalesCounter = broadcastSalesCounter;
+    this.stockReservationService = stockReservationService;
+    this.transactionTemplate = transactionTemplate;
+    this.outboundHttpClient = outboundHttpClient;
+    this.productPriceEpochService = productPriceEpochService;
+    this.eventPublisher = eventPublisher;
   }
 
+  /**
+   * 결제 승인은 PG 호출 동안 주문 row lock / DB 커넥션을 잡지 않도록 세 단계로 나눈다.
+   * 1) 짧은 트랜잭션: 주문 잠금, 금액 검증 후 PAYMENT_PENDING 으로 전환하고 커밋
+   * 2) 트랜잭션 밖에서 Toss 승인 API 호출
+   * 3) 짧은 트랜잭션: 결제 내역 저장 + PAID 확정 (확정적인 4xx 거절 코드일 때만 CREATED 로 복귀)
+   * 2) 에서 응답을 받지 못하거나 5xx/알 수 없는 응답이면 PAYMENT_PENDING 으로 남고(502), 같은 요청 재시도(동일 Idempotency-Key)나
+   * recoverPendingPayments 의 Toss 조회로 마무리된다.
+   */
   public TossPaymentConfirmResult confirmPayment(TossPaymentConfirmRequest request) {
     String paymentKey = normalizeText(request.paymentKey());
     String orderIdText = normalizeText(request.orderId());
@@ -86,25 +159,14 @@ public class TossPaymentService {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid amount");
     }
 
-    Order order = findOrderForUpdate(orderIdText);
-
-    Integer orderAmount = order.getOrderAmount();
-    long expectedAmount = orderAmount == null ? 0L : orderAmount;
-    if (expectedAmount != amount) {
-      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "amount mismatch");
-    }
-    if (!isOrderAmountCurrent(order)) {
-      cancelOrderDueToPriceChange(order);
+    ConfirmPreparation preparation = transactionTemplate.execute(
+      status -> prepareConfirm(paymentKey, orderIdText, amount)
+    );
+    if (preparation.priceChanged()) {
       throw new ResponseStatusException(HttpStatus.CONFLICT, "order amount changed");
     }
-
-    Optional<TossPayment> existing = tossPaymentRepository.findByTossPaymentKey(paymentKey);
-    if (existing.isPresent()) {
-      updateOrderPaid(order);
-      return new TossPaymentConfirmResult(
-        HttpStatus.OK.value(),
-        buildResponseFrom(existing.get())
-      );
+    if (preparation.completed() != null) {
+      return preparation.completed();
     }
 
     Map<String, Object> body = new HashMap<>();
@@ -114,43 +176,37 @@ public class TossPaymentService {
 
     String idempotencyKey = generateIdempotencyKey(paymentKey, orderIdText, amount);
 
+    final TossHttpResponse response;
     try {
-      HttpURLConnection connection = (HttpURLConnection) new URL(CONFIRM_URL).openConnection();
-      connection.setRequestProperty("Authorization", basicAuthHeader(tossSecretKey));
-      connection.setRequestProperty("Content-Type", "application/json");
-      connection.setRequestProperty("Idempotency-Key", idempotencyKey);
-      connection.setRequestMethod("POST");
-      connection.setDoOutput(true);
-
-      try (OutputStream outputStream = connection.getOutputStream()) {
-        objectMapper.writeValue(outputStream, body);
-      }
-
-      int statusCode = connection.getResponseCode();
-      boolean isSuccess = statusCode == HttpURLConnection.HTTP_OK;
-      try (InputStream responseStream = isSuccess
-        ? connection.getInputStream()
-        : connection.getErrorStream()) {
-        Map<String, Object> responseBody = objectMapper.readValue(
-          responseStream,
-          new TypeReference<>() {}
-        );
-
-        if (isSuccess) {
-          TossPayment payment = toEntity(responseBody, orderIdText);
-          tossPaymentRepository.save(payment);
-          updateOrderPaid(order);
-        }
-
-        return new TossPaymentConfirmResult(statusCode, responseBody);
-      }
-    } catch (ResponseStatusException ex) {
-      throw ex;
+      response = postJson("confirm", tossUrl(CONFIRM_PATH), idempotencyKey, body);
     } catch (Exception ex) {
+      // 승인 여부를 알 수 없으므로 PAYMENT_PENDING 을 유지한다.
       throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "toss confirm failed", ex);
     }
+
+    Long orderId = preparation.orderId();
+    if (response.isSuccess()) {
+      transactionTemplate.executeWithoutResult(status -> finalizeConfirm(orderId, response.body(), orderIdText));
+      return new TossPaymentConfirmResult(response.statusCode(), response.body());
+    }
+    String code = asText(response.body().get("code"));
+    if (ALREADY_PROCESSED_CODE.equals(code)) {
+      return new TossPaymentConfirmResult(response.statusCode(), response.body());
+    }
+    if (isDefinitiveRejection(response.statusCode(), code)) {
+      transactionTemplate.executeWithoutResult(status -> revertPaymentPending(orderId));
+      return new TossPaymentConfirmResult(response.statusCode(), response.body());
+    }
+    // 5xx/알 수 없는 응답: 승인됐을 수도 있으므로 PAYMENT_PENDING 을 유지하고 recoverPendingPayments 에 맡긴다.
+    log.warn("toss.confirm unknown result, kept pending: orderId={}, status={}, code={}",
+      orderId, response.statusCode(), code);
+    throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "toss confirm result unknown");
   }
 
+  /**
+   * 환불도 같은 방식으로 PG 호출은 트랜잭션 밖에서 하고 결과 저장만 짧은 트랜잭션으로 처리한다.
+   * 호출자는 이 메서드를 트랜잭션 안에서 부르지 않아야 한다. (OrderService.requestCancel)
+   */
   public void cancelPayment(Order order, String reason) {
     if (order == null) {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "order required");
@@ -182,51 +238,167 @@ public class TossPaymentService {
       cancelAmount
     );
 
+    final TossHttpResponse response;
     try {
-      String cancelUrl = String.format(CANCEL_URL_TEMPLATE, payment.getTossPaymentKey());
-      HttpURLConnection connection = (HttpURLConnection) new URL(cancelUrl).openConnection();
-      connection.setRequestProperty("Authorization", basicAuthHeader(tossSecretKey));
-      connection.setRequestProperty("Content-Type", "application/json");
-      connection.setRequestProperty("Idempotency-Key", idempotencyKey);
-      connection.setRequestMethod("POST");
-      connection.setDoOutput(true);
-
-      try (OutputStream outputStream = connection.getOutputStream()) {
-        objectMapper.writeValue(outputStream, body);
+      String cancelUrl = tossUrl(String.format(CANCEL_PATH_TEMPLATE, payment.getTossPaymentKey()));
+      response = postJson("cancel", cancelUrl, idempotencyKey, body);
+    } catch (Exception ex) {
+      throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "toss cancel failed", ex);
+    }
+    if (!response.isSuccess()) {
+      throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "toss cancel failed");
+    }
+
+    transactionTemplate.executeWithoutResult(status -> {
+      updatePaymentCanceled(payment, response.body());
+      saveRefundIfNeeded(payment, response.body(), cancelAmount, reason);
+    });
+  }
+
+  /**
+   * 승인 API 응답을 받지 못해 PAYMENT_PENDING 으로 남은 주문을 Toss 주문 조회 결과로 정리한다.
+   * - DONE: 결제 내역 저장 + PAID 확정
+   * - 승인 내역 없음/만료/중단: CREATED 로 복귀 (사용자가 다시 결제 가능)
+   */
+  @Scheduled(fixedDelay = 60000)
+  public void recoverPendingPayments() {
+    if (tossSecretKey == null || tossSecretKey.isBlank()) {
+      return;
+    }
+    List<Order> pendingOrders = orderRepository.findTop50ByStatusAndUpdatedAtBeforeOrderByUpdatedAtAsc(
+      OrderStatus.PAYMENT_PENDING,
+      LocalDateTime.now().minusSeconds(pendingRecoverySeconds)
+    );
+    for (Order order : pendingOrders) {
+      try {
+        recoverPendingPayment(order);
+      } catch (Exception ex) {
+        log.warn("toss.confirm.recover failed: orderId={}, reason={}", order.getId(), ex.getMessage());
       }
+    }
+  }
 
-      int statusCode = connection.getResponseCode();
-      boolean isSuccess = statusCode == HttpURLConnection.HTTP_OK;
-      try (InputStream responseStream = isSuccess
-        ? connection.getInputStream()
-        : connection.getErrorStream()) {
-        Map<String, Object> responseBody = objectMapper.readValue(
-          responseStream,
-          new TypeReference<>() {}
-        );
-
-        if (!isSuccess) {
-          throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "toss cancel failed");
+  private void recoverPendingPayment(Order order) throws IOException {
+    String tossOrderId = order.getOrderNumber();
+    TossHttpResponse response = getJson("order-lookup", tossUrl(String.format(ORDER_LOOKUP_PATH_TEMPLATE, tossOrderId)));
+    if (response.statusCode() == HttpStatus.NOT_FOUND.value()) {
+      tossOrderId = String.valueOf(order.getId());
+      response = getJson("order-lookup", tossUrl(String.format(ORDER_LOOKUP_PATH_TEMPLATE, tossOrderId)));
+    }
+
+    Long orderId = order.getId();
+    if (response.isSuccess()) {
+      String paymentStatus = asText(response.body().get("status"));
+      if ("DONE".equals(paymentStatus)) {
+        Long totalAmount = asLong(response.body().get("totalAmount"));
+        Integer orderAmount = order.getOrderAmount();
+        if (totalAmount == null || orderAmount == null || totalAmount != orderAmount.longValue()) {
+          log.warn("toss.confirm.recover amount mismatch: orderId={}, totalAmount={}", orderId, totalAmount);
+          return;
         }
-
-        updatePaymentCanceled(payment, responseBody);
-        saveRefundIfNeeded(payment, responseBody, cancelAmount, reason);
+        String matchedOrderId = tossOrderId;
+        Map<String, Object> responseBody = response.body();
+        transactionTemplate.executeWithoutResult(status -> finalizeConfirm(orderId, responseBody, matchedOrderId));
+        log.info("toss.confirm.recover paid: orderId={}", orderId);
+        return;
       }
-    } catch (ResponseStatusException ex) {
-      throw ex;
-    } catch (Exception ex) {
-      throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "toss cancel failed", ex);
+      if ("IN_PROGRESS".equals(paymentStatus) || "WAITING_FOR_DEPOSIT".equals(paymentStatus)) {
+        return;
+      }
+    } else if (response.statusCode() != HttpStatus.NOT_FOUND.value()) {
+      return;
     }
+    transactionTemplate.executeWithoutResult(status -> revertPaymentPending(orderId));
+    log.info("toss.confirm.recover reverted: orderId={}", orderId);
+  }
+
+  private boolean isDefinitiveRejection(int statusCode, String code) {
+    return statusCode >= 400 && statusCode < 500 && code != null && DEFINITIVE_REJECTION_CODES.contains(code);
+  }
+
+  private ConfirmPreparation prepareConfirm(String paymentKey, String orderIdText, Long amount) {
+    Order order = findOrderForUpdate(orderIdText);
+
+    Integer orderAmount = order.getOrderAmount();
+    long expectedAmount = orderAmount == null ? 0L : orderAmount;
+    if (expectedAmount != amount) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "amount mismatch");
+    }
+    if (order.getStatus() == OrderStatus.CREATED && !isOrderAmountCurrent(order)) {
+      // 취소는 커밋하고 응답만 CONFLICT 로 돌려준다.
+      cancelOrderDueToPriceChange(order);
+      return new ConfirmPreparation(order.getId(), null, true);
+    }
+
+    Optional<TossPayment> existing = tossPaymentRepository.findByTossPaymentKey(paymentKey);
+    if (existing.isPresent()) {
+      updateOrderPaid(order);
+      TossPaymentConfirmResult completed = new TossPaymentConfirmResult(
+        HttpStatus.OK.value(),
+        buildResponseFrom(existing.get())
+      );
+      return new ConfirmPreparation(order.getId(), completed, false);
+    }
+
+    if (order.getStatus() == OrderStatus.CREATED) {
+      ensureStockHeld(order);
+      order.markPaymentPending();
+    }
+    return new ConfirmPreparation(order.getId(), null, false);
+  }
+
+  private void finalizeConfirm(Long orderId, Map<String, Object> responseBody, String orderIdText) {
+    Order order = orderRepository.findByIdForUpdate(orderId)
+      .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "order not found"));
+    TossPayment payment = toEntity(responseBody, orderIdText);
+    if (tossPaymentRepository.findByTossPaymentKey(payment.getTossPaymentKey()).isEmpty()) {
+      tossPaymentRepository.save(payment);
+    }
+    updateOrderPaid(order);
+  }
+
+  private void revertPaymentPending(Long orderId) {
+    orderRepository.findByIdForUpdate(orderId).ifPresent(Order::revertPaymentPending);
   }
 
   private void updateOrderPaid(Order order) {
     if (order.getStatus() == OrderStatus.PAID) {
       return;
     }
-    if (order.getStatus() != OrderStatus.CREATED) {
+    if (order.getStatus() != OrderStatus.CREATED && order.getStatus() != OrderStatus.PAYMENT_PENDING) {
       return;
     }
     order.markPaid();
+    broadcastSalesCounter.recordPaid(order.getId(), order.getPaidAt());
+    eventPublisher.publishEvent(OrderSalesChangedEvent.paid(order.getId()));
+    if (stockReservationService.isEnabled()) {
+      stockReservationService.confirmAfterCommit(order.getOrderNumber(), orderedQuantities(order));
+    }
+  }
+
+  // 예약이 만료돼 풀린 주문이면 결제 승인 전에 다시 예약한다. (재고 부족 시 CONFLICT)
+  private void ensureStockHeld(Order order) {
+    if (!stockReservationService.isEnabled() || order.getStatus() != OrderStatus.CREATED) {
+      return;
+    }
+    if (stockReservationService.isHeld(order.getOrderNumber())) {
+      return;
+    }
+    Map<Long, Integer> quantityByProductId = orderedQuantities(order);
+    if (!quantityByProductId.isEmpty()) {
+      stockReservationService.reserve(order.getOrderNumber(), quantityByProductId);
+    }
+  }
+
+  private Map<Long, Integer> orderedQuantities(Order order) {
+    Map<Long, Integer> quantityByProductId = new HashMap<>();
+    for (OrderItem item : orderItemRepository.findByOrder_Id(order.getId())) {
+      if (item.getDeletedAt() != null || item.getProductId() == null) {
+        continue;
+      }
+      quantityByProductId.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+    }
+    return quantityByProductId;
   }
 
   private boolean isOrderAmountCurrent(Order order) {
@@ -234,6 +406,32 @@ public class TossPaymentService {
     if (items.isEmpty()) {
       return false;
     }
+    if (isPriceEpochCurrent(items)) {
+      return true;
+    }
+    return isRecalculatedAmountCurrent(order, items);
+  }
+
+  // 주문 시점 epoch 와 현재 epoch 가 모두 같으면 그 사이 가격 변경이 없었던 것 (product id IN 조회 1회)
+  private boolean isPriceEpochCurrent(List<OrderItem> items) {
+    List<Long> productIds = new ArrayList<>(items.size());
+    for (OrderItem item : items) {
+      if (item.getProductId() == null || item.getPriceEpoch() == null) {
+        return false;
+      }
+      productIds.add(item.getProductId());
+    }
+    Map<Long, Long> currentEpochs = productPriceEpochService.currentEpochs(productIds);
+    for (OrderItem item : items) {
+      if (!item.getPriceEpoch().equals(currentEpochs.get(item.getProductId()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // epoch 가 바뀌었거나 없는 주문은 현재 가격으로 다시 계산해 비교한다. (가격이 원래대로 돌아온 경우 통과)
+  private boolean isRecalculatedAmountCurrent(Order order, List<OrderItem> items) {
     int totalProductAmount = 0;
     for (OrderItem item : items) {
       Long productId = item.getProductId();
@@ -270,6 +468,9 @@ public class TossPaymentService {
     order.requestCancel("price changed");
     order.approveCancel();
     orderRepository.save(order);
+    if (stockReservationService.isEnabled()) {
+      stockReservationService.releaseAfterCommit(order.getOrderNumber());
+    }
   }
 
   private Order findOrderForUpdate(String orderIdText) {
@@ -428,6 +629,11 @@ public class TossPaymentService {
     return null;
   }
 
+  private String tossUrl(String path) {
+    String base = tossBaseUrl.endsWith("/") ? tossBaseUrl.substring(0, tossBaseUrl.length() - 1) : tossBaseUrl;
+    return base + path;
+  }
+
   private TossPayment toEntity(Map<String, Object> responseBody, String orderIdText) {
     String paymentKey = asText(responseBody.get("paymentKey"));
     String tossOrderId = asText(responseBody.get("orderId"));
@@ -485,6 +691,38 @@ public class TossPaymentService {
     return response;
   }
 
+  private TossHttpResponse postJson(String endpoint, String url, String idempotencyKey, Map<String, Object> body)
+    throws IOException {
+    Request request = new Request.Builder()
+      .url(url)
+      .header("Authorization", basicAuthHeader(tossSecretKey))
+      .header("Idempotency-Key", idempotencyKey)
+      .post(RequestBody.create(objectMapper.writeValueAsBytes(body), JSON))
+      .build();
+    return execute(endpoint, request);
+  }
+
+  private TossHttpResponse getJson(String endpoint, String url) throws IOException {
+    Request request = new Request.Builder()
+      .url(url)
+      .header("Authorization", basicAuthHeader(tossSecretKey))
+      .get()
+      .build();
+    return execute(endpoint, request);
+  }
+
+  private TossHttpResponse execute(String endpoint, Request request) throws IOException {
+    try (Response response = outboundHttpClient.execute(HTTP_TARGET, endpoint, request)) {
+      ResponseBody responseBody = response.body();
+      byte[] bytes = responseBody == null ? new byte[0] : responseBody.bytes();
+      if (bytes.length == 0) {
+        return new TossHttpResponse(response.code(), new HashMap<>());
+      }
+      Map<String, Object> parsed = objectMapper.readValue(bytes, new TypeReference<>() {});
+      return new TossHttpResponse(response.code(), parsed);
+    }
+  }
+
   private String basicAuthHeader(String secretKey) {
     String raw = secretKey + ":";
     String encoded = Base64.getEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
@@ -531,4 +769,12 @@ public class TossPaymentService {
       return null;
     }
   }
+
+  private record ConfirmPreparation(Long orderId, TossPaymentConfirmResult completed, boolean priceChanged) {}
+
+  private record TossHttpResponse(int statusCode, Map<String, Object> body) {
+    boolean isSuccess() {
+      return statusCode == HttpStatus.OK.value();
+    }
+  }
 }
@@ -15,7 +15,7 @@ import org.springframework.data.repository.query.Param;
  * - Spring Data JPA가 메서드 이름 규칙을 해석해서 쿼리를 자동 생성한다.
  * - 기본 CRUD는 JpaRepository가 제공한다. (save, findById, delete 등)
  */
-public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+public interface OrderItemRepository extends JpaRepository<OrderItem, Long>, OrderItemRepositoryCustom {
 
   /**
    * 특정 주문(order_id)에 속한 주문 상품 목록을 조회한다.
@@ -0,0 +1,14 @@
+package com.deskit.deskit.order.repository;
+
+import com.deskit.deskit.order.entity.OrderItem;
+import java.util.List;
+
+public interface OrderItemRepositoryCustom {
+
+  /**
+   * 주문 상품을 multi-row INSERT 한 번으로 저장한다.
+   * - order_item 은 IDENTITY PK 라 JPA 배치 INSERT 가 동작하지 않으므로 jOOQ 로 직접 넣는다.
+   * - 영속성 컨텍스트에는 올라가지 않으므로 같은 트랜잭션에서 엔티티로 다시 다룰 필요가 없을 때만 사용한다.
+   */
+  int insertAll(List<OrderItem> items);
+}
@@ -0,0 +1,67 @@
+package com.deskit.deskit.order.repository;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+
+import com.deskit.deskit.order.entity.OrderItem;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertValuesStep10;
+import org.jooq.Record;
+import org.jooq.Table;
+
+@RequiredArgsConstructor
+public class OrderItemRepositoryImpl implements OrderItemRepositoryCustom {
+
+  private static final Table<Record> ORDER_ITEM = table(name("order_item"));
+  private static final Field<Long> ORDER_ID = field(name("order_id"), Long.class);
+  private static final Field<Long> PRODUCT_ID = field(name("product_id"), Long.class);
+  private static final Field<Long> SELLER_ID = field(name("seller_id"), Long.class);
+  private static final Field<String> PRODUCT_NAME = field(name("product_name"), String.class);
+  private static final Field<Integer> UNIT_PRICE = field(name("unit_price"), Integer.class);
+  private static final Field<Integer> QUANTITY = field(name("quantity"), Integer.class);
+  private static final Field<Integer> SUBTOTAL_PRICE = field(name("subtotal_price"), Integer.class);
+  private static final Field<Long> PRICE_EPOCH = field(name("price_epoch"), Long.class);
+  private static final Field<LocalDateTime> CREATED_AT = field(name("created_at"), LocalDateTime.class);
+  private static final Field<LocalDateTime> UPDATED_AT = field(name("updated_at"), LocalDateTime.class);
+
+  private final DSLContext dsl;
+
+  @Override
+  public int insertAll(List<OrderItem> items) {
+    if (items == null || items.isEmpty()) {
+      return 0;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    InsertValuesStep10<Record, Long, Long, Long, String, Integer, Integer, Integer, Long, LocalDateTime, LocalDateTime>
+      insert =
+      dsl.insertInto(ORDER_ITEM,
+        ORDER_ID, PRODUCT_ID, SELLER_ID, PRODUCT_NAME, UNIT_PRICE,
+        QUANTITY, SUBTOTAL_PRICE, PRICE_EPOCH, CREATED_AT, UPDATED_AT);
+    for (OrderItem item : items) {
+      insert = insert.values(
+        item.getOrder().getId(),
+        item.getProductId(),
+        item.getSellerId(),
+        item.getProductName(),
+        item.getUnitPrice(),
+        item.getQuantity(),
+        item.getSubtotalPrice(),
+        item.getPriceEpoch(),
+        createdAtOf(item, now),
+        now
+      );
+    }
+    return insert.execute();
+  }
+
+  // 판매자 주문 keyset 조회(idx_order_item_seller_created)가 주문 순서를 그대로 따르도록 주문 생성 시각을 쓴다.
+  private static LocalDateTime createdAtOf(OrderItem item, LocalDateTime fallback) {
+    LocalDateTime orderCreatedAt = item.getOrder().getCreatedAt();
+    return orderCreatedAt != null ? orderCreatedAt : fallback;
+  }
+}
@@ -36,6 +36,34 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
    */
   List<Order> findByMemberIdAndDeletedAtIsNullOrderByCreatedAtDesc(Long memberId);
 
+  /**
+   * 회원 주문 목록 keyset 페이지 (created_at desc, order_id desc)
+   * - 첫 페이지는 findMemberOrdersFirstPage, 이후는 직전 페이지 마지막 (createdAt, id) 기준으로 이어서 조회한다.
+   * - limit 은 Pageable(page=0, size=n+1)로 넘기고 count 쿼리는 만들지 않는다.
+   * - idx_order_member_created (member_id, deleted_at, created_at, order_id) 사용
+   */
+  @Query("""
+      select o from Order o
+      where o.memberId = :memberId
+        and o.deletedAt is null
+      order by o.createdAt desc, o.id desc
+      """)
+  List<Order> findMemberOrdersFirstPage(@Param("memberId") Long memberId, Pageable pageable);
+
+  @Query("""
+      select o from Order o
+      where o.memberId = :memberId
+        and o.deletedAt is null
+        and (o.createdAt < :createdAt or (o.createdAt = :createdAt and o.id < :orderId))
+      order by o.createdAt desc, o.id desc
+      """)
+  List<Order> findMemberOrdersAfter(@Param("memberId") Long memberId,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("orderId") Long orderId,
+                                    Pageable pageable);
+
+  long countByMemberIdAndDeletedAtIsNull(Long memberId);
+
   @Lock(LockModeType.PESSIMISTIC_WRITE)
   @Query("select o from Order o where o.id = :id")
   Optional<Order> findByIdForUpdate(@Param("id") Long id);
@@ -46,6 +74,11 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
   Optional<Order> findByIdAndDeletedAtIsNull(Long id);
 
+  /**
+   * PG 승인 결과가 반영되지 않은 채 남은 주문(PAYMENT_PENDING) 조회. 결제 복구 스케줄러에서 사용한다.
+   */
+  List<Order> findTop50ByStatusAndUpdatedAtBeforeOrderByUpdatedAtAsc(OrderStatus status, LocalDateTime before);
+
   @Modifying(flushAutomatically = true, clearAutomatically = true)
   @Query("""
       update Order o
@@ -134,4 +167,66 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
   Page<Order> findSellerOrders(@Param("sellerId") Long sellerId,
                                @Param("status") OrderStatus status,
                                Pageable pageable);
+
+  /**
+   * 판매자 주문 목록 keyset 페이지 (created_at desc, order_id desc) - 주문 id/시각만 돌려준다.
+   * - order_item 의 idx_order_item_seller_created (seller_id, deleted_at, created_at, order_id) 를
+   *   판매자 범위 안에서 최신순으로 따라가다 limit 에서 멈춘다. (전체 주문을 훑으며 판매자 상품을 찾지 않음)
+   * - order_item.created_at 은 주문 생성 시각을 그대로 저장한다. (OrderItemRepositoryImpl.insertAll)
+   * - 한 주문에 판매자 상품이 여럿이면 GROUP BY 로 한 번만 센다. 상태/삭제 조건은 PK 조인으로 확인한다.
+   */
+  @Query(value = """
+      SELECT oi.order_id AS orderId, oi.created_at AS createdAt
+      FROM order_item oi
+      JOIN `order` o
+          ON o.order_id = oi.order_id
+          AND o.deleted_at IS NULL
+          AND (:status IS NULL OR o.status = :status)
+      WHERE oi.seller_id = :sellerId
+        AND oi.deleted_at IS NULL
+      GROUP BY oi.created_at, oi.order_id
+      ORDER BY oi.created_at DESC, oi.order_id DESC
+      LIMIT :limit
+      """, nativeQuery = true)
+  List<SellerOrderKeyRow> findSellerOrderKeysFirstPage(@Param("sellerId") Long sellerId,
+                                                       @Param("status") String status,
+                                                       @Param("limit") int limit);
+
+  @Query(value = """
+      SELECT oi.order_id AS orderId, oi.created_at AS createdAt
+      FROM order_item oi
+      JOIN `order` o
+          ON o.order_id = oi.order_id
+          AND o.deleted_at IS NULL
+          AND (:status IS NULL OR o.status = :status)
+      WHERE oi.seller_id = :sellerId
+        AND oi.deleted_at IS NULL
+        AND (oi.created_at < :createdAt OR (oi.created_at = :createdAt AND oi.order_id < :orderId))
+      GROUP BY oi.created_at, oi.order_id
+      ORDER BY oi.created_at DESC, oi.order_id DESC
+      LIMIT :limit
+      """, nativeQuery = true)
+  List<SellerOrderKeyRow> findSellerOrderKeysAfter(@Param("sellerId") Long sellerId,
+                                                   @Param("status") String status,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("orderId") Long orderId,
+                                                   @Param("limit") int limit);
+
+  @Query("""
+      select count(o) from Order o
+      where o.deletedAt is null
+        and (:status is null or o.status = :status)
+        and exists (
+          select 1 from OrderItem oi
+          where oi.order = o
+            and oi.sellerId = :sellerId
+            and oi.deletedAt is null
+        )
+      """)
+  long countSellerOrders(@Param("sellerId") Long sellerId, @Param("status") OrderStatus status);
+
+  interface SellerOrderKeyRow {
+    Long getOrderId();
+    LocalDateTime getCreatedAt();
+  }
 }
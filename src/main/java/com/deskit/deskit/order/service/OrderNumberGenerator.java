@@ -0,0 +1,174 @@
+package com.deskit.deskit.order.service;
+
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문번호 생성기 (Snowflake 방식: 41bit 시각(ms) | 10bit 노드 | 12bit 시퀀스)
+ *
+ * - "ORD-" + 64bit 값(10진수) 형태. Toss orderId 규칙(6~64자, 영숫자/-/_)을 만족한다.
+ * - 노드 안에서는 (시각, 시퀀스)를 AtomicLong 하나에 담아 CAS 로 증가시키므로 락 없이 단조 증가한다.
+ *   같은 ms 에 4096 개를 넘기거나 시계가 뒤로 가면 시각 부분을 앞당겨 계속 증가시킨다. (대기하지 않음)
+ * - 노드 ID: order.number.node-id 설정값, 없으면 Redis 에서 임대한다.
+ *   order:number:node:{id} 를 SET NX + TTL 로 잡고 주기적으로 연장한다. 비어 있는 번호가 없거나
+ *   Redis 에 연결할 수 없으면 기동을 실패시킨다. (겹칠 수 있는 번호로 발급하지 않는다)
+ *   연장 시 임대를 잃었으면 새 번호를 다시 임대해 바꾼다.
+ */
+@Slf4j
+@Component
+public class OrderNumberGenerator {
+
+  static final long EPOCH_MILLIS = 1704067200000L; // 2024-01-01T00:00:00Z
+  static final int NODE_BITS = 10;
+  static final int SEQUENCE_BITS = 12;
+  static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+  static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+  private static final String PREFIX = "ORD-";
+  private static final String NODE_SEQUENCE_KEY = "order:number:node-seq";
+  private static final String NODE_LEASE_KEY_PREFIX = "order:number:node:";
+
+  // 내 임대일 때만 TTL 연장 (1) / 다른 노드 소유면 0 / 만료돼 비어 있으면 다시 잡고 1
+  private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+      local owner = redis.call('GET', KEYS[1])
+      if owner == ARGV[1] then
+          redis.call('PEXPIRE', KEYS[1], ARGV[2])
+          return 1
+      end
+      if not owner then
+          redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+          return 1
+      end
+      return 0
+      """, Long.class);
+
+  private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+          return redis.call('DEL', KEYS[1])
+      end
+      return 0
+      """, Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final String leaseOwner;
+  private final Duration leaseTtl;
+  private volatile long nodeId;
+  private final LongSupplier clock;
+  // (epoch 이후 ms << SEQUENCE_BITS) | sequence
+  private final AtomicLong lastState = new AtomicLong();
+
+  @Autowired
+  public OrderNumberGenerator(
+    RedisTemplate<String, String> redisTemplate,
+    @Value("${order.number.node-id:-1}") long configuredNodeId,
+    @Value("${order.number.node-lease-ttl-ms:60000}") long leaseTtlMillis
+  ) {
+    this.redisTemplate = configuredNodeId >= 0 ? null : redisTemplate;
+    this.leaseOwner = UUID.randomUUID() + "@" + ManagementFactory.getRuntimeMXBean().getName();
+    this.leaseTtl = Duration.ofMillis(Math.max(10000L, leaseTtlMillis));
+    this.nodeId = configuredNodeId >= 0 ? checkNodeId(configuredNodeId) : leaseNodeId();
+    this.clock = System::currentTimeMillis;
+  }
+
+  OrderNumberGenerator(long nodeId, LongSupplier clock) {
+    this.redisTemplate = null;
+    this.leaseOwner = null;
+    this.leaseTtl = null;
+    this.nodeId = checkNodeId(nodeId);
+    this.clock = clock;
+  }
+
+  public String nextOrderNumber() {
+    return PREFIX + nextId();
+  }
+
+  public long nextId() {
+    long floor = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+    long state = lastState.accumulateAndGet(floor, (previous, now) -> Math.max(previous + 1, now));
+    long timestamp = state >>> SEQUENCE_BITS;
+    return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | (state & SEQUENCE_MASK);
+  }
+
+  long getNodeId() {
+    return nodeId;
+  }
+
+  /**
+   * TTL 의 1/3 주기로 임대를 연장한다. 다른 노드가 가져갔으면 새 번호를 임대한다.
+   */
+  @Scheduled(fixedDelayString = "${order.number.node-lease-renew-ms:20000}")
+  public void renewNodeLease() {
+    if (redisTemplate == null) {
+      return;
+    }
+    try {
+      Long renewed = redisTemplate.execute(
+        RENEW_SCRIPT, List.of(leaseKey(nodeId)), leaseOwner, String.valueOf(leaseTtl.toMillis()));
+      if (Long.valueOf(1L).equals(renewed)) {
+        return;
+      }
+      long previous = nodeId;
+      nodeId = leaseNodeId();
+      log.error("order.number node lease lost, re-leased: previousNodeId={}, nodeId={}", previous, nodeId);
+    } catch (Exception ex) {
+      // TTL 안에 다시 연장되면 그대로 유지된다.
+      log.warn("order.number node lease renew failed: nodeId={}, reason={}", nodeId, ex.getMessage());
+    }
+  }
+
+  @PreDestroy
+  public void releaseNodeLease() {
+    if (redisTemplate == null) {
+      return;
+    }
+    try {
+      redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey(nodeId)), leaseOwner);
+    } catch (Exception ex) {
+      log.warn("order.number node lease release failed: nodeId={}, reason={}", nodeId, ex.getMessage());
+    }
+  }
+
+  // INCR 값에서 시작해 비어 있는 번호를 SET NX 로 잡는다.
+  private long leaseNodeId() {
+    Long sequence;
+    try {
+      sequence = redisTemplate.opsForValue().increment(NODE_SEQUENCE_KEY);
+    } catch (Exception ex) {
+      throw new IllegalStateException("order number node id lease failed: redis unavailable", ex);
+    }
+    long start = sequence == null ? 0L : Math.floorMod(sequence, MAX_NODE_ID + 1);
+    for (long offset = 0; offset <= MAX_NODE_ID; offset++) {
+      long candidate = (start + offset) & MAX_NODE_ID;
+      Boolean leased = redisTemplate.opsForValue().setIfAbsent(leaseKey(candidate), leaseOwner, leaseTtl);
+      if (Boolean.TRUE.equals(leased)) {
+        log.info("order.number node id leased: nodeId={}, ttlMs={}", candidate, leaseTtl.toMillis());
+        return candidate;
+      }
+    }
+    throw new IllegalStateException("order number node id lease failed: all " + (MAX_NODE_ID + 1) + " ids in use");
+  }
+
+  private static long checkNodeId(long nodeId) {
+    if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+      throw new IllegalArgumentException("node id must be between 0 and " + MAX_NODE_ID);
+    }
+    return nodeId;
+  }
+
+  private static String leaseKey(long nodeId) {
+    return NODE_LEASE_KEY_PREFIX + nodeId;
+  }
+}
@@ -1,25 +1,31 @@
 package com.deskit.deskit.order.service;
 
-import com.deskit.deskit.account.repository.MemberRepository;
+import com.deskit.deskit.account.service.MemberIdentityCache;
 import com.deskit.deskit.account.address.service.AddressService;
 import com.deskit.deskit.order.dto.OrderCancelRequest;
 import com.deskit.deskit.order.dto.OrderCancelResponse;
 import com.deskit.deskit.order.dto.CreateOrderItemRequest;
 import com.deskit.deskit.order.dto.CreateOrderRequest;
 import com.deskit.deskit.order.dto.CreateOrderResponse;
+import com.deskit.deskit.order.dto.OrderCursor;
+import com.deskit.deskit.order.dto.OrderCursorPageResponse;
 import com.deskit.deskit.order.dto.OrderDetailResponse;
 import com.deskit.deskit.order.dto.OrderItemResponse;
 import com.deskit.deskit.order.dto.OrderSummaryResponse;
 import com.deskit.deskit.order.entity.Order;
 import com.deskit.deskit.order.entity.OrderItem;
+import com.deskit.deskit.order.event.OrderSalesChangedEvent;
 import com.deskit.deskit.order.enums.OrderStatus;
 import com.deskit.deskit.order.payment.service.TossPaymentService;
 import com.deskit.deskit.order.repository.OrderItemRepository;
 import com.deskit.deskit.order.repository.OrderRepository;
 import com.deskit.deskit.livehost.repository.BroadcastProductRepository;
+import com.deskit.deskit.livehost.service.BroadcastSalesCounter;
 import com.deskit.deskit.livehost.service.BroadcastService;
 import com.deskit.deskit.product.entity.Product;
 import com.deskit.deskit.product.repository.ProductRepository;
+import com.deskit.deskit.product.service.ProductCatalogCache;
+import com.deskit.deskit.product.service.ProductPriceEpochService;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -27,15 +33,22 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -45,16 +58,23 @@ public class OrderService {
   private final OrderItemRepository orderItemRepository;
   private final ProductRepository productRepository;
   private final BroadcastProductRepository broadcastProductRepository;
-  private final MemberRepository memberRepository;
+  private final MemberIdentityCache memberIdentityCache;
   private final TossPaymentService tossPaymentService;
   private final BroadcastService broadcastService;
+  private final BroadcastSalesCounter broadcastSalesCounter;
   private final AddressService addressService;
+  private final StockReservationService stockReservationService;
+  private final TransactionTemplate transactionTemplate;
+  private final OrderNumberGenerator orderNumberGenerator;
+  private final ProductPriceEpochService productPriceEpochService;
+  private final ProductCatalogCache productCatalogCache;
+  private final ApplicationEventPublisher eventPublisher;
 
   public CreateOrderResponse createOrder(Long memberId, CreateOrderRequest request) {
     if (memberId == null) {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "member_id required");
     }
-    if (!memberRepository.existsById(memberId)) {
+    if (!memberIdentityCache.exists(memberId)) {
       throw new ResponseStatusException(HttpStatus.NOT_FOUND, "member not found");
     }
     if (request == null) {
@@ -86,33 +106,49 @@ public class OrderService {
     List<Long> productIds = new ArrayList<>(quantityByProductId.keySet());
     Collections.sort(productIds);
 
+    // 가격 epoch 는 상품/특가 조회보다 먼저 읽는다. (사이에 가격이 바뀌면 결제 승인 때 다시 검증됨)
+    Map<Long, Long> priceEpochs = productPriceEpochService.currentEpochs(productIds);
+
+    String orderNumber = generateOrderNumber();
     Map<Long, Product> productsById = new HashMap<>();
-    for (Long productId : productIds) {
-      Product product = productRepository.findByIdForUpdateAndStatus(productId, Product.Status.ON_SALE)
-        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "product not found"));
-      int requestedQty = quantityByProductId.get(productId);
-      Integer stockQty = product.getStockQty();
-      int currentStock = stockQty == null ? 0 : stockQty;
-      if (currentStock < requestedQty) {
-        throw new ResponseStatusException(HttpStatus.CONFLICT, "insufficient stock: product_id=" + productId);
+    if (stockReservationService.isEnabled()) {
+      // 재고 예약 모드: product row lock 없이 Redis 카운터에서 차감, DB 반영은 결제 확정 이후
+      for (Long productId : productIds) {
+        Product product = productRepository.findByIdAndStatusAndDeletedAtIsNull(productId, Product.Status.ON_SALE)
+          .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "product not found"));
+        productsById.put(productId, product);
+      }
+      stockReservationService.reserve(orderNumber, quantityByProductId);
+    } else {
+      for (Long productId : productIds) {
+        Product product = productRepository.findByIdForUpdateAndStatus(productId, Product.Status.ON_SALE)
+          .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "product not found"));
+        int requestedQty = quantityByProductId.get(productId);
+        Integer stockQty = product.getStockQty();
+        int currentStock = stockQty == null ? 0 : stockQty;
+        if (currentStock < requestedQty) {
+          throw new ResponseStatusException(HttpStatus.CONFLICT, "insufficient stock: product_id=" + productId);
+        }
+        product.decreaseStock(requestedQty);
+        productsById.put(productId, product);
       }
-      product.decreaseStock(requestedQty);
-      broadcastService.restoreCostPriceIfSoldOut(productId);
-      productsById.put(productId, product);
+      productCatalogCache.stockChangedAfterCommit(productIds);
     }
+    // 라이브 특가 소진 시 원가 복구는 주문 트랜잭션(상품 row lock) 밖에서 처리
+    restoreCostPricesAfterCommit(productIds);
 
+    Map<Long, Integer> livePrices = resolveLivePrices(productIds);
     int totalProductAmount = 0;
     for (CreateOrderItemRequest item : items) {
       int quantity = safeQuantity(item.quantity());
       Product product = productsById.get(item.productId());
-      int unitPrice = resolveCurrentPrice(product);
+      int unitPrice = resolveCurrentPrice(product, livePrices);
       totalProductAmount += unitPrice * quantity;
     }
 
     int shippingFee = totalProductAmount >= 50000 ? 0 : 3000;
     int discountFee = 0;
     int orderAmount = totalProductAmount - discountFee + shippingFee;
-    String orderNumber = generateOrderNumber();
 
     Order order = Order.create(
       memberId,
@@ -127,22 +163,24 @@ public class OrderService {
     Order savedOrder = orderRepository.save(order);
     addressService.saveAddressFromOrder(memberId, receiver, postcode, addrDetail, request.isDefault());
 
+    List<OrderItem> orderItems = new ArrayList<>(items.size());
     for (CreateOrderItemRequest item : items) {
       int quantity = safeQuantity(item.quantity());
       Product product = productsById.get(item.productId());
-      int unitPrice = resolveCurrentPrice(product);
+      int unitPrice = resolveCurrentPrice(product, livePrices);
       int subtotal = unitPrice * quantity;
-      OrderItem orderItem = OrderItem.create(
+      orderItems.add(OrderItem.create(
         savedOrder,
         product.getId(),
         product.getSellerId(),
         product.getProductName(),
         unitPrice,
         quantity,
-        subtotal
-      );
-      orderItemRepository.save(orderItem);
+        subtotal,
+        priceEpochs.get(product.getId())
+      ));
     }
+    orderItemRepository.insertAll(orderItems);
 
     return new CreateOrderResponse(
       savedOrder.getId(),
@@ -152,14 +190,21 @@ public class OrderService {
     );
   }
 
-  int resolveCurrentPrice(Product product) {
+  // 방송 중(ON_AIR) 라이브 특가를 상품 단위로 한 번에 조회
+  private Map<Long, Integer> resolveLivePrices(List<Long> productIds) {
+    return broadcastProductRepository.findLiveBpPrices(productIds).stream()
+      .collect(Collectors.toMap(
+        BroadcastProductRepository.LivePriceRow::getProductId,
+        BroadcastProductRepository.LivePriceRow::getBpPrice,
+        (left, right) -> left
+      ));
+  }
+
+  int resolveCurrentPrice(Product product, Map<Long, Integer> livePrices) {
     if (product == null) {
       return 0;
     }
-    Integer livePrice = broadcastProductRepository.findLiveBpPriceByProductId(product.getId())
-      .stream()
-      .findFirst()
-      .orElse(null);
+    Integer livePrice = livePrices.get(product.getId());
     return livePrice != null ? livePrice : product.getPrice();
   }
 
@@ -168,7 +213,7 @@ public class OrderService {
     if (memberId == null) {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "member_id required");
     }
-    if (!memberRepository.existsById(memberId)) {
+    if (!memberIdentityCache.exists(memberId)) {
       throw new ResponseStatusException(HttpStatus.NOT_FOUND, "member not found");
     }
 
@@ -178,12 +223,47 @@ public class OrderService {
       .collect(Collectors.toList());
   }
 
+  @Transactional(readOnly = true)
+  public OrderCursorPageResponse<OrderSummaryResponse> getMyOrdersPage(
+    Long memberId,
+    String cursor,
+    int size,
+    boolean includeTotal
+  ) {
+    if (memberId == null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "member_id required");
+    }
+    if (!memberIdentityCache.exists(memberId)) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "member not found");
+    }
+
+    int pageSize = normalizePageSize(size);
+    OrderCursor after = OrderCursor.decode(cursor);
+    // 다음 페이지 존재 여부 확인용으로 한 건 더 조회
+    PageRequest limit = PageRequest.of(0, pageSize + 1);
+    List<Order> orders = after == null
+      ? orderRepository.findMemberOrdersFirstPage(memberId, limit)
+      : orderRepository.findMemberOrdersAfter(memberId, after.createdAt(), after.orderId(), limit);
+
+    boolean hasNext = orders.size() > pageSize;
+    List<Order> page = hasNext ? orders.subList(0, pageSize) : orders;
+    String nextCursor = hasNext ? toCursor(page.get(page.size() - 1)) : null;
+    Long totalCount = includeTotal ? orderRepository.countByMemberIdAndDeletedAtIsNull(memberId) : null;
+
+    return new OrderCursorPageResponse<>(
+      page.stream().map(OrderSummaryResponse::from).toList(),
+      nextCursor,
+      hasNext,
+      totalCount
+    );
+  }
+
   @Transactional(readOnly = true)
   public OrderDetailResponse getMyOrderDetail(Long memberId, Long orderId) {
     if (memberId == null) {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "member_id required");
     }
-    if (!memberRepository.existsById(memberId)) {
+    if (!memberIdentityCache.exists(memberId)) {
       throw new ResponseStatusException(HttpStatus.NOT_FOUND, "member not found");
     }
     if (orderId == null) {
@@ -208,7 +288,7 @@ public class OrderService {
     if (memberId == null) {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "member_id required");
     }
-    if (!memberRepository.existsById(memberId)) {
+    if (!memberIdentityCache.exists(memberId)) {
       throw new ResponseStatusException(HttpStatus.NOT_FOUND, "member not found");
     }
     if (orderId == null) {
@@ -229,14 +309,20 @@ public class OrderService {
     int updated = orderRepository.markCreatedOrderDeleted(orderId, memberId, now);
     if (updated > 0) {
       orderItemRepository.markDeletedByOrderId(orderId, now);
+      releaseStockHold(order);
     }
   }
 
+  /**
+   * 상태 변경은 짧은 트랜잭션으로 나누고, Toss 환불 API 호출은 트랜잭션 밖에서 한다.
+   * (PG 응답을 기다리는 동안 주문 row lock 과 DB 커넥션을 잡지 않도록)
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public OrderCancelResponse requestCancel(Long memberId, Long orderId, OrderCancelRequest request) {
     if (memberId == null) {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "member_id required");
     }
-    if (!memberRepository.existsById(memberId)) {
+    if (!memberIdentityCache.exists(memberId)) {
       throw new ResponseStatusException(HttpStatus.NOT_FOUND, "member not found");
     }
     if (orderId == null) {
@@ -261,7 +347,14 @@ public class OrderService {
     }
 
     if (order.getStatus() == OrderStatus.CREATED) {
-      int updated = orderRepository.cancelCreatedOrder(orderId, memberId, reason, LocalDateTime.now());
+      Order created = order;
+      int updated = transactionTemplate.execute(status -> {
+        int changed = orderRepository.cancelCreatedOrder(orderId, memberId, reason, LocalDateTime.now());
+        if (changed > 0) {
+          releaseStockHold(created);
+        }
+        return changed;
+      });
       Order latest = loadOwnedOrder(memberId, orderId);
       if (updated == 0 && !isFinalizedCancelState(latest.getStatus())) {
         throw new ResponseStatusException(HttpStatus.CONFLICT, "cancel state changed");
@@ -270,7 +363,14 @@ public class OrderService {
     }
 
     if (order.getStatus() == OrderStatus.PAID) {
-      int updated = orderRepository.requestRefundForPaidOrder(orderId, memberId, reason);
+      int updated = transactionTemplate.execute(status -> {
+        int changed = orderRepository.requestRefundForPaidOrder(orderId, memberId, reason);
+        if (changed > 0) {
+          broadcastSalesCounter.recordRefunded(orderId, loadOwnedOrder(memberId, orderId).getPaidAt());
+          eventPublisher.publishEvent(OrderSalesChangedEvent.refunded(orderId));
+        }
+        return changed;
+      });
       Order latest = loadOwnedOrder(memberId, orderId);
       if (updated == 0 && latest.getStatus() != OrderStatus.REFUND_REQUESTED && latest.getStatus() != OrderStatus.REFUNDED) {
         throw new ResponseStatusException(HttpStatus.CONFLICT, "cancel state changed");
@@ -292,11 +392,11 @@ public class OrderService {
       throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "toss cancel failed", ex);
     }
 
-    orderRepository.approveRefundRequest(orderId, memberId, LocalDateTime.now());
-    Order afterRefund = loadOwnedOrder(memberId, orderId);
-    if (afterRefund.getStatus() == OrderStatus.REFUNDED) {
-      updateBroadcastSalesAfterRefund(afterRefund);
-    }
+    // 방송 매출 반영은 환불 요청 시 발행한 OrderSalesChangedEvent 로 비동기 처리된다.
+    Order afterRefund = transactionTemplate.execute(status -> {
+      orderRepository.approveRefundRequest(orderId, memberId, LocalDateTime.now());
+      return loadOwnedOrder(memberId, orderId);
+    });
     return new OrderCancelResponse(afterRefund.getId(), afterRefund.getStatus());
   }
 
@@ -314,29 +414,15 @@ public class OrderService {
             || status == OrderStatus.REFUNDED;
   }
 
-  private void updateBroadcastSalesAfterRefund(Order order) {
-    if (order == null) {
-      return;
-    }
-    LocalDateTime paidAt = order.getPaidAt();
-    if (paidAt == null) {
-      return;
-    }
-    List<OrderItem> items = orderItemRepository.findByOrder_Id(order.getId());
-    if (items.isEmpty()) {
-      return;
-    }
-    List<Long> productIds = items.stream()
-            .map(OrderItem::getProductId)
-            .distinct()
-            .toList();
-    if (productIds.isEmpty()) {
-      return;
-    }
-    List<Long> broadcastIds = broadcastProductRepository.findBroadcastIdsByProductIdsAndPaidAt(productIds, paidAt);
-    for (Long broadcastId : broadcastIds) {
-      broadcastService.refreshBroadcastTotalSales(broadcastId);
+  static int normalizePageSize(int size) {
+    if (size < 1) {
+      return 20;
     }
+    return Math.min(size, 100);
+  }
+
+  static String toCursor(Order order) {
+    return new OrderCursor(order.getCreatedAt(), order.getId()).encode();
   }
 
   private int safeQuantity(Integer quantity) {
@@ -370,9 +456,30 @@ public class OrderService {
     return normalized.length() > 255 ? normalized.substring(0, 255) : normalized;
   }
 
+  private void restoreCostPricesAfterCommit(List<Long> productIds) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      broadcastService.restoreCostPricesIfSoldOut(productIds);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        try {
+          broadcastService.restoreCostPricesIfSoldOut(productIds);
+        } catch (RuntimeException ex) {
+          log.warn("order.create restore cost price failed: productIds={}, reason={}", productIds, ex.getMessage());
+        }
+      }
+    });
+  }
+
+  private void releaseStockHold(Order order) {
+    if (stockReservationService.isEnabled()) {
+      stockReservationService.releaseAfterCommit(order.getOrderNumber());
+    }
+  }
+
   private String generateOrderNumber() {
-    long now = System.currentTimeMillis();
-    int suffix = ThreadLocalRandom.current().nextInt(1000, 10000);
-    return "ORD-" + now + "-" + suffix;
+    return orderNumberGenerator.nextOrderNumber();
   }
 }
@@ -1,5 +1,7 @@
 package com.deskit.deskit.order.service;
 
+import com.deskit.deskit.order.dto.OrderCursor;
+import com.deskit.deskit.order.dto.OrderCursorPageResponse;
 import com.deskit.deskit.order.dto.OrderItemResponse;
 import com.deskit.deskit.order.dto.SellerOrderDetailResponse;
 import com.deskit.deskit.order.dto.SellerOrderSummaryResponse;
@@ -8,6 +10,8 @@ import com.deskit.deskit.order.entity.OrderItem;
 import com.deskit.deskit.order.enums.OrderStatus;
 import com.deskit.deskit.order.repository.OrderItemRepository;
 import com.deskit.deskit.order.repository.OrderRepository;
+import com.deskit.deskit.order.repository.OrderRepository.SellerOrderKeyRow;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -49,31 +53,43 @@ public class SellerOrderService {
       return orders.map(order -> SellerOrderSummaryResponse.from(order, 0, null));
     }
 
-    List<Long> orderIds = content.stream()
-      .map(Order::getId)
-      .filter(id -> id != null)
-      .toList();
-    if (orderIds.isEmpty()) {
-      return orders.map(order -> SellerOrderSummaryResponse.from(order, 0, null));
-    }
+    Map<Long, List<OrderItem>> itemsByOrderId = loadSellerItems(sellerId, content);
+    return orders.map(order -> toSummary(order, itemsByOrderId));
+  }
 
-    List<OrderItem> items =
-      orderItemRepository.findByOrder_IdInAndSellerIdAndDeletedAtIsNullOrderByIdAsc(orderIds, sellerId);
-    Map<Long, List<OrderItem>> itemsByOrderId = new HashMap<>();
-    for (OrderItem item : items) {
-      Long orderId = item.getOrder() == null ? null : item.getOrder().getId();
-      if (orderId == null) {
-        continue;
-      }
-      itemsByOrderId.computeIfAbsent(orderId, key -> new java.util.ArrayList<>()).add(item);
+  public OrderCursorPageResponse<SellerOrderSummaryResponse> getSellerOrdersPage(
+    Long sellerId,
+    OrderStatus status,
+    String cursor,
+    int size,
+    boolean includeTotal
+  ) {
+    if (sellerId == null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "seller_id required");
     }
 
-    return orders.map(order -> {
-      List<OrderItem> orderItems = itemsByOrderId.getOrDefault(order.getId(), Collections.emptyList());
-      int itemCount = orderItems.size();
-      String firstProductName = orderItems.isEmpty() ? null : orderItems.get(0).getProductName();
-      return SellerOrderSummaryResponse.from(order, itemCount, firstProductName);
-    });
+    int pageSize = OrderService.normalizePageSize(size);
+    OrderCursor after = OrderCursor.decode(cursor);
+    String statusName = status == null ? null : status.name();
+    List<SellerOrderKeyRow> keys = after == null
+      ? orderRepository.findSellerOrderKeysFirstPage(sellerId, statusName, pageSize + 1)
+      : orderRepository.findSellerOrderKeysAfter(sellerId, statusName, after.createdAt(), after.orderId(), pageSize + 1);
+
+    boolean hasNext = keys.size() > pageSize;
+    List<SellerOrderKeyRow> pageKeys = hasNext ? keys.subList(0, pageSize) : keys;
+    List<Order> page = loadInKeyOrder(pageKeys);
+    Map<Long, List<OrderItem>> itemsByOrderId = loadSellerItems(sellerId, page);
+    // 커서는 조회에 쓴 order_item 키 그대로 만든다.
+    SellerOrderKeyRow last = hasNext ? pageKeys.get(pageKeys.size() - 1) : null;
+    String nextCursor = last != null ? new OrderCursor(last.getCreatedAt(), last.getOrderId()).encode() : null;
+    Long totalCount = includeTotal ? orderRepository.countSellerOrders(sellerId, status) : null;
+
+    return new OrderCursorPageResponse<>(
+      page.stream().map(order -> toSummary(order, itemsByOrderId)).toList(),
+      nextCursor,
+      hasNext,
+      totalCount
+    );
   }
 
   public SellerOrderDetailResponse getSellerOrderDetail(Long sellerId, Long orderId) {
@@ -99,4 +115,51 @@ public class SellerOrderService {
 
     return SellerOrderDetailResponse.from(order, items);
   }
+
+  private List<Order> loadInKeyOrder(List<SellerOrderKeyRow> keys) {
+    if (keys.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, Order> ordersById = new HashMap<>();
+    for (Order order : orderRepository.findAllById(keys.stream().map(SellerOrderKeyRow::getOrderId).toList())) {
+      ordersById.put(order.getId(), order);
+    }
+    List<Order> orders = new ArrayList<>(keys.size());
+    for (SellerOrderKeyRow key : keys) {
+      Order order = ordersById.get(key.getOrderId());
+      if (order != null) {
+        orders.add(order);
+      }
+    }
+    return orders;
+  }
+
+  private Map<Long, List<OrderItem>> loadSellerItems(Long sellerId, List<Order> orders) {
+    List<Long> orderIds = orders.stream()
+      .map(Order::getId)
+      .filter(id -> id != null)
+      .toList();
+    if (orderIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    List<OrderItem> items =
+      orderItemRepository.findByOrder_IdInAndSellerIdAndDeletedAtIsNullOrderByIdAsc(orderIds, sellerId);
+    Map<Long, List<OrderItem>> itemsByOrderId = new HashMap<>();
+    for (OrderItem item : items) {
+      Long orderId = item.getOrder() == null ? null : item.getOrder().getId();
+      if (orderId == null) {
+        continue;
+      }
+      itemsByOrderId.computeIfAbsent(orderId, key -> new java.util.ArrayList<>()).add(item);
+    }
+    return itemsByOrderId;
+  }
+
+  private SellerOrderSummaryResponse toSummary(Order order, Map<Long, List<OrderItem>> itemsByOrderId) {
+    List<OrderItem> orderItems = itemsByOrderId.getOrDefault(order.getId(), Collections.emptyList());
+    int itemCount = orderItems.size();
+    String firstProductName = orderItems.isEmpty() ? null : orderItems.get(0).getProductName();
+    return SellerOrderSummaryResponse.from(order, itemCount, firstProductName);
+  }
 }
@@ -0,0 +1,424 @@
+package com.deskit.deskit.order.service;
+
+import com.deskit.deskit.livehost.service.RedisService;
+import com.deskit.deskit.product.repository.ProductRepository;
+import com.deskit.deskit.product.service.ProductCatalogCache;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 라이브 특가 등 동시 주문용 재고 예약 (order.stock.reservation.enabled=true 일 때만 사용)
+ *
+ * - 주문 생성: Redis 재고 카운터(stock:{productId}:available)를 Lua 로 원자 차감하고 hold 를 남긴다.
+ *   product row lock(PESSIMISTIC_WRITE)을 잡지 않는다.
+ * - 결제 확정: hold 를 확정하면서 차감분을 stock:apply:pending 에 적재하고,
+ *   스케줄러가 상품별로 합쳐서 product.stock_qty 에 일괄 반영한다.
+ *   hold 가 이미 풀려 있으면(만료 등) 카운터에서 직접 차감하고 적재한다.
+ * - 주문 포기/취소/만료: hold 수량을 카운터에 되돌린다.
+ * - 카운터 = DB 재고 - 반영 대기분 - 살아 있는 hold. 적재와 판매자 재고 수정도 이 기준으로 맞춘다.
+ *   적재는 반영 락(lock:stock:apply)을 잡고 별도 트랜잭션으로 재고를 새로 읽는다.
+ *   (반영이 DB 를 깎고 대기분을 비우는 사이에 읽으면 같은 수량을 두 번 빼지 못해 재고가 부풀기 때문)
+ * - 재고보다 많이 확정된 상품(초과 판매)은 0 으로 깎지 않고 stock:apply:failed 로 옮겨 수동 정산한다.
+ */
+@Slf4j
+@Service
+public class StockReservationService {
+
+  private static final String HOLDS_KEY = "stock:holds";
+  private static final String PENDING_APPLY_KEY = "stock:apply:pending";
+  private static final String FAILED_APPLY_KEY = "stock:apply:failed";
+  private static final String APPLY_LOCK_KEY = "lock:stock:apply";
+  private static final String HOLD_KEY_PREFIX = "stock:hold:";
+  private static final String AVAILABLE_KEY_PREFIX = "stock:";
+  private static final String AVAILABLE_KEY_SUFFIX = ":available";
+  private static final long SEED_LOCK_WAIT_MILLIS = 3000L;
+  private static final long SEED_LOCK_LEASE_MILLIS = 10000L;
+
+  // KEYS: holds, hold hash, available...  ARGV: holdId, expireAt, (productId, quantity)...
+  private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+          return 0
+      end
+      local n = #KEYS - 2
+      for i = 1, n do
+          local available = tonumber(redis.call('GET', KEYS[i + 2]) or '-1')
+          if available < tonumber(ARGV[2 + i * 2]) then
+              return -i
+          end
+      end
+      for i = 1, n do
+          redis.call('DECRBY', KEYS[i + 2], ARGV[2 + i * 2])
+          redis.call('HSET', KEYS[2], ARGV[1 + i * 2], ARGV[2 + i * 2])
+      end
+      redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+      return 1
+      """, Long.class);
+
+  // KEYS: holds, hold hash, pending  ARGV: holdId, availableKeyPrefix, availableKeySuffix, (productId, quantity)...
+  // hold 가 없으면 넘겨받은 주문 수량으로 카운터를 직접 차감하고 2 를 돌려준다.
+  private static final RedisScript<Long> CONFIRM_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('ZREM', KEYS[1], ARGV[1]) == 1 then
+          local items = redis.call('HGETALL', KEYS[2])
+          for i = 1, #items, 2 do
+              redis.call('RPUSH', KEYS[3], items[i] .. ':' .. items[i + 1])
+          end
+          redis.call('DEL', KEYS[2])
+          return 1
+      end
+      for i = 4, #ARGV, 2 do
+          local available = ARGV[2] .. ARGV[i] .. ARGV[3]
+          if redis.call('EXISTS', available) == 1 then
+              redis.call('DECRBY', available, ARGV[i + 1])
+          end
+          redis.call('RPUSH', KEYS[3], ARGV[i] .. ':' .. ARGV[i + 1])
+      end
+      return 2
+      """, Long.class);
+
+  // KEYS: holds, hold hash  ARGV: holdId, availableKeyPrefix, availableKeySuffix
+  // 카운터가 없으면(아직 적재 전) 되돌리지 않는다. 적재 시 DB 재고 기준으로 다시 계산된다.
+  private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then
+          return 0
+      end
+      local items = redis.call('HGETALL', KEYS[2])
+      for i = 1, #items, 2 do
+          local available = ARGV[2] .. items[i] .. ARGV[3]
+          if redis.call('EXISTS', available) == 1 then
+              redis.call('INCRBY', available, items[i + 1])
+          end
+      end
+      redis.call('DEL', KEYS[2])
+      return 1
+      """, Long.class);
+
+  // KEYS: available, holds, pending  ARGV: DB 재고, productId, holdKeyPrefix
+  // DB 재고에서 살아 있는 hold 와 아직 DB 에 반영되지 않은 확정분을 뺀 값으로 적재한다.
+  private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 1 then
+          return 0
+      end
+      local available = tonumber(ARGV[1])
+      for _, holdId in ipairs(redis.call('ZRANGE', KEYS[2], 0, -1)) do
+          local held = redis.call('HGET', ARGV[3] .. holdId, ARGV[2])
+          if held then
+              available = available - tonumber(held)
+          end
+      end
+      local prefix = ARGV[2] .. ':'
+      for _, entry in ipairs(redis.call('LRANGE', KEYS[3], 0, -1)) do
+          if string.sub(entry, 1, #prefix) == prefix then
+              available = available - tonumber(string.sub(entry, #prefix + 1))
+          end
+      end
+      redis.call('SET', KEYS[1], available)
+      return 1
+      """, Long.class);
+
+  // KEYS: available  ARGV: delta (카운터가 없으면 다음 적재 때 DB 값을 쓰므로 건드리지 않는다)
+  private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+          return 0
+      end
+      redis.call('INCRBY', KEYS[1], ARGV[1])
+      return 1
+      """, Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisService redisService;
+  private final ProductRepository productRepository;
+  private final ProductCatalogCache productCatalogCache;
+  private final TransactionTemplate freshReadTemplate;
+  private final boolean enabled;
+  private final Duration holdTtl;
+  private final int applyBatchSize;
+
+  public StockReservationService(
+    RedisTemplate<String, String> redisTemplate,
+    RedisService redisService,
+    ProductRepository productRepository,
+    ProductCatalogCache productCatalogCache,
+    PlatformTransactionManager transactionManager,
+    @Value("${order.stock.reservation.enabled:false}") boolean enabled,
+    @Value("${order.stock.hold-ttl-seconds:900}") long holdTtlSeconds,
+    @Value("${order.stock.apply-batch-size:500}") int applyBatchSize
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.redisService = redisService;
+    this.productRepository = productRepository;
+    this.productCatalogCache = productCatalogCache;
+    // 주문 트랜잭션(REPEATABLE READ 스냅샷, 영속성 컨텍스트)과 분리해서 커밋된 최신 재고를 읽는다.
+    this.freshReadTemplate = new TransactionTemplate(transactionManager);
+    this.freshReadTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.freshReadTemplate.setReadOnly(true);
+    this.enabled = enabled;
+    this.holdTtl = Duration.ofSeconds(Math.max(60L, holdTtlSeconds));
+    this.applyBatchSize = Math.max(1, applyBatchSize);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 수량을 예약한다. 이미 같은 holdId 로 예약돼 있으면 그대로 둔다.
+   * 현재 트랜잭션이 롤백되면 예약을 되돌린다.
+   */
+  public void reserve(String holdId, Map<Long, Integer> quantityByProductId) {
+    Map<Long, Integer> sorted = new TreeMap<>(quantityByProductId);
+    List<String> keys = new ArrayList<>();
+    keys.add(HOLDS_KEY);
+    keys.add(holdKey(holdId));
+    List<String> args = new ArrayList<>();
+    args.add(holdId);
+    args.add(String.valueOf(System.currentTimeMillis() + holdTtl.toMillis()));
+    for (Map.Entry<Long, Integer> entry : sorted.entrySet()) {
+      seedIfAbsent(entry.getKey());
+      keys.add(availableKey(entry.getKey()));
+      args.add(String.valueOf(entry.getKey()));
+      args.add(String.valueOf(entry.getValue()));
+    }
+
+    Long result = redisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+    if (result == null || result < 0) {
+      Long productId = result == null ? null : new ArrayList<>(sorted.keySet()).get((int) (-result - 1));
+      throw new ResponseStatusException(HttpStatus.CONFLICT, "insufficient stock: product_id=" + productId);
+    }
+    if (result == 1) {
+      runOnRollback(() -> release(holdId));
+    }
+  }
+
+  public boolean isHeld(String holdId) {
+    return redisTemplate.opsForZSet().score(HOLDS_KEY, holdId) != null;
+  }
+
+  /**
+   * 결제 확정. quantityByProductId 는 hold 가 이미 풀린 경우에만 쓰인다.
+   */
+  public void confirmAfterCommit(String holdId, Map<Long, Integer> quantityByProductId) {
+    List<String> args = new ArrayList<>();
+    args.add(holdId);
+    args.add(AVAILABLE_KEY_PREFIX);
+    args.add(AVAILABLE_KEY_SUFFIX);
+    quantityByProductId.forEach((productId, quantity) -> {
+      args.add(String.valueOf(productId));
+      args.add(String.valueOf(quantity));
+    });
+    runAfterCommit(() -> {
+      Long confirmed = redisTemplate.execute(
+        CONFIRM_SCRIPT,
+        List.of(HOLDS_KEY, holdKey(holdId), PENDING_APPLY_KEY),
+        args.toArray()
+      );
+      if (confirmed == null || confirmed != 1) {
+        // 예약 없이 확정된 결제: 카운터가 음수가 될 수 있고, DB 반영 시 재고가 모자라면 stock:apply:failed 로 옮겨진다.
+        log.warn("stock.hold.confirm without hold, deducted directly: holdId={}, items={} (reconcile via {})",
+          holdId, quantityByProductId, FAILED_APPLY_KEY);
+      }
+    });
+  }
+
+  public void releaseAfterCommit(String holdId) {
+    runAfterCommit(() -> release(holdId));
+  }
+
+  public void release(String holdId) {
+    try {
+      redisTemplate.execute(
+        RELEASE_SCRIPT,
+        List.of(HOLDS_KEY, holdKey(holdId)),
+        holdId,
+        AVAILABLE_KEY_PREFIX,
+        AVAILABLE_KEY_SUFFIX
+      );
+    } catch (Exception ex) {
+      log.warn("stock.hold.release failed: holdId={}, reason={}", holdId, ex.getMessage());
+    }
+  }
+
+  /**
+   * 판매자가 재고를 직접 수정한 경우 변경량만큼 카운터를 맞춘다. (살아 있는 hold 는 그대로 유지)
+   */
+  public void adjustAfterCommit(Long productId, int delta) {
+    if (!enabled || productId == null || delta == 0) {
+      return;
+    }
+    runAfterCommit(() -> redisTemplate.execute(ADJUST_SCRIPT, List.of(availableKey(productId)), String.valueOf(delta)));
+  }
+
+  @Scheduled(fixedDelay = 10000)
+  public void releaseExpiredHolds() {
+    if (!enabled) {
+      return;
+    }
+    var expired = redisTemplate.opsForZSet().rangeByScore(HOLDS_KEY, 0, System.currentTimeMillis(), 0, 200);
+    if (expired == null || expired.isEmpty()) {
+      return;
+    }
+    expired.forEach(this::release);
+    log.info("stock.hold.expired released={}", expired.size());
+  }
+
+  @Scheduled(fixedDelay = 1000)
+  @Transactional
+  public void applyPendingStock() {
+    if (!enabled) {
+      return;
+    }
+    if (!Boolean.TRUE.equals(redisService.acquireLock(APPLY_LOCK_KEY, 0, 30000))) {
+      return;
+    }
+    boolean handedOff = false;
+    try {
+      List<String> entries = redisTemplate.opsForList().range(PENDING_APPLY_KEY, 0, applyBatchSize - 1);
+      if (entries == null || entries.isEmpty()) {
+        return;
+      }
+      Map<Long, Integer> decreaseByProductId = new LinkedHashMap<>();
+      Map<Long, List<String>> entriesByProductId = new LinkedHashMap<>();
+      for (String entry : entries) {
+        int separator = entry.indexOf(':');
+        try {
+          Long productId = Long.parseLong(entry.substring(0, separator));
+          int quantity = Integer.parseInt(entry.substring(separator + 1));
+          decreaseByProductId.merge(productId, quantity, Integer::sum);
+          entriesByProductId.computeIfAbsent(productId, ignored -> new ArrayList<>()).add(entry);
+        } catch (RuntimeException ex) {
+          log.warn("stock.apply invalid entry: {}", entry);
+        }
+      }
+      List<String> failed = new ArrayList<>();
+      decreaseByProductId.forEach((productId, quantity) -> {
+        if (productRepository.decreaseStockBy(productId, quantity) == 0) {
+          // 재고보다 많이 확정됨(초과 판매) 또는 상품 없음: 깎지 않고 수동 정산 대상으로 남긴다.
+          log.error("stock.apply insufficient stock: productId={}, quantity={} (moved to {})",
+            productId, quantity, FAILED_APPLY_KEY);
+          failed.addAll(entriesByProductId.get(productId));
+        }
+      });
+      productCatalogCache.stockChangedAfterCommit(decreaseByProductId.keySet());
+      // 커밋 후에만 큐에서 제거하고, 제거한 뒤에 락을 푼다. (다음 실행이 같은 항목을 다시 읽지 않도록)
+      int applied = entries.size();
+      runAfterCompletion(() -> {
+        if (!failed.isEmpty()) {
+          redisTemplate.opsForList().rightPushAll(FAILED_APPLY_KEY, failed);
+        }
+        redisTemplate.opsForList().trim(PENDING_APPLY_KEY, applied, -1);
+      }, () -> redisService.releaseLock(APPLY_LOCK_KEY));
+      handedOff = true;
+      log.debug("stock.apply entries={} products={} failed={}", applied, decreaseByProductId.size(), failed.size());
+    } finally {
+      if (!handedOff) {
+        redisService.releaseLock(APPLY_LOCK_KEY);
+      }
+    }
+  }
+
+  // 반영 락 안에서 읽으면 반영은 "DB 차감 + 대기분 제거"가 모두 끝났거나 아직 시작 전이다.
+  private void seedIfAbsent(Long productId) {
+    String key = availableKey(productId);
+    if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+      return;
+    }
+    if (!Boolean.TRUE.equals(redisService.acquireLock(APPLY_LOCK_KEY, SEED_LOCK_WAIT_MILLIS, SEED_LOCK_LEASE_MILLIS))) {
+      throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "stock counter is busy");
+    }
+    try {
+      if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+        return;
+      }
+      Integer stock = freshReadTemplate.execute(status -> productRepository.findStockQtyById(productId).orElse(null));
+      if (stock == null) {
+        throw new ResponseStatusException(HttpStatus.NOT_FOUND, "product not found");
+      }
+      redisTemplate.execute(
+        SEED_SCRIPT,
+        List.of(key, HOLDS_KEY, PENDING_APPLY_KEY),
+        String.valueOf(stock),
+        String.valueOf(productId),
+        HOLD_KEY_PREFIX
+      );
+    } finally {
+      redisService.releaseLock(APPLY_LOCK_KEY);
+    }
+  }
+
+  private void runAfterCommit(Runnable task) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          task.run();
+        }
+      });
+      return;
+    }
+    task.run();
+  }
+
+  // 커밋되면 onCommit 후 always, 롤백이면 always 만 실행한다. 트랜잭션 밖이면 바로 실행한다.
+  private void runAfterCompletion(Runnable onCommit, Runnable always) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      try {
+        onCommit.run();
+      } finally {
+        always.run();
+      }
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        try {
+          if (status == STATUS_COMMITTED) {
+            onCommit.run();
+          }
+        } finally {
+          always.run();
+        }
+      }
+    });
+  }
+
+  private void runOnRollback(Runnable task) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status != STATUS_COMMITTED) {
+          task.run();
+        }
+      }
+    });
+  }
+
+  private String holdKey(String holdId) {
+    return HOLD_KEY_PREFIX + holdId;
+  }
+
+  private String availableKey(Long productId) {
+    return AVAILABLE_KEY_PREFIX + productId + AVAILABLE_KEY_SUFFIX;
+  }
+}
@@ -1,17 +1,24 @@
 package com.deskit.deskit.product.controller;
 
 import com.deskit.deskit.product.dto.ProductResponse;
+import com.deskit.deskit.product.dto.ProductSearchResponse;
+import com.deskit.deskit.product.service.ProductSearchService;
 import com.deskit.deskit.product.service.ProductService;
+import com.deskit.deskit.tag.entity.TagCategory.TagCode;
+import com.deskit.deskit.tag.service.TagFilters;
 import java.util.List;
+import java.util.Map;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
  * Product 조회 전용 REST API 컨트롤러
  * - /api/products: 상품 목록 조회
+ * - /api/products/search: 상품 검색 (태그/가격 필터, 정렬, 커서 페이지네이션)
  * - /api/products/{id}: 상품 단건 조회
  *
  * 주의:
@@ -24,10 +31,12 @@ public class ProductController {
 
   // 조회 로직(상품 + 태그 집계)을 담당하는 서비스
   private final ProductService productService;
+  private final ProductSearchService productSearchService;
 
   // 생성자 주입(스프링이 ProductService 빈을 주입)
-  public ProductController(ProductService productService) {
+  public ProductController(ProductService productService, ProductSearchService productSearchService) {
     this.productService = productService;
+    this.productSearchService = productSearchService;
   }
 
   /**
@@ -39,6 +48,28 @@ public class ProductController {
     return productService.getProducts();
   }
 
+  /**
+   * 상품 검색
+   * - space/tone/situation/mood: 태그명 (콤마 구분, 같은 분류 안에서는 OR, 분류끼리는 AND)
+   * - sort: newest(기본) / popular / price_asc / price_desc
+   * - cursor: 이전 응답의 next_cursor (같은 sort 로만 사용 가능)
+   */
+  @GetMapping("/search")
+  public ResponseEntity<ProductSearchResponse> searchProducts(
+    @RequestParam(name = "space", required = false) List<String> space,
+    @RequestParam(name = "tone", required = false) List<String> tone,
+    @RequestParam(name = "situation", required = false) List<String> situation,
+    @RequestParam(name = "mood", required = false) List<String> mood,
+    @RequestParam(name = "min_price", required = false) Integer minPrice,
+    @RequestParam(name = "max_price", required = false) Integer maxPrice,
+    @RequestParam(name = "sort", required = false) String sort,
+    @RequestParam(name = "cursor", required = false) String cursor,
+    @RequestParam(name = "size", defaultValue = "20") int size
+  ) {
+    Map<TagCode, List<String>> tags = TagFilters.of(space, tone, situation, mood);
+    return ResponseEntity.ok(productSearchService.search(tags, minPrice, maxPrice, sort, cursor, size));
+  }
+
   /**
    * 상품 단건 조회
    * - 존재하면 200 OK + ProductResponse
@@ -50,4 +81,4 @@ public class ProductController {
             .map(ResponseEntity::ok)
             .orElseGet(() -> ResponseEntity.notFound().build());
   }
-}
\ No newline at end of file
+}
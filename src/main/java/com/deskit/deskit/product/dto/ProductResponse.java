@@ -182,10 +182,41 @@ public class ProductResponse {
     );
   }
 
+  /**
+   * 재고/판매 상태만 엔티티 값으로 바꾼 사본 (가격/썸네일/태그는 그대로)
+   */
+  public ProductResponse withStockOf(Product product) {
+    Product.Status resolvedStatus = product.isLimitedSale() ? Product.Status.LIMITED_SALE : product.getStatus();
+    return new ProductResponse(
+            productId,
+            sellerId,
+            name,
+            shortDesc,
+            detailHtml,
+            price,
+            costPrice,
+            resolvedStatus,
+            product.getStockQty(),
+            product.getSafetyStock(),
+            tags,
+            tagsFlat,
+            thumbnailUrl,
+            productImages
+    );
+  }
+
   public Long getProductId() {
     return productId;
   }
 
+  public Integer getPrice() {
+    return price;
+  }
+
+  public ProductTags getTags() {
+    return tags;
+  }
+
   /**
    * tags 객체의 JSON 필드 출력 순서를 고정 (보기 좋게 + 프론트 기대 순서)
    */
@@ -0,0 +1,44 @@
+package com.deskit.deskit.product.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 상품 검색 keyset 커서 (정렬 기준, 정렬 키, 보조 키)
+ * - 정렬 키는 정렬 방향까지 반영된 오름차순 값이다. (ProductSearchIndex 참고)
+ * - 클라이언트에는 base64url 문자열로만 노출한다.
+ */
+public record ProductSearchCursor(ProductSearchSort sort, long primaryKey, long secondaryKey) {
+
+  private static final String SEPARATOR = "|";
+
+  public String encode() {
+    String raw = sort.name() + SEPARATOR + primaryKey + SEPARATOR + secondaryKey;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static ProductSearchCursor decode(String cursor, ProductSearchSort sort) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    ProductSearchCursor decoded;
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\|");
+      decoded = new ProductSearchCursor(
+        ProductSearchSort.valueOf(parts[0]),
+        Long.parseLong(parts[1]),
+        Long.parseLong(parts[2])
+      );
+    } catch (RuntimeException ex) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid cursor");
+    }
+    // 정렬 기준이 바뀌면 커서 위치가 의미 없으므로 거절한다.
+    if (decoded.sort() != sort) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "cursor does not match sort");
+    }
+    return decoded;
+  }
+}
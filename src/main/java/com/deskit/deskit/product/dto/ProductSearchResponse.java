@@ -0,0 +1,15 @@
+package com.deskit.deskit.product.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public record ProductSearchResponse(
+  @JsonProperty("items")
+  List<ProductResponse> items,
+
+  @JsonProperty("next_cursor")
+  String nextCursor,
+
+  @JsonProperty("has_next")
+  boolean hasNext
+) {}
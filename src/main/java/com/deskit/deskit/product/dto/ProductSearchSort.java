@@ -0,0 +1,26 @@
+package com.deskit.deskit.product.dto;
+
+import java.util.Locale;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 상품 검색 정렬 기준 (동률은 product_id 로 끊는다)
+ */
+public enum ProductSearchSort {
+  NEWEST,
+  POPULAR,
+  PRICE_ASC,
+  PRICE_DESC;
+
+  public static ProductSearchSort from(String value) {
+    if (value == null || value.isBlank()) {
+      return NEWEST;
+    }
+    try {
+      return ProductSearchSort.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException ex) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid sort");
+    }
+  }
+}
@@ -88,6 +88,10 @@ public class Product extends BaseEntity {
   @Column(name = "safety_stock", nullable = false)
   private Integer safetyStock;
 
+  // 가격 epoch: 판매가가 바뀔 때마다 같은 트랜잭션에서 1 증가 (null = 0, 주문 시점 값과 비교해 가격 변경 여부 판단)
+  @Column(name = "price_epoch")
+  private Long priceEpoch;
+
   public Product(Long sellerId, String productName, String shortDesc, String detailHtml,
                  Integer price, Integer costPrice, Integer stockQty, Integer safetyStock) {
     this.sellerId = sellerId;
@@ -153,6 +157,7 @@ public class Product extends BaseEntity {
       throw new IllegalArgumentException("price must be >= 0");
     }
     this.price = price;
+    bumpPriceEpoch();
   }
 
   public void updateStockQty(Integer stockQty) {
@@ -174,6 +179,11 @@ public class Product extends BaseEntity {
       throw new IllegalArgumentException("price must be >= 0");
     }
     this.price = price;
+    bumpPriceEpoch();
+  }
+
+  private void bumpPriceEpoch() {
+    this.priceEpoch = (priceEpoch == null ? 0L : priceEpoch) + 1;
   }
 
   // LIMITED_SALE is derived from ON_SALE + low stock; it is not a persisted transition target.
@@ -1,11 +1,15 @@
 package com.deskit.deskit.product.repository;
 
 import com.deskit.deskit.product.entity.Product;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -45,6 +49,12 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
   Optional<Product> findByIdAndStatusAndDeletedAtIsNull(Long id, Product.Status status);
 
+  /**
+   * 재고 수량만 조회 (stock_qty 가 null 이면 0)
+   */
+  @Query("select coalesce(p.stockQty, 0) from Product p where p.id = :id and p.deletedAt is null")
+  Optional<Integer> findStockQtyById(@Param("id") Long id);
+
   @Lock(LockModeType.PESSIMISTIC_WRITE)
   @Query("select p from Product p where p.id = :id and p.deletedAt is null")
   Optional<Product> findByIdForUpdate(@Param("id") Long id);
@@ -54,39 +64,133 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
   Optional<Product> findByIdForUpdateAndStatus(@Param("id") Long id,
                                                @Param("status") Product.Status status);
 
+  /**
+   * 상품별 가격 epoch (주문 생성/결제 승인 시 가격 변경 여부 확인용, 삭제된 상품 제외)
+   */
+  @Query("""
+      select p.id as productId, p.priceEpoch as priceEpoch
+      from Product p
+      where p.id in :ids
+        and p.deletedAt is null
+      """)
+  List<PriceEpochRow> findPriceEpochs(@Param("ids") Collection<Long> ids);
+
+  /**
+   * 예약 확정분 재고를 row lock 없이 한 번에 차감
+   * - 재고가 모자라면 차감하지 않고 0 을 돌려준다. (초과 판매를 0 으로 덮지 않는다)
+   * - status 를 먼저 갱신해야 차감 전 stock_qty 기준으로 품절 여부를 판단한다.
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+      update Product p
+      set p.status = case when p.stockQty = :quantity
+                          then com.deskit.deskit.product.entity.Product.Status.SOLD_OUT
+                          else p.status end,
+          p.stockQty = p.stockQty - :quantity
+      where p.id = :id
+        and p.stockQty >= :quantity
+      """)
+  int decreaseStockBy(@Param("id") Long id, @Param("quantity") int quantity);
+
+  /**
+   * 상품별 누적 판매 수량 (결제 완료/구매 확정 주문 기준)
+   * - 상품 검색 인기순 정렬 / 인기 상품 순위 보정용. 카탈로그 전체 재구성·정기 보정 때만 호출한다.
+   */
+  @Query(value = """
+      SELECT
+          oi.product_id AS productId,
+          SUM(oi.quantity) AS soldQty
+      FROM order_item oi
+      JOIN `order` o
+          ON o.order_id = oi.order_id
+          AND o.deleted_at IS NULL
+          AND o.status IN ('PAID', 'COMPLETED')
+      WHERE oi.deleted_at IS NULL
+      GROUP BY oi.product_id
+      """, nativeQuery = true)
+  List<SoldQuantityRow> findSoldQuantities();
+
+  /**
+   * 날짜별 상품 판매 수량 (결제일 기준, from 이후)
+   * - 인기 상품 순위의 기간 집계(window) 재구성용. 정기 보정 때만 호출한다.
+   */
+  @Query(value = """
+      SELECT
+          oi.product_id AS productId,
+          CAST(o.paid_at AS DATE) AS paidDate,
+          SUM(oi.quantity) AS soldQty
+      FROM order_item oi
+      JOIN `order` o
+          ON o.order_id = oi.order_id
+          AND o.deleted_at IS NULL
+          AND o.status IN ('PAID', 'COMPLETED')
+          AND o.paid_at >= :from
+      WHERE oi.deleted_at IS NULL
+      GROUP BY oi.product_id, CAST(o.paid_at AS DATE)
+      """, nativeQuery = true)
+  List<DailySoldQuantityRow> findDailySoldQuantitiesSince(@Param("from") LocalDateTime from);
+
+  /**
+   * 홈 인기 상품 카드 정보 (순위는 ProductPopularityLeaderboard 가 정하고 여기서는 id 로만 채운다)
+   */
   @Query(value = """
       SELECT
           p.product_id AS productId,
           p.product_name AS productName,
           p.price AS price,
-          COALESCE(SUM(CASE WHEN o.order_id IS NOT NULL THEN oi.quantity ELSE 0 END), 0) AS soldQty,
-          pi.product_image_url AS thumbnailUrl,
-          MAX(p.created_at) AS createdAt
+          pi.product_image_url AS thumbnailUrl
+      FROM product p
+      LEFT JOIN product_image pi
+          ON pi.product_id = p.product_id
+          AND pi.image_type = 'THUMBNAIL'
+          AND pi.slot_index = 0
+          AND pi.deleted_at IS NULL
+      WHERE p.deleted_at IS NULL
+        AND p.product_id IN (:ids)
+      """, nativeQuery = true)
+  List<PopularProductRow> findPopularProductCardsByIds(@Param("ids") List<Long> ids);
+
+  /**
+   * 판매 이력이 부족할 때 인기 상품을 채우는 최신 상품 카드 (기존 인기 쿼리의 동률 정렬과 같은 created_at 역순)
+   */
+  @Query(value = """
+      SELECT
+          p.product_id AS productId,
+          p.product_name AS productName,
+          p.price AS price,
+          pi.product_image_url AS thumbnailUrl
       FROM product p
-      LEFT JOIN order_item oi
-          ON oi.product_id = p.product_id
-          AND oi.deleted_at IS NULL
-      LEFT JOIN `order` o
-          ON o.order_id = oi.order_id
-          AND o.deleted_at IS NULL
-          AND o.status IN ('PAID', 'COMPLETED')
       LEFT JOIN product_image pi
           ON pi.product_id = p.product_id
           AND pi.image_type = 'THUMBNAIL'
           AND pi.slot_index = 0
           AND pi.deleted_at IS NULL
       WHERE p.deleted_at IS NULL
-      GROUP BY p.product_id, p.product_name, p.price, pi.product_image_url
-      ORDER BY soldQty DESC, createdAt DESC
+      ORDER BY p.created_at DESC, p.product_id DESC
       LIMIT :limit
       """, nativeQuery = true)
-  List<PopularProductRow> findPopularProducts(@Param("limit") int limit);
+  List<PopularProductRow> findNewestProductCards(@Param("limit") int limit);
+
+  interface PriceEpochRow {
+    Long getProductId();
+    Long getPriceEpoch();
+  }
+
+  interface SoldQuantityRow {
+    Long getProductId();
+    Long getSoldQty();
+  }
+
+  interface DailySoldQuantityRow {
+    Long getProductId();
+    LocalDate getPaidDate();
+    Long getSoldQty();
+  }
 
   interface PopularProductRow {
     Long getProductId();
     String getProductName();
     Integer getPrice();
-    Long getSoldQty();
     String getThumbnailUrl();
   }
 }
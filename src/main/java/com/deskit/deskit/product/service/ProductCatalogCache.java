@@ -0,0 +1,366 @@
+package com.deskit.deskit.product.service;
+
+import com.deskit.deskit.livehost.repository.BroadcastProductRepository;
+import com.deskit.deskit.product.dto.ProductResponse;
+import com.deskit.deskit.product.dto.ProductResponse.ProductTags;
+import com.deskit.deskit.product.entity.Product;
+import com.deskit.deskit.product.entity.ProductImage;
+import com.deskit.deskit.product.entity.ProductImage.ImageType;
+import com.deskit.deskit.product.repository.ProductImageRepository;
+import com.deskit.deskit.product.repository.ProductRepository;
+import com.deskit.deskit.product.repository.ProductTagRepository;
+import com.deskit.deskit.product.service.ProductService.TagsBundle;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 판매중(ON_SALE) 상품 목록 스냅샷 (노드 로컬, 버전 관리)
+ *
+ * - 목록 조회는 불변 스냅샷을 그대로 돌려주므로 MySQL 을 타지 않는다. (최초/만료 시에만 전체 로딩)
+ * - 상품/태그/라이브 특가가 바뀌면 커밋 후 Redis Pub/Sub(product:catalog:invalidate)으로 상품 id 를 알리고,
+ *   각 노드는 해당 상품만 다시 읽어 새 버전의 스냅샷으로 교체한다.
+ * - 주문 때마다 바뀌는 재고는 "stock:" 메시지로 따로 알린다. 해당 상품 응답만 바꿔 끼우고
+ *   검색 인덱스(태그/정렬)와 버전은 그대로 둔다. (버전을 보는 추천 랭킹이 주문마다 다시 계산되지 않도록)
+ * - 메시지 유실에 대비해 max-age 가 지나면 전체를 다시 만든다.
+ */
+@Service
+public class ProductCatalogCache implements MessageListener {
+
+  public static final String INVALIDATE_CHANNEL = "product:catalog:invalidate";
+  private static final String ALL = "*";
+  private static final String STOCK_PREFIX = "stock:";
+
+  private static final Logger log = LoggerFactory.getLogger(ProductCatalogCache.class);
+
+  private final ProductRepository productRepository;
+  private final ProductTagRepository productTagRepository;
+  private final ProductImageRepository productImageRepository;
+  private final BroadcastProductRepository broadcastProductRepository;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final long maxAgeMillis;
+
+  private final Set<Long> dirtyProductIds = ConcurrentHashMap.newKeySet();
+  private final Set<Long> stockChangedProductIds = ConcurrentHashMap.newKeySet();
+  private volatile boolean fullRebuildRequested;
+  private volatile Snapshot snapshot;
+  // 인기순 정렬용 누적 판매 수량. 집계 쿼리라 전체 재구성 때만 다시 읽는다.
+  private volatile Map<Long, Long> soldQuantities = Map.of();
+
+  public ProductCatalogCache(ProductRepository productRepository,
+                             ProductTagRepository productTagRepository,
+                             ProductImageRepository productImageRepository,
+                             BroadcastProductRepository broadcastProductRepository,
+                             RedisTemplate<String, String> redisTemplate,
+                             @Qualifier("redisMessageListenerContainer") RedisMessageListenerContainer listenerContainer,
+                             @Value("${product.catalog.max-age-seconds:300}") long maxAgeSeconds) {
+    this.productRepository = productRepository;
+    this.productTagRepository = productTagRepository;
+    this.productImageRepository = productImageRepository;
+    this.broadcastProductRepository = broadcastProductRepository;
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.maxAgeMillis = Duration.ofSeconds(Math.max(1L, maxAgeSeconds)).toMillis();
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+  }
+
+  /**
+   * 불변 스냅샷. products 는 product_id 오름차순, searchIndex 는 같은 products 기준 위치를 쓴다.
+   */
+  public record Snapshot(long version, long builtAt, Map<Long, ProductResponse> byId, List<ProductResponse> products,
+                         ProductSearchIndex searchIndex) {
+  }
+
+  public List<ProductResponse> getProducts() {
+    return current().products();
+  }
+
+  public Optional<ProductResponse> find(Long productId) {
+    return Optional.ofNullable(productId == null ? null : current().byId().get(productId));
+  }
+
+  public long version() {
+    return current().version();
+  }
+
+  public Snapshot current() {
+    Snapshot current = snapshot;
+    if (current == null || fullRebuildRequested || System.currentTimeMillis() - current.builtAt() > maxAgeMillis) {
+      return rebuildAll();
+    }
+    if (!dirtyProductIds.isEmpty()) {
+      current = applyPending();
+    }
+    if (!stockChangedProductIds.isEmpty()) {
+      current = applyStockChanges();
+    }
+    return current;
+  }
+
+  /**
+   * 현재 트랜잭션 커밋 이후 클러스터 전체에서 해당 상품을 다시 읽게 한다. (트랜잭션 밖이면 즉시)
+   */
+  public void invalidateAfterCommit(Long productId) {
+    if (productId == null) {
+      return;
+    }
+    invalidateAfterCommit(List.of(productId));
+  }
+
+  public void invalidateAfterCommit(Collection<Long> productIds) {
+    runAfterCommit(productIds, this::invalidate);
+  }
+
+  /**
+   * 재고만 바뀐 경우 (주문/결제 확정). 커밋 이후 해당 상품의 재고/판매 상태만 다시 읽는다.
+   */
+  public void stockChangedAfterCommit(Collection<Long> productIds) {
+    runAfterCommit(productIds, this::stockChanged);
+  }
+
+  public void invalidate(Collection<Long> productIds) {
+    dirtyProductIds.addAll(productIds);
+    publish(join(productIds));
+  }
+
+  public void stockChanged(Collection<Long> productIds) {
+    stockChangedProductIds.addAll(productIds);
+    publish(STOCK_PREFIX + join(productIds));
+  }
+
+  public void invalidateAll() {
+    fullRebuildRequested = true;
+    publish(ALL);
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8).replace("\"", "").trim();
+    if (body.isEmpty()) {
+      return;
+    }
+    if (ALL.equals(body)) {
+      fullRebuildRequested = true;
+      return;
+    }
+    Set<Long> target = dirtyProductIds;
+    String ids = body;
+    if (body.startsWith(STOCK_PREFIX)) {
+      target = stockChangedProductIds;
+      ids = body.substring(STOCK_PREFIX.length());
+    }
+    for (String token : ids.split(",")) {
+      try {
+        target.add(Long.parseLong(token.trim()));
+      } catch (NumberFormatException ex) {
+        log.warn("product.catalog.invalidate invalid payload: {}", body);
+      }
+    }
+  }
+
+  private void runAfterCommit(Collection<Long> productIds, Consumer<List<Long>> action) {
+    if (productIds == null || productIds.isEmpty()) {
+      return;
+    }
+    List<Long> ids = productIds.stream().filter(Objects::nonNull).distinct().toList();
+    if (ids.isEmpty()) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.accept(ids);
+        }
+      });
+      return;
+    }
+    action.accept(ids);
+  }
+
+  private static String join(Collection<Long> productIds) {
+    return productIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+  }
+
+  private void publish(String payload) {
+    try {
+      redisTemplate.convertAndSend(INVALIDATE_CHANNEL, payload);
+    } catch (Exception ex) {
+      log.warn("product.catalog.invalidate publish failed: reason={}", ex.getMessage());
+    }
+  }
+
+  private synchronized Snapshot rebuildAll() {
+    Snapshot current = snapshot;
+    if (current != null && !fullRebuildRequested && System.currentTimeMillis() - current.builtAt() <= maxAgeMillis) {
+      return current;
+    }
+    // 로딩 중 들어온 변경은 다음 조회에서 다시 반영되도록 로딩 전에 비운다.
+    fullRebuildRequested = false;
+    dirtyProductIds.clear();
+    List<Product> products = productRepository.findAllByStatusAndDeletedAtIsNullOrderByIdAsc(Product.Status.ON_SALE);
+    soldQuantities = productRepository.findSoldQuantities().stream()
+      .filter(row -> row.getProductId() != null && row.getSoldQty() != null)
+      .collect(Collectors.toUnmodifiableMap(
+        ProductRepository.SoldQuantityRow::getProductId,
+        ProductRepository.SoldQuantityRow::getSoldQty,
+        Long::sum
+      ));
+    Map<Long, ProductResponse> byId = new TreeMap<>();
+    assemble(products).forEach(response -> byId.put(response.getProductId(), response));
+    Snapshot rebuilt = toSnapshot(current == null ? 1L : current.version() + 1, byId);
+    snapshot = rebuilt;
+    log.info("product.catalog rebuilt: version={}, products={}", rebuilt.version(), rebuilt.products().size());
+    return rebuilt;
+  }
+
+  private synchronized Snapshot applyPending() {
+    Snapshot current = snapshot;
+    if (dirtyProductIds.isEmpty()) {
+      return current;
+    }
+    List<Long> ids = new ArrayList<>(dirtyProductIds);
+    dirtyProductIds.removeAll(ids);
+
+    Map<Long, ProductResponse> byId = new TreeMap<>(current.byId());
+    ids.forEach(byId::remove);
+    List<Product> reloaded = productRepository.findAllByIdInAndDeletedAtIsNull(ids).stream()
+      .filter(product -> product.getStatus() == Product.Status.ON_SALE)
+      .collect(Collectors.toList());
+    assemble(reloaded).forEach(response -> byId.put(response.getProductId(), response));
+
+    Snapshot updated = toSnapshot(current.version() + 1, byId, current.builtAt());
+    snapshot = updated;
+    log.debug("product.catalog updated: version={}, changed={}", updated.version(), ids.size());
+    return updated;
+  }
+
+  /**
+   * 재고 변경분만 반영: 같은 위치의 응답만 바꿔 끼우고 인덱스/버전은 유지한다.
+   * 판매중이 아니게 됐거나 스냅샷에 없던 상품은 일반 변경(applyPending)으로 넘긴다.
+   */
+  private synchronized Snapshot applyStockChanges() {
+    Snapshot current = snapshot;
+    if (stockChangedProductIds.isEmpty()) {
+      return current;
+    }
+    List<Long> ids = new ArrayList<>(stockChangedProductIds);
+    stockChangedProductIds.removeAll(ids);
+
+    Map<Long, Product> reloaded = productRepository.findAllByIdInAndDeletedAtIsNull(ids).stream()
+      .collect(Collectors.toMap(Product::getId, product -> product, (left, right) -> left));
+    Map<Long, ProductResponse> byId = new TreeMap<>(current.byId());
+    List<Long> structural = new ArrayList<>();
+    for (Long productId : ids) {
+      ProductResponse cached = byId.get(productId);
+      Product product = reloaded.get(productId);
+      if (cached == null || product == null || product.getStatus() != Product.Status.ON_SALE) {
+        structural.add(productId);
+        continue;
+      }
+      // 가격/썸네일/태그는 스냅샷 값 그대로, 재고와 그에 따른 판매 상태(LIMITED_SALE)만 새로 읽는다.
+      byId.put(productId, cached.withStockOf(product));
+    }
+
+    List<ProductResponse> products = List.copyOf(byId.values());
+    Snapshot updated = new Snapshot(
+      current.version(),
+      current.builtAt(),
+      Collections.unmodifiableMap(byId),
+      products,
+      current.searchIndex().withProducts(products)
+    );
+    snapshot = updated;
+    if (!structural.isEmpty()) {
+      dirtyProductIds.addAll(structural);
+      updated = applyPending();
+    }
+    log.debug("product.catalog stock updated: version={}, changed={}", updated.version(), ids.size());
+    return updated;
+  }
+
+  // getProducts 와 동일한 조립 (썸네일/라이브 특가/태그를 productIds IN 으로 한 번씩)
+  private List<ProductResponse> assemble(List<Product> products) {
+    if (products.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<Long> productIds = products.stream()
+      .map(Product::getId)
+      .collect(Collectors.toList());
+
+    Map<Long, String> thumbnailUrls = productImageRepository
+      .findAllByProductIdInAndImageTypeAndSlotIndexAndDeletedAtIsNullOrderByProductIdAscIdAsc(
+        productIds, ImageType.THUMBNAIL, 0
+      ).stream()
+      .collect(Collectors.toMap(
+        ProductImage::getProductId,
+        ProductImage::getProductImageUrl,
+        (left, right) -> left
+      ));
+
+    Map<Long, Integer> livePrices = broadcastProductRepository.findLiveBpPrices(productIds).stream()
+      .collect(Collectors.toMap(
+        BroadcastProductRepository.LivePriceRow::getProductId,
+        BroadcastProductRepository.LivePriceRow::getBpPrice,
+        (left, right) -> left
+      ));
+
+    Map<Long, TagsBundle> tagsByProductId =
+      ProductService.buildTagsByProductId(productTagRepository.findActiveTagsByProductIds(productIds));
+
+    return products.stream()
+      .map(product -> {
+        TagsBundle bundle = tagsByProductId.get(product.getId());
+        ProductTags tags = bundle == null ? ProductTags.empty() : bundle.getTags();
+        List<String> tagsFlat = bundle == null ? Collections.emptyList() : List.copyOf(bundle.getTagsFlat());
+        return ProductResponse.fromWithPriceAndThumbnail(
+          product, tags, tagsFlat, livePrices.get(product.getId()), thumbnailUrls.get(product.getId()), null
+        );
+      })
+      .collect(Collectors.toList());
+  }
+
+  private Snapshot toSnapshot(long version, Map<Long, ProductResponse> byId) {
+    return toSnapshot(version, byId, System.currentTimeMillis());
+  }
+
+  private Snapshot toSnapshot(long version, Map<Long, ProductResponse> byId, long builtAt) {
+    List<ProductResponse> products = List.copyOf(byId.values());
+    return new Snapshot(
+      version,
+      builtAt,
+      Collections.unmodifiableMap(byId),
+      products,
+      ProductSearchIndex.build(products, soldQuantities)
+    );
+  }
+}
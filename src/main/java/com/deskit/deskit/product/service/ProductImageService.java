@@ -17,13 +17,16 @@ public class ProductImageService {
   private final ProductRepository productRepository;
   private final ProductImageRepository productImageRepository;
   private final S3Uploader s3Uploader;
+  private final ProductCatalogCache productCatalogCache;
 
   public ProductImageService(ProductRepository productRepository,
                              ProductImageRepository productImageRepository,
-                             S3Uploader s3Uploader) {
+                             S3Uploader s3Uploader,
+                             ProductCatalogCache productCatalogCache) {
     this.productRepository = productRepository;
     this.productImageRepository = productImageRepository;
     this.s3Uploader = s3Uploader;
+    this.productCatalogCache = productCatalogCache;
   }
 
   public ProductImageResponse uploadImage(Long sellerId,
@@ -71,6 +74,10 @@ public class ProductImageService {
 
     ProductImage image = ProductImage.create(productId, imageUrl, imageType, slotIndex);
     ProductImage saved = productImageRepository.save(image);
+    // 목록 카드의 썸네일(THUMBNAIL slot 0)이 바뀐 경우에만 카탈로그 스냅샷을 다시 읽게 한다.
+    if (imageType == ImageType.THUMBNAIL && slotIndex == 0) {
+      productCatalogCache.invalidateAfterCommit(productId);
+    }
     return ProductImageResponse.from(saved);
   }
 }
@@ -0,0 +1,297 @@
+package com.deskit.deskit.product.service;
+
+import com.deskit.deskit.livehost.service.RedisService;
+import com.deskit.deskit.order.entity.Order;
+import com.deskit.deskit.order.entity.OrderItem;
+import com.deskit.deskit.order.event.OrderSalesChangedEvent;
+import com.deskit.deskit.order.repository.OrderItemRepository;
+import com.deskit.deskit.order.repository.OrderRepository;
+import com.deskit.deskit.product.repository.ProductRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 인기 상품 순위 (Redis sorted set, member=productId, score=판매 수량)
+ *
+ * - 결제/환불 요청 커밋 시 OrderSalesChangedEvent 로 주문 상품 수량만큼 ZINCRBY 한다. (집계 쿼리 없음)
+ *   반영은 popularRankExecutor 에서 비동기로 하므로 결제 응답이 Redis 왕복을 기다리지 않는다.
+ * - window-days=0 이면 누적 전체(product:popular:all), 0 보다 크면 결제일 버킷(product:popular:day:{yyyyMMdd})을
+ *   주기적으로 ZUNIONSTORE 한 최근 N일 순위(product:popular:window)를 쓴다. 환불은 결제일 버킷에서 뺀다.
+ * - 조회는 ZREVRANGE 로 상위 N개만 읽는다. ZREVRANGE 는 동점을 member 문자열 역순으로 끊어("9" 가 "10" 보다 앞)
+ *   경계 점수와 같은 상품은 ZREVRANGEBYSCORE 로 모두 더 읽은 뒤 판매 수량 desc, productId desc 로 자른다.
+ * - 최초 조회(또는 Redis 초기화) 시와 reconcile 주기마다 DB 집계로 다시 만든다. (이벤트 누락 보정)
+ *   다른 노드가 재구성 중이라 아직 채워지지 않았으면 그동안은 DB 집계로 바로 응답한다.
+ */
+@Slf4j
+@Service
+public class ProductPopularityLeaderboard {
+
+  static final String ALL_TIME_KEY = "product:popular:all";
+  static final String WINDOW_KEY = "product:popular:window";
+  static final String DAY_KEY_PREFIX = "product:popular:day:";
+  private static final String SEEDED_KEY = "product:popular:seeded";
+  private static final String REBUILD_LOCK_KEY = "lock:product:popular:rebuild";
+  private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+  private static final Comparator<Entry> RANKING = Comparator.comparingLong(Entry::soldQty).reversed()
+      .thenComparing(Entry::productId, Comparator.reverseOrder());
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisService redisService;
+  private final ProductRepository productRepository;
+  private final OrderRepository orderRepository;
+  private final OrderItemRepository orderItemRepository;
+  private final int windowDays;
+
+  public ProductPopularityLeaderboard(RedisTemplate<String, String> redisTemplate,
+                                      RedisService redisService,
+                                      ProductRepository productRepository,
+                                      OrderRepository orderRepository,
+                                      OrderItemRepository orderItemRepository,
+                                      @Value("${product.popular.window-days:0}") int windowDays) {
+    this.redisTemplate = redisTemplate;
+    this.redisService = redisService;
+    this.productRepository = productRepository;
+    this.orderRepository = orderRepository;
+    this.orderItemRepository = orderItemRepository;
+    this.windowDays = Math.max(0, windowDays);
+  }
+
+  public record Entry(Long productId, long soldQty) {
+  }
+
+  /**
+   * 판매 수량 상위 limit 개, 동점은 productId desc (판매 수량 0 이하는 순위에 남기지 않는다)
+   */
+  public List<Entry> top(int limit) {
+    if (limit <= 0) {
+      return List.of();
+    }
+    if (!isSeeded() && !tryRebuild() && !isSeeded()) {
+      // 다른 노드가 재구성 중: 빈 순위 대신 DB 집계로 응답한다.
+      return topFromDatabase(limit);
+    }
+    String key = windowDays > 0 ? WINDOW_KEY : ALL_TIME_KEY;
+    if (windowDays > 0 && !Boolean.TRUE.equals(redisTemplate.hasKey(WINDOW_KEY))) {
+      refreshWindow();
+    }
+    Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, limit - 1);
+    if (tuples == null || tuples.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, Entry> entries = new HashMap<>();
+    addEntries(entries, tuples);
+    if (tuples.size() == limit) {
+      // 경계 점수의 동점 상품 중 무엇이 잘렸는지는 member 문자열 순서라, 동점 전체를 읽어 id 로 다시 고른다.
+      Double boundary = null;
+      for (TypedTuple<String> tuple : tuples) {
+        boundary = tuple.getScore();
+      }
+      if (boundary != null && boundary > 0) {
+        addEntries(entries, redisTemplate.opsForZSet().reverseRangeByScoreWithScores(key, boundary, boundary));
+      }
+    }
+    return entries.values().stream()
+        .sorted(RANKING)
+        .limit(limit)
+        .toList();
+  }
+
+  private void addEntries(Map<Long, Entry> entries, Set<TypedTuple<String>> tuples) {
+    if (tuples == null) {
+      return;
+    }
+    for (TypedTuple<String> tuple : tuples) {
+      long soldQty = tuple.getScore() == null ? 0L : Math.round(tuple.getScore());
+      if (tuple.getValue() == null || soldQty <= 0) {
+        continue;
+      }
+      try {
+        Long productId = Long.parseLong(tuple.getValue());
+        entries.put(productId, new Entry(productId, soldQty));
+      } catch (NumberFormatException ex) {
+        log.warn("product.popular invalid member: {}", tuple.getValue());
+      }
+    }
+  }
+
+  @Async("popularRankExecutor")
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onOrderSalesChanged(OrderSalesChangedEvent event) {
+    if (event == null || event.orderId() == null || event.sign() == 0) {
+      return;
+    }
+    try {
+      Order order = orderRepository.findById(event.orderId()).orElse(null);
+      if (order == null || order.getPaidAt() == null) {
+        return;
+      }
+      Map<Long, Long> quantities = new HashMap<>();
+      for (OrderItem item : orderItemRepository.findByOrder_Id(order.getId())) {
+        if (item.getDeletedAt() != null || item.getProductId() == null || item.getQuantity() == null) {
+          continue;
+        }
+        quantities.merge(item.getProductId(), item.getQuantity().longValue(), Long::sum);
+      }
+      String dayKey = dayKey(order.getPaidAt().toLocalDate());
+      boolean inWindow = windowDays > 0 && !order.getPaidAt().toLocalDate().isBefore(windowStart());
+      quantities.forEach((productId, quantity) -> {
+        double delta = (double) quantity * event.sign();
+        redisTemplate.opsForZSet().incrementScore(ALL_TIME_KEY, String.valueOf(productId), delta);
+        if (inWindow) {
+          redisTemplate.opsForZSet().incrementScore(dayKey, String.valueOf(productId), delta);
+          redisTemplate.opsForZSet().incrementScore(WINDOW_KEY, String.valueOf(productId), delta);
+        }
+      });
+      if (inWindow) {
+        redisTemplate.expire(dayKey, Duration.ofDays(windowDays + 1L));
+      }
+      if (event.sign() < 0) {
+        // 환불로 0 이하가 된 상품은 순위에서 뺀다.
+        redisTemplate.opsForZSet().removeRangeByScore(ALL_TIME_KEY, Double.NEGATIVE_INFINITY, 0);
+        if (inWindow) {
+          redisTemplate.opsForZSet().removeRangeByScore(dayKey, Double.NEGATIVE_INFINITY, 0);
+          redisTemplate.opsForZSet().removeRangeByScore(WINDOW_KEY, Double.NEGATIVE_INFINITY, 0);
+        }
+      }
+    } catch (Exception e) {
+      log.warn("product.popular.update failed: orderId={}, reason={}", event.orderId(), e.getMessage());
+    }
+  }
+
+  /**
+   * 최근 window-days 일 버킷을 합쳐 기간 순위를 다시 만든다. (날짜가 바뀌면 오래된 버킷이 자연히 빠진다)
+   */
+  @Scheduled(fixedDelayString = "${product.popular.window-refresh-ms:60000}")
+  public void refreshWindow() {
+    if (windowDays <= 0) {
+      return;
+    }
+    List<String> dayKeys = new ArrayList<>(windowDays);
+    LocalDate today = LocalDate.now();
+    for (int i = 0; i < windowDays; i++) {
+      dayKeys.add(dayKey(today.minusDays(i)));
+    }
+    redisTemplate.opsForZSet().unionAndStore(dayKeys.get(0), dayKeys.subList(1, dayKeys.size()), WINDOW_KEY);
+  }
+
+  /**
+   * DB 집계로 순위를 다시 만든다. 이벤트 유실/Redis 초기화에 대한 보정이라 주기는 길게 둔다.
+   */
+  @Scheduled(
+      fixedDelayString = "${product.popular.reconcile-delay-ms:3600000}",
+      initialDelayString = "${product.popular.reconcile-delay-ms:3600000}"
+  )
+  public void rebuild() {
+    tryRebuild();
+  }
+
+  // 락을 잡지 못하면(다른 노드가 재구성 중) false
+  private boolean tryRebuild() {
+    if (!Boolean.TRUE.equals(redisService.acquireLock(REBUILD_LOCK_KEY, 0, 60000))) {
+      return false;
+    }
+    try {
+      Map<String, Double> allTime = allTimeScores();
+      replace(ALL_TIME_KEY, allTime, null);
+
+      if (windowDays > 0) {
+        LocalDate start = windowStart();
+        Map<String, Map<String, Double>> byDay = dailyScores(start);
+        for (int i = 0; i < windowDays; i++) {
+          String dayKey = dayKey(start.plusDays(i));
+          replace(dayKey, byDay.getOrDefault(dayKey, Map.of()), Duration.ofDays(windowDays + 1L));
+        }
+        refreshWindow();
+      }
+      redisTemplate.opsForValue().set(SEEDED_KEY, String.valueOf(System.currentTimeMillis()));
+      log.info("product.popular rebuilt: products={}, windowDays={}", allTime.size(), windowDays);
+      return true;
+    } finally {
+      redisService.releaseLock(REBUILD_LOCK_KEY);
+    }
+  }
+
+  private boolean isSeeded() {
+    return Boolean.TRUE.equals(redisTemplate.hasKey(SEEDED_KEY));
+  }
+
+  private List<Entry> topFromDatabase(int limit) {
+    Map<String, Double> scores = new HashMap<>();
+    if (windowDays > 0) {
+      dailyScores(windowStart()).values()
+          .forEach(day -> day.forEach((member, score) -> scores.merge(member, score, Double::sum)));
+    } else {
+      scores.putAll(allTimeScores());
+    }
+    return scores.entrySet().stream()
+        .filter(entry -> entry.getValue() > 0)
+        .map(entry -> new Entry(Long.parseLong(entry.getKey()), Math.round(entry.getValue())))
+        .sorted(RANKING)
+        .limit(limit)
+        .toList();
+  }
+
+  private Map<String, Double> allTimeScores() {
+    Map<String, Double> allTime = new HashMap<>();
+    for (ProductRepository.SoldQuantityRow row : productRepository.findSoldQuantities()) {
+      if (row.getProductId() != null && row.getSoldQty() != null && row.getSoldQty() > 0) {
+        allTime.merge(String.valueOf(row.getProductId()), row.getSoldQty().doubleValue(), Double::sum);
+      }
+    }
+    return allTime;
+  }
+
+  private Map<String, Map<String, Double>> dailyScores(LocalDate start) {
+    Map<String, Map<String, Double>> byDay = new HashMap<>();
+    for (ProductRepository.DailySoldQuantityRow row
+        : productRepository.findDailySoldQuantitiesSince(start.atStartOfDay())) {
+      if (row.getProductId() == null || row.getPaidDate() == null || row.getSoldQty() == null) {
+        continue;
+      }
+      byDay.computeIfAbsent(dayKey(row.getPaidDate()), ignored -> new HashMap<>())
+          .merge(String.valueOf(row.getProductId()), row.getSoldQty().doubleValue(), Double::sum);
+    }
+    return byDay;
+  }
+
+  // 임시 키에 채운 뒤 RENAME 으로 교체해 조회 중에 빈 순위가 보이지 않게 한다.
+  private void replace(String key, Map<String, Double> scores, Duration ttl) {
+    if (scores.isEmpty()) {
+      redisTemplate.delete(key);
+      return;
+    }
+    String tempKey = key + ":rebuild";
+    Set<TypedTuple<String>> tuples = new HashSet<>();
+    scores.forEach((member, score) -> tuples.add(TypedTuple.of(member, score)));
+    redisTemplate.delete(tempKey);
+    redisTemplate.opsForZSet().add(tempKey, tuples);
+    redisTemplate.rename(tempKey, key);
+    if (ttl != null) {
+      redisTemplate.expire(key, ttl);
+    }
+  }
+
+  private LocalDate windowStart() {
+    return LocalDate.now().minusDays(windowDays - 1L);
+  }
+
+  private static String dayKey(LocalDate date) {
+    return DAY_KEY_PREFIX + date.format(DAY_FORMAT);
+  }
+}
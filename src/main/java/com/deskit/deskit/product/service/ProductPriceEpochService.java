@@ -0,0 +1,43 @@
+package com.deskit.deskit.product.service;
+
+import com.deskit.deskit.product.repository.ProductRepository;
+import com.deskit.deskit.product.repository.ProductRepository.PriceEpochRow;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상품 가격 epoch (product.price_epoch)
+ *
+ * - 판매가/라이브 특가가 바뀔 때 Product.updatePrice/changePrice 가 같은 트랜잭션에서 1 증가시킨다.
+ *   가격 변경과 함께 커밋되므로 증가가 빠지거나 따로 유실되는 경우가 없다. (null 은 0)
+ * - 주문 생성 시 상품별 epoch 를 order_item.price_epoch 에 남겨두고,
+ *   결제 승인 시 id IN 조회 한 번으로 비교해 가격 변경 여부를 판단한다.
+ * - 삭제됐거나 없는 상품은 결과에 넣지 않으며, 호출 측은 epoch 를 모르는 것으로 보고 가격을 재계산한다.
+ */
+@Service
+public class ProductPriceEpochService {
+
+  private final ProductRepository productRepository;
+
+  public ProductPriceEpochService(ProductRepository productRepository) {
+    this.productRepository = productRepository;
+  }
+
+  /**
+   * 상품별 현재 epoch (삭제/없는 상품 제외)
+   */
+  public Map<Long, Long> currentEpochs(Collection<Long> productIds) {
+    Map<Long, Long> epochs = new HashMap<>();
+    if (productIds == null || productIds.isEmpty()) {
+      return epochs;
+    }
+    List<Long> ids = productIds.stream().distinct().toList();
+    for (PriceEpochRow row : productRepository.findPriceEpochs(ids)) {
+      epochs.put(row.getProductId(), row.getPriceEpoch() == null ? 0L : row.getPriceEpoch());
+    }
+    return epochs;
+  }
+}
@@ -0,0 +1,171 @@
+package com.deskit.deskit.product.service;
+
+import com.deskit.deskit.product.dto.ProductResponse;
+import com.deskit.deskit.product.dto.ProductResponse.ProductTags;
+import com.deskit.deskit.product.dto.ProductSearchCursor;
+import com.deskit.deskit.product.dto.ProductSearchSort;
+import com.deskit.deskit.tag.entity.TagCategory.TagCode;
+import com.deskit.deskit.tag.service.TagSignatures;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 카탈로그 스냅샷 1개 버전에 대한 검색 인덱스 (스냅샷과 함께 만들어지고 이후 바뀌지 않는다)
+ *
+ * - 태그: 상품 위치 기준 TagSignatures (태그별 위치 BitSet). 같은 코드 안에서는 OR, 코드끼리는 AND.
+ * - 정렬: 정렬 기준마다 상품 위치를 미리 정렬해 둔 배열. 커서 이후 위치는 이진 탐색으로 찾는다.
+ * - 정렬 키는 항상 오름차순이 되도록 부호를 맞춘다. (내림차순 기준은 음수로 저장)
+ */
+public final class ProductSearchIndex {
+
+  private final List<ProductResponse> products;
+  private final long[] soldQuantities;
+  private final TagSignatures tagSignatures;
+  private final Map<ProductSearchSort, int[]> orders;
+
+  private ProductSearchIndex(List<ProductResponse> products,
+                             long[] soldQuantities,
+                             TagSignatures tagSignatures,
+                             Map<ProductSearchSort, int[]> orders) {
+    this.products = products;
+    this.soldQuantities = soldQuantities;
+    this.tagSignatures = tagSignatures;
+    this.orders = orders;
+  }
+
+  public static ProductSearchIndex build(List<ProductResponse> products, Map<Long, Long> soldQuantityByProductId) {
+    int size = products.size();
+    long[] soldQuantities = new long[size];
+    TagSignatures.Builder tagSignatures = TagSignatures.builder(
+      products.stream().map(ProductResponse::getProductId).toList()
+    );
+    for (int position = 0; position < size; position++) {
+      ProductResponse product = products.get(position);
+      Long sold = soldQuantityByProductId.get(product.getProductId());
+      soldQuantities[position] = sold == null ? 0L : sold;
+      ProductTags tags = product.getTags();
+      for (TagCode code : TagCode.values()) {
+        for (String tagName : tagsOf(tags, code)) {
+          tagSignatures.addAt(position, code, tagName);
+        }
+      }
+    }
+
+    ProductSearchIndex index = new ProductSearchIndex(
+      products, soldQuantities, tagSignatures.build(), new EnumMap<>(ProductSearchSort.class)
+    );
+    for (ProductSearchSort sort : ProductSearchSort.values()) {
+      Comparator<Integer> comparator = Comparator
+        .<Integer>comparingLong(position -> index.primaryKey(sort, position))
+        .thenComparingLong(position -> index.secondaryKey(sort, position));
+      index.orders.put(sort, IntStream.range(0, size).boxed().sorted(comparator).mapToInt(Integer::intValue).toArray());
+    }
+    return index;
+  }
+
+  /**
+   * 같은 위치에 같은 상품(가격/태그/판매 수량 동일)이 있는 목록으로 응답만 교체한다. (재고 변경 반영용)
+   */
+  public ProductSearchIndex withProducts(List<ProductResponse> replaced) {
+    if (replaced.size() != products.size()) {
+      throw new IllegalArgumentException("product positions changed");
+    }
+    return new ProductSearchIndex(replaced, soldQuantities, tagSignatures, orders);
+  }
+
+  public int size() {
+    return products.size();
+  }
+
+  public ProductResponse product(int position) {
+    return products.get(position);
+  }
+
+  public int price(int position) {
+    Integer price = products.get(position).getPrice();
+    return price == null ? 0 : price;
+  }
+
+  public long soldQuantity(int position) {
+    return soldQuantities[position];
+  }
+
+  public int[] order(ProductSearchSort sort) {
+    return orders.get(sort);
+  }
+
+  public TagSignatures tagSignatures() {
+    return tagSignatures;
+  }
+
+  /**
+   * 태그 조건에 맞는 상품 위치. 조건이 없으면 null (= 전체)
+   */
+  public BitSet matchTags(Map<TagCode, ? extends Collection<String>> tagsByCode) {
+    return tagSignatures.filter(tagsByCode);
+  }
+
+  /**
+   * 정렬 배열에서 커서 바로 다음 인덱스
+   */
+  public int startAfter(ProductSearchSort sort, ProductSearchCursor cursor) {
+    int[] order = orders.get(sort);
+    if (cursor == null) {
+      return 0;
+    }
+    int low = 0;
+    int high = order.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      int position = order[mid];
+      int compared = Long.compare(primaryKey(sort, position), cursor.primaryKey());
+      if (compared == 0) {
+        compared = Long.compare(secondaryKey(sort, position), cursor.secondaryKey());
+      }
+      if (compared <= 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  public ProductSearchCursor cursorAt(ProductSearchSort sort, int position) {
+    return new ProductSearchCursor(sort, primaryKey(sort, position), secondaryKey(sort, position));
+  }
+
+  // 최신순은 product_id(IDENTITY) 역순을 등록 순서로 본다.
+  long primaryKey(ProductSearchSort sort, int position) {
+    long productId = products.get(position).getProductId();
+    return switch (sort) {
+      case NEWEST -> -productId;
+      case POPULAR -> -soldQuantities[position];
+      case PRICE_ASC -> price(position);
+      case PRICE_DESC -> -price(position);
+    };
+  }
+
+  long secondaryKey(ProductSearchSort sort, int position) {
+    long productId = products.get(position).getProductId();
+    return sort == ProductSearchSort.PRICE_ASC ? productId : -productId;
+  }
+
+  private static List<String> tagsOf(ProductTags tags, TagCode code) {
+    if (tags == null) {
+      return Collections.emptyList();
+    }
+    return switch (code) {
+      case SPACE -> tags.getSpace();
+      case TONE -> tags.getTone();
+      case SITUATION -> tags.getSituation();
+      case MOOD -> tags.getMood();
+    };
+  }
+}
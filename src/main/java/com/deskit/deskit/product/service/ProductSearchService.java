@@ -0,0 +1,92 @@
+package com.deskit.deskit.product.service;
+
+import com.deskit.deskit.product.dto.ProductResponse;
+import com.deskit.deskit.product.dto.ProductSearchCursor;
+import com.deskit.deskit.product.dto.ProductSearchResponse;
+import com.deskit.deskit.product.dto.ProductSearchSort;
+import com.deskit.deskit.tag.entity.TagCategory.TagCode;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 판매중 상품 검색 (태그/가격 필터 + keyset 페이지네이션)
+ * - 카탈로그 스냅샷의 검색 인덱스만 사용하므로 DB 를 조회하지 않는다.
+ * - 한 페이지 크기는 최대 MAX_PAGE_SIZE 로 고정해 응답 크기가 카탈로그 크기와 무관하게 유지된다.
+ */
+@Service
+public class ProductSearchService {
+
+  static final int DEFAULT_PAGE_SIZE = 20;
+  static final int MAX_PAGE_SIZE = 60;
+
+  private final ProductCatalogCache productCatalogCache;
+
+  public ProductSearchService(ProductCatalogCache productCatalogCache) {
+    this.productCatalogCache = productCatalogCache;
+  }
+
+  public ProductSearchResponse search(
+    Map<TagCode, List<String>> tags,
+    Integer minPrice,
+    Integer maxPrice,
+    String sort,
+    String cursor,
+    int size
+  ) {
+    if (minPrice != null && minPrice < 0) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "min_price must be >= 0");
+    }
+    if (maxPrice != null && maxPrice < 0) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "max_price must be >= 0");
+    }
+    if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "min_price must be <= max_price");
+    }
+    ProductSearchSort searchSort = ProductSearchSort.from(sort);
+    ProductSearchCursor after = ProductSearchCursor.decode(cursor, searchSort);
+    int pageSize = normalizePageSize(size);
+
+    ProductSearchIndex index = productCatalogCache.current().searchIndex();
+    BitSet tagMatches = index.matchTags(tags);
+    if (tagMatches != null && tagMatches.isEmpty()) {
+      return new ProductSearchResponse(List.of(), null, false);
+    }
+
+    int[] order = index.order(searchSort);
+    List<ProductResponse> items = new ArrayList<>(pageSize);
+    int lastPosition = -1;
+    boolean hasNext = false;
+    for (int i = index.startAfter(searchSort, after); i < order.length; i++) {
+      int position = order[i];
+      if (tagMatches != null && !tagMatches.get(position)) {
+        continue;
+      }
+      int price = index.price(position);
+      if ((minPrice != null && price < minPrice) || (maxPrice != null && price > maxPrice)) {
+        continue;
+      }
+      // 한 건 더 찾으면 다음 페이지가 있는 것
+      if (items.size() == pageSize) {
+        hasNext = true;
+        break;
+      }
+      items.add(index.product(position));
+      lastPosition = position;
+    }
+
+    String nextCursor = hasNext ? index.cursorAt(searchSort, lastPosition).encode() : null;
+    return new ProductSearchResponse(items, nextCursor, hasNext);
+  }
+
+  static int normalizePageSize(int size) {
+    if (size < 1) {
+      return DEFAULT_PAGE_SIZE;
+    }
+    return Math.min(size, MAX_PAGE_SIZE);
+  }
+}
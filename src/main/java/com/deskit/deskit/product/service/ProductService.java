@@ -22,6 +22,7 @@ import com.deskit.deskit.livehost.repository.BroadcastProductRepository;
 import com.deskit.deskit.livehost.service.AwsS3Service;
 import com.deskit.deskit.order.enums.OrderStatus;
 import com.deskit.deskit.order.repository.OrderItemRepository;
+import com.deskit.deskit.order.service.StockReservationService;
 import com.deskit.deskit.tag.entity.TagCategory.TagCode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -48,6 +49,8 @@ public class ProductService {
   private final BroadcastProductRepository broadcastProductRepository;
   private final OrderItemRepository orderItemRepository;
   private final AwsS3Service awsS3Service;
+  private final StockReservationService stockReservationService;
+  private final ProductCatalogCache productCatalogCache;
 
   private static final Logger log = LoggerFactory.getLogger(ProductService.class);
 
@@ -57,64 +60,39 @@ public class ProductService {
                         ProductImageRepository productImageRepository,
                         BroadcastProductRepository broadcastProductRepository,
                         OrderItemRepository orderItemRepository,
-                        AwsS3Service awsS3Service) {
+                        AwsS3Service awsS3Service,
+                        StockReservationService stockReservationService,
+                        ProductCatalogCache productCatalogCache) {
     this.productRepository = productRepository;
     this.productTagRepository = productTagRepository;
     this.productImageRepository = productImageRepository;
     this.broadcastProductRepository = broadcastProductRepository;
     this.orderItemRepository = orderItemRepository;
     this.awsS3Service = awsS3Service;
+    this.stockReservationService = stockReservationService;
+    this.productCatalogCache = productCatalogCache;
   }
 
-  // 상품 목록 조회: deleted_at IS NULL인 상품만 가져오고, 태그는 productIds로 한 번에 batch 조회 (N+1 방지)
+  // 상품 목록 조회: 판매중 상품 스냅샷에서 바로 반환 (변경 시 ProductCatalogCache 가 상품 단위로 갱신)
   public List<ProductResponse> getProducts() {
-    List<Product> products =
-      productRepository.findAllByStatusAndDeletedAtIsNullOrderByIdAsc(Product.Status.ON_SALE);
-    if (products.isEmpty()) {
-      return Collections.emptyList();
-    }
-
-    // 조회된 상품 id 목록 뽑아서 IN 쿼리로 태그를 한 번에 가져오기
-    List<Long> productIds = products.stream()
-            .map(Product::getId)
-            .collect(Collectors.toList());
-
-    Map<Long, String> thumbnailUrls = productImageRepository
-      .findAllByProductIdInAndImageTypeAndSlotIndexAndDeletedAtIsNullOrderByProductIdAscIdAsc(
-        productIds, ImageType.THUMBNAIL, 0
-      ).stream()
-      .collect(Collectors.toMap(
-        ProductImage::getProductId,
-        ProductImage::getProductImageUrl,
-        (left, right) -> left
-      ));
-
-    Map<Long, Integer> livePrices = broadcastProductRepository.findLiveBpPrices(productIds).stream()
-            .collect(Collectors.toMap(
-                    BroadcastProductRepository.LivePriceRow::getProductId,
-                    BroadcastProductRepository.LivePriceRow::getBpPrice,
-                    (left, right) -> left
-            ));
-
-    // (product_id, tagCode, tagName) 형태의 projection row들
-    List<ProductTagRow> rows = productTagRepository.findActiveTagsByProductIds(productIds);
+    return productCatalogCache.getProducts();
+  }
 
-    // productId -> (tags, tagsFlat) 형태로 변환
-    Map<Long, TagsBundle> tagsByProductId = buildTagsByProductId(rows);
+  // 카탈로그 스냅샷 버전: 상품/태그/가격이 바뀔 때마다 증가 (미리 계산한 결과의 갱신 여부 판단용)
+  public long getCatalogVersion() {
+    return productCatalogCache.version();
+  }
 
-    // 상품 엔티티 + 태그 번들 => 프론트 호환 DTO로 조립
-    return products.stream()
-            .map(product -> {
-              TagsBundle bundle = tagsByProductId.get(product.getId());
-              ProductTags tags = bundle == null ? ProductTags.empty() : bundle.getTags();
-              List<String> tagsFlat = bundle == null ? Collections.emptyList() : bundle.getTagsFlat();
-              Integer priceOverride = livePrices.get(product.getId());
-              String thumbnailUrl = thumbnailUrls.get(product.getId());
-              return ProductResponse.fromWithPriceAndThumbnail(
-                product, tags, tagsFlat, priceOverride, thumbnailUrl, null
-              );
-            })
-            .collect(Collectors.toList());
+  // 스냅샷에서 ids 순서대로 조회. 판매중이 아닌 상품은 빠진다.
+  public List<ProductResponse> getCatalogProducts(List<Long> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<ProductResponse> responses = new ArrayList<>(ids.size());
+    for (Long id : ids) {
+      productCatalogCache.find(id).ifPresent(responses::add);
+    }
+    return responses;
   }
 
   // 상품 단건 조회: deleted_at IS NULL인 상품만 반환. 없으면 Optional.empty()
@@ -265,6 +243,7 @@ public class ProductService {
       0
     );
     Product saved = productRepository.save(product);
+    productCatalogCache.invalidateAfterCommit(saved.getId());
     return ProductCreateResponse.from(saved);
   }
 
@@ -297,6 +276,7 @@ public class ProductService {
     }
 
     Product saved = productRepository.save(product);
+    productCatalogCache.invalidateAfterCommit(productId);
     return SellerProductStatusUpdateResponse.from(saved);
   }
 
@@ -325,6 +305,7 @@ public class ProductService {
     }
 
     productRepository.save(product);
+    productCatalogCache.invalidateAfterCommit(productId);
   }
 
   public void updateProductBasicInfo(Long sellerId, Long productId, ProductBasicUpdateRequest request) {
@@ -404,7 +385,9 @@ public class ProductService {
         product.updatePrice(request.price());
       }
       if (request.stockQty() != null) {
+        int previousStockQty = product.getStockQty() == null ? 0 : product.getStockQty();
         product.updateStockQty(request.stockQty());
+        stockReservationService.adjustAfterCommit(productId, request.stockQty() - previousStockQty);
       }
       if (hasDetail) {
         product.changeDetailHtml(request.detailHtml());
@@ -498,6 +481,7 @@ public class ProductService {
     }
 
     productRepository.save(product);
+    productCatalogCache.invalidateAfterCommit(productId);
   }
 
   public SellerProductDetailResponse getSellerProductDetail(Long sellerId, Long productId) {
@@ -576,6 +560,7 @@ public class ProductService {
 
     product.setDeletedAt(LocalDateTime.now());
     productRepository.save(product);
+    productCatalogCache.invalidateAfterCommit(productId);
   }
 
   public List<ProductResponse> getProductsByIds(List<Long> ids) {
@@ -22,13 +22,16 @@ public class ProductTagService {
   private final ProductRepository productRepository;
   private final ProductTagRepository productTagRepository;
   private final TagRepository tagRepository;
+  private final ProductCatalogCache productCatalogCache;
 
   public ProductTagService(ProductRepository productRepository,
                            ProductTagRepository productTagRepository,
-                           TagRepository tagRepository) {
+                           TagRepository tagRepository,
+                           ProductCatalogCache productCatalogCache) {
     this.productRepository = productRepository;
     this.productTagRepository = productTagRepository;
     this.tagRepository = tagRepository;
+    this.productCatalogCache = productCatalogCache;
   }
 
   @Transactional
@@ -54,6 +57,7 @@ public class ProductTagService {
 
     if (uniqueIds.isEmpty()) {
       productTagRepository.deleteByProduct_Id(productId);
+      productCatalogCache.invalidateAfterCommit(productId);
       return;
     }
 
@@ -76,5 +80,6 @@ public class ProductTagService {
       mappings.add(productTag);
     }
     productTagRepository.saveAll(mappings);
+    productCatalogCache.invalidateAfterCommit(productId);
   }
 }
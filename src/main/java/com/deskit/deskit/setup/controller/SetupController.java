@@ -2,16 +2,20 @@ package com.deskit.deskit.setup.controller;
 
 import com.deskit.deskit.setup.dto.SetupResponse;
 import com.deskit.deskit.setup.service.SetupService;
+import com.deskit.deskit.tag.entity.TagCategory.TagCode;
+import com.deskit.deskit.tag.service.TagFilters;
 import java.util.List;
+import java.util.Map;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
  * Setup(셋업) 조회 전용 REST API 컨트롤러
- * - /api/setups: 셋업 목록 조회
+ * - /api/setups: 셋업 목록 조회 (space/tone/situation/mood 태그 필터 선택)
  * - /api/setups/{id}: 셋업 단건 조회
  *
  * 포인트:
@@ -34,10 +38,17 @@ public class SetupController {
   /**
    * 셋업 목록 조회
    * - Service에서 tags/tagsFlat까지 포함한 DTO 리스트로 변환해서 반환
+   * - space/tone/situation/mood: 태그명 (콤마 구분, 같은 분류 안에서는 OR, 분류끼리는 AND). 없으면 전체
    */
   @GetMapping
-  public List<SetupResponse> getSetups() {
-    return setupService.getSetups();
+  public List<SetupResponse> getSetups(
+          @RequestParam(name = "space", required = false) List<String> space,
+          @RequestParam(name = "tone", required = false) List<String> tone,
+          @RequestParam(name = "situation", required = false) List<String> situation,
+          @RequestParam(name = "mood", required = false) List<String> mood
+  ) {
+    Map<TagCode, List<String>> tags = TagFilters.of(space, tone, situation, mood);
+    return setupService.getSetups(tags);
   }
 
   /**
@@ -51,4 +62,4 @@ public class SetupController {
             .map(ResponseEntity::ok)
             .orElseGet(() -> ResponseEntity.notFound().build());
   }
-}
\ No newline at end of file
+}
@@ -9,13 +9,18 @@ import com.deskit.deskit.setup.repository.SetupTagRepository;
 import com.deskit.deskit.setup.repository.SetupTagRepository.SetupTagRow;
 import com.deskit.deskit.tag.entity.TagCategory.TagCode;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.springframework.stereotype.Service;
 
 @Service // Setup 관련 조회/조합 로직을 담당하는 스프링 서비스 빈
@@ -39,6 +44,13 @@ public class SetupService {
   // - 셋업ID 리스트로 태그를 한 번에 batch 조회해서 N+1 방지
   // - 프론트가 원하는 tags(카테고리별) + tagsFlat(합친 리스트)로 조립
   public List<SetupResponse> getSetups() {
+    return getSetups(Collections.emptyMap());
+  }
+
+  // 태그 조건 셋업 목록:
+  // - 같은 분류(space/tone/situation/mood) 안에서는 OR, 분류끼리는 AND
+  // - 이미 읽은 태그 row 로 셋업별 태그 서명을 만들어 비트 연산으로 거른다. (조건이 없으면 전체)
+  public List<SetupResponse> getSetups(Map<TagCode, List<String>> tagFilters) {
     List<Setup> setups = setupRepository.findAllByDeletedAtIsNullOrderByIdAsc();
     if (setups.isEmpty()) {
       return Collections.emptyList();
@@ -51,6 +63,14 @@ public class SetupService {
     // (setup_id, tagCode, tagName) 형태의 projection row들
     List<SetupTagRow> rows = setupTagRepository.findActiveTagsBySetupIds(setupIds);
 
+    BitSet matched = matchTags(setupIds, rows, tagFilters);
+    if (matched != null) {
+      setups = IntStream.range(0, setups.size())
+              .filter(matched::get)
+              .mapToObj(setups::get)
+              .collect(Collectors.toList());
+    }
+
     // setupId -> (tags, tagsFlat) 번들로 변환
     Map<Long, TagsBundle> tagsBySetupId = buildTagsBySetupId(rows);
 
@@ -91,6 +111,49 @@ public class SetupService {
     return Optional.of(SetupResponse.from(setup.get(), tags, tagsFlat, productIds, resolvedImageUrl));
   }
 
+  // setupIds 순서 기준으로 조건에 맞는 위치. 조건이 없으면 null
+  // - 방금 읽은 태그 row 를 한 번만 훑는다. (같은 분류 안에서는 OR, 분류끼리는 AND)
+  static BitSet matchTags(List<Long> setupIds, List<SetupTagRow> rows, Map<TagCode, List<String>> tagFilters) {
+    Map<TagCode, Set<String>> wanted = new EnumMap<>(TagCode.class);
+    if (tagFilters != null) {
+      tagFilters.forEach((code, names) -> {
+        if (code != null && names != null && !names.isEmpty()) {
+          wanted.put(code, new HashSet<>(names));
+        }
+      });
+    }
+    if (wanted.isEmpty()) {
+      return null;
+    }
+
+    Map<Long, Integer> positions = new HashMap<>();
+    for (int position = 0; position < setupIds.size(); position++) {
+      positions.putIfAbsent(setupIds.get(position), position);
+    }
+    Map<TagCode, BitSet> matchedByCode = new EnumMap<>(TagCode.class);
+    wanted.keySet().forEach(code -> matchedByCode.put(code, new BitSet(setupIds.size())));
+    for (SetupTagRow row : rows) {
+      if (row == null || row.getSetupId() == null || row.getTagCode() == null) {
+        continue;
+      }
+      Set<String> names = wanted.get(row.getTagCode());
+      Integer position = positions.get(row.getSetupId());
+      if (names != null && position != null && names.contains(row.getTagName())) {
+        matchedByCode.get(row.getTagCode()).set(position);
+      }
+    }
+
+    BitSet result = null;
+    for (BitSet matched : matchedByCode.values()) {
+      if (result == null) {
+        result = matched;
+      } else {
+        result.and(matched);
+      }
+    }
+    return result;
+  }
+
   private String resolveSetupImageUrl(String raw) {
     if (raw == null || raw.isBlank()) {
       return raw;
@@ -0,0 +1,129 @@
+package com.deskit.deskit.tag.service;
+
+import com.deskit.deskit.tag.entity.TagCategory.TagCode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * (TagCode, tagName) -> 비트 번호 사전 (불변)
+ *
+ * - 비트 번호는 코드와 무관하게 0 부터 이어지므로 한 엔티티의 태그 전체를 long[] 하나로 표현할 수 있다.
+ * - 같은 이름이라도 코드가 다르면 다른 비트다.
+ * - 마스크(long[])는 TagSignatures 의 서명과 같은 길이로 만든다.
+ */
+public final class TagDictionary {
+
+  private final Map<TagCode, Map<String, Integer>> bitsByCode;
+  private final List<TagCode> codes;
+  private final List<String> names;
+
+  private TagDictionary(Map<TagCode, Map<String, Integer>> bitsByCode, List<TagCode> codes, List<String> names) {
+    this.bitsByCode = bitsByCode;
+    this.codes = codes;
+    this.names = names;
+  }
+
+  public int size() {
+    return names.size();
+  }
+
+  // 서명/마스크 한 개에 필요한 long 개수
+  public int words() {
+    return Math.max(1, (size() + 63) >>> 6);
+  }
+
+  /**
+   * 없는 태그면 -1
+   */
+  public int bitOf(TagCode code, String tagName) {
+    if (code == null || tagName == null) {
+      return -1;
+    }
+    Integer bit = bitsByCode.getOrDefault(code, Collections.emptyMap()).get(tagName);
+    return bit == null ? -1 : bit;
+  }
+
+  public TagCode codeOf(int bit) {
+    return codes.get(bit);
+  }
+
+  public String nameOf(int bit) {
+    return names.get(bit);
+  }
+
+  /**
+   * 이름이 정확히 같은 태그들의 마스크. 사전에 없는 이름은 무시한다.
+   */
+  public long[] mask(TagCode code, Collection<String> tagNames) {
+    long[] mask = new long[words()];
+    if (tagNames == null) {
+      return mask;
+    }
+    for (String tagName : tagNames) {
+      int bit = bitOf(code, tagName);
+      if (bit >= 0) {
+        mask[bit >>> 6] |= 1L << bit;
+      }
+    }
+    return mask;
+  }
+
+  /**
+   * 조건에 맞는 태그들의 마스크. 조건은 행(row) 수가 아니라 사전 크기만큼만 평가된다.
+   */
+  public long[] maskMatching(TagCode code, Predicate<String> predicate) {
+    long[] mask = new long[words()];
+    Map<String, Integer> bits = bitsByCode.get(code);
+    if (bits == null) {
+      return mask;
+    }
+    for (Map.Entry<String, Integer> entry : bits.entrySet()) {
+      if (predicate.test(entry.getKey())) {
+        int bit = entry.getValue();
+        mask[bit >>> 6] |= 1L << bit;
+      }
+    }
+    return mask;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static final class Builder {
+
+    private final Map<TagCode, Map<String, Integer>> bitsByCode = new EnumMap<>(TagCode.class);
+    private final List<TagCode> codes = new ArrayList<>();
+    private final List<String> names = new ArrayList<>();
+
+    private Builder() {
+    }
+
+    /**
+     * 처음 보는 태그면 다음 비트 번호를 배정한다. code/tagName 이 비어 있으면 -1
+     */
+    public int intern(TagCode code, String tagName) {
+      if (code == null || tagName == null || tagName.isBlank()) {
+        return -1;
+      }
+      return bitsByCode.computeIfAbsent(code, ignored -> new HashMap<>())
+        .computeIfAbsent(tagName, ignored -> {
+          codes.add(code);
+          names.add(tagName);
+          return names.size() - 1;
+        });
+    }
+
+    public TagDictionary build() {
+      Map<TagCode, Map<String, Integer>> frozen = new EnumMap<>(TagCode.class);
+      bitsByCode.forEach((code, bits) -> frozen.put(code, Map.copyOf(bits)));
+      return new TagDictionary(Collections.unmodifiableMap(frozen), List.copyOf(codes), List.copyOf(names));
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.deskit.deskit.tag.service;
+
+import com.deskit.deskit.tag.entity.TagCategory.TagCode;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 목록/검색 API 의 태그 조건(space/tone/situation/mood 쿼리 파라미터) -> 분류별 태그명
+ * - 공백은 trim, 빈 값은 버린다. 값이 하나도 없는 분류는 맵에 넣지 않는다. (= 해당 분류 조건 없음)
+ */
+public final class TagFilters {
+
+  private TagFilters() {
+  }
+
+  public static Map<TagCode, List<String>> of(List<String> space, List<String> tone,
+                                              List<String> situation, List<String> mood) {
+    Map<TagCode, List<String>> tags = new EnumMap<>(TagCode.class);
+    put(tags, TagCode.SPACE, space);
+    put(tags, TagCode.TONE, tone);
+    put(tags, TagCode.SITUATION, situation);
+    put(tags, TagCode.MOOD, mood);
+    return tags;
+  }
+
+  private static void put(Map<TagCode, List<String>> tags, TagCode code, List<String> values) {
+    if (values == null) {
+      return;
+    }
+    List<String> names = values.stream()
+      .map(String::trim)
+      .filter(value -> !value.isEmpty())
+      .toList();
+    if (!names.isEmpty()) {
+      tags.put(code, names);
+    }
+  }
+}
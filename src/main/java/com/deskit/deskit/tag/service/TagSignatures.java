@@ -0,0 +1,194 @@
+package com.deskit.deskit.tag.service;
+
+import com.deskit.deskit.tag.entity.TagCategory.TagCode;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 엔티티(상품/셋업)별 태그 서명 (불변)
+ *
+ * - 위치(position)는 빌더에 넘긴 id 순서 그대로다. 태그가 없는 엔티티도 자리를 가진다.
+ * - 서명: 위치마다 TagDictionary 비트를 켠 long[words] (연속된 long[] 하나에 행 단위로 저장)
+ * - 역색인: 비트마다 그 태그를 가진 위치의 BitSet. 필터는 역색인 OR/AND, 점수는 서명 AND 후 popcount.
+ */
+public final class TagSignatures {
+
+  private final TagDictionary dictionary;
+  private final long[] entityIds;
+  private final int words;
+  private final long[] signatures;
+  private final BitSet[] postings;
+
+  private TagSignatures(TagDictionary dictionary, long[] entityIds, long[] signatures, BitSet[] postings) {
+    this.dictionary = dictionary;
+    this.entityIds = entityIds;
+    this.words = dictionary.words();
+    this.signatures = signatures;
+    this.postings = postings;
+  }
+
+  public TagDictionary dictionary() {
+    return dictionary;
+  }
+
+  public int size() {
+    return entityIds.length;
+  }
+
+  public long entityId(int position) {
+    return entityIds[position];
+  }
+
+  /**
+   * 서명과 마스크가 겹치는 태그 수
+   */
+  public int count(int position, long[] mask) {
+    int offset = position * words;
+    int count = 0;
+    for (int word = 0; word < words; word++) {
+      count += Long.bitCount(signatures[offset + word] & mask[word]);
+    }
+    return count;
+  }
+
+  public boolean intersects(int position, long[] mask) {
+    int offset = position * words;
+    for (int word = 0; word < words; word++) {
+      if ((signatures[offset + word] & mask[word]) != 0L) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 위치별 가중 점수: sum(weights[i] * count(position, masks[i]))
+   */
+  public int[] score(long[][] masks, int[] weights) {
+    int[] scores = new int[entityIds.length];
+    for (int position = 0; position < entityIds.length; position++) {
+      int score = 0;
+      for (int i = 0; i < masks.length; i++) {
+        if (weights[i] != 0) {
+          score += weights[i] * count(position, masks[i]);
+        }
+      }
+      scores[position] = score;
+    }
+    return scores;
+  }
+
+  /**
+   * 마스크 태그 중 하나라도 가진 위치
+   */
+  public BitSet withAny(long[] mask) {
+    BitSet result = new BitSet(entityIds.length);
+    for (int word = 0; word < mask.length; word++) {
+      long bits = mask[word];
+      while (bits != 0L) {
+        int bit = (word << 6) + Long.numberOfTrailingZeros(bits);
+        result.or(postings[bit]);
+        bits &= bits - 1;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 태그 조건에 맞는 위치. 같은 코드 안에서는 OR, 코드끼리는 AND. 조건이 없으면 null (= 전체)
+   */
+  public BitSet filter(Map<TagCode, ? extends Collection<String>> tagsByCode) {
+    if (tagsByCode == null) {
+      return null;
+    }
+    BitSet result = null;
+    for (Map.Entry<TagCode, ? extends Collection<String>> entry : tagsByCode.entrySet()) {
+      Collection<String> names = entry.getValue();
+      if (entry.getKey() == null || names == null || names.isEmpty()) {
+        continue;
+      }
+      BitSet anyOf = withAny(dictionary.mask(entry.getKey(), names));
+      if (result == null) {
+        result = anyOf;
+      } else {
+        result.and(anyOf);
+      }
+    }
+    return result;
+  }
+
+  public static Builder builder(List<Long> entityIds) {
+    return new Builder(entityIds);
+  }
+
+  public static final class Builder {
+
+    private final TagDictionary.Builder dictionary = TagDictionary.builder();
+    private final long[] entityIds;
+    private final Map<Long, Integer> positions;
+    private final BitSet[] bitsByPosition;
+
+    private Builder(List<Long> entityIds) {
+      int size = entityIds.size();
+      this.entityIds = new long[size];
+      this.positions = new HashMap<>(Math.max(16, size * 2));
+      this.bitsByPosition = new BitSet[size];
+      for (int position = 0; position < size; position++) {
+        Long entityId = entityIds.get(position);
+        this.entityIds[position] = entityId == null ? 0L : entityId;
+        if (entityId != null) {
+          positions.putIfAbsent(entityId, position);
+        }
+      }
+    }
+
+    /**
+     * 목록에 없는 id, 비어 있는 코드/이름은 무시한다.
+     */
+    public Builder add(Long entityId, TagCode code, String tagName) {
+      Integer position = entityId == null ? null : positions.get(entityId);
+      if (position != null) {
+        addAt(position, code, tagName);
+      }
+      return this;
+    }
+
+    public Builder addAt(int position, TagCode code, String tagName) {
+      int bit = dictionary.intern(code, tagName);
+      if (bit >= 0) {
+        BitSet bits = bitsByPosition[position];
+        if (bits == null) {
+          bits = new BitSet();
+          bitsByPosition[position] = bits;
+        }
+        bits.set(bit);
+      }
+      return this;
+    }
+
+    public TagSignatures build() {
+      TagDictionary built = dictionary.build();
+      int words = built.words();
+      long[] signatures = new long[entityIds.length * words];
+      BitSet[] postings = new BitSet[built.size()];
+      for (int bit = 0; bit < postings.length; bit++) {
+        postings[bit] = new BitSet(entityIds.length);
+      }
+      for (int position = 0; position < entityIds.length; position++) {
+        BitSet bits = bitsByPosition[position];
+        if (bits == null) {
+          continue;
+        }
+        long[] packed = bits.toLongArray();
+        System.arraycopy(packed, 0, signatures, position * words, packed.length);
+        for (int bit = bits.nextSetBit(0); bit >= 0; bit = bits.nextSetBit(bit + 1)) {
+          postings[bit].set(position);
+        }
+      }
+      return new TagSignatures(built, entityIds, signatures, postings);
+    }
+  }
+}
@@ -0,0 +1,11 @@
+-- loadtest 프로필 기본 데이터: 예약 시나리오용 카테고리, 입장/퇴장 시나리오용 ON_AIR 방송(broadcast_id=1)
+INSERT INTO tag_category (tag_code, tag_category_name, created_at, updated_at)
+VALUES ('SPACE', '홈오피스', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+INSERT INTO seller (status, created_at, updated_at, name, login_id, phone, role, is_agreed)
+VALUES ('ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'loadtest-host', 'loadtest-host@deskit.local', '010-0000-0000', 'ROLE_SELLER_OWNER', TRUE);
+
+INSERT INTO broadcast (seller_id, tag_category_id, broadcast_title, status, scheduled_at, started_at,
+                       broadcast_thumb_url, broadcast_layout, created_at, updated_at)
+VALUES (1, 1, 'loadtest live', 'ON_AIR', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP,
+        'http://localhost/loadtest-thumb.jpg', 'FULL', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
@@ -0,0 +1,88 @@
+package com.deskit.deskit.account.service;
+
+import com.deskit.deskit.account.entity.Member;
+import com.deskit.deskit.account.enums.MemberStatus;
+import com.deskit.deskit.account.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberIdentityCacheTest {
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    private final RedisMessageListenerContainer listenerContainer = mock(RedisMessageListenerContainer.class);
+
+    private final MemberIdentityCache cache =
+            new MemberIdentityCache(memberRepository, redisTemplate, listenerContainer, 30, 2);
+
+    @Test
+    void loginIdLookupIsServedFromCacheAndAlsoWarmsMemberIdLookup() {
+        when(memberRepository.findByLoginId("user@deskit.com")).thenReturn(member(1L, "user@deskit.com"));
+
+        MemberIdentityCache.Identity first = cache.findByLoginId("user@deskit.com");
+        MemberIdentityCache.Identity second = cache.findByLoginId("user@deskit.com");
+
+        assertThat(first.memberId()).isEqualTo(1L);
+        assertThat(second).isEqualTo(first);
+        assertThat(cache.exists(1L)).isTrue();
+        verify(memberRepository, times(1)).findByLoginId("user@deskit.com");
+        verify(memberRepository, times(0)).findById(1L);
+    }
+
+    @Test
+    void missingMemberIsNotCached() {
+        when(memberRepository.findById(9L)).thenReturn(Optional.empty());
+
+        assertThat(cache.exists(9L)).isFalse();
+        assertThat(cache.exists(9L)).isFalse();
+
+        verify(memberRepository, times(2)).findById(9L);
+    }
+
+    @Test
+    void invalidationMessageEvictsBothKeys() {
+        when(memberRepository.findByLoginId("user@deskit.com")).thenReturn(member(1L, "user@deskit.com"));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member(1L, "user@deskit.com")));
+        cache.findByLoginId("user@deskit.com");
+
+        cache.onMessage(new DefaultMessage(
+                MemberIdentityCache.INVALIDATE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1|user@deskit.com".getBytes(StandardCharsets.UTF_8)), null);
+        cache.findByLoginId("user@deskit.com");
+        cache.exists(1L);
+
+        verify(memberRepository, times(2)).findByLoginId("user@deskit.com");
+    }
+
+    @Test
+    void cacheIsBoundedBySize() {
+        for (long id = 1; id <= 3; id++) {
+            when(memberRepository.findById(id)).thenReturn(Optional.of(member(id, "user" + id)));
+            cache.exists(id);
+        }
+
+        cache.exists(1L);
+
+        verify(memberRepository, times(2)).findById(1L);
+    }
+
+    private Member member(Long memberId, String loginId) {
+        return Member.builder()
+                .memberId(memberId)
+                .loginId(loginId)
+                .status(MemberStatus.ACTIVE)
+                .build();
+    }
+}
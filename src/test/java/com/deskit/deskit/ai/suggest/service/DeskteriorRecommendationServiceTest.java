@@ -19,7 +19,11 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -200,6 +204,48 @@ class DeskteriorRecommendationServiceTest {
         assertThat(result).isNotEmpty();
     }
 
+    @Test
+    void refreshPrecomputesEveryProfileAndServesFromTable() {
+        stubCatalogForPrecompute();
+        service.refreshProfileRankings();
+        when(memberRepository.findByLoginId("user")).thenReturn(member(MBTI.ENFP, JobCategory.FLEXIBLE_TYPE));
+        when(productService.getCatalogProducts(List.of(1L, 2L))).thenReturn(List.of(product(1L), product(2L)));
+
+        List<ProductResponse> result = service.recommendForLoginId("user", 2);
+
+        assertThat(result).extracting(ProductResponse::getProductId).containsExactly(1L, 2L);
+        verify(preferenceTagMapper, times(16 * 5)).map(any(MBTI.class), any(JobCategory.class));
+        verify(productTagRepository, times(1)).findActiveTagsByProductIds(List.of(1L, 2L, 3L));
+        verify(productService, never()).getProductsByIds(anyList());
+    }
+
+    @Test
+    void refreshSkipsUntilCatalogVersionChanges() {
+        stubCatalogForPrecompute();
+
+        service.refreshProfileRankings();
+        service.refreshProfileRankings();
+        verify(productTagRepository, times(1)).findActiveTagsByProductIds(List.of(1L, 2L, 3L));
+
+        when(productService.getCatalogVersion()).thenReturn(2L);
+        service.refreshProfileRankings();
+        verify(productTagRepository, times(2)).findActiveTagsByProductIds(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void precomputedRankingFallsBackToLiveWhenProductLeftCatalog() {
+        stubCatalogForPrecompute();
+        service.refreshProfileRankings();
+        when(memberRepository.findByLoginId("user")).thenReturn(member(MBTI.INTJ, JobCategory.CREATIVE_TYPE));
+        when(productService.getCatalogProducts(List.of(1L))).thenReturn(List.of());
+        when(productService.getProductsByIds(List.of(1L))).thenReturn(List.of(product(1L)));
+
+        List<ProductResponse> result = service.recommendForLoginId("user", 1);
+
+        assertThat(result).extracting(ProductResponse::getProductId).containsExactly(1L);
+        verify(productService).getProductsByIds(List.of(1L));
+    }
+
     @Test
     void weightForReturnsZeroForNullTagCode() throws Exception {
         Method method = DeskteriorRecommendationService.class.getDeclaredMethod("weightFor", TagCode.class);
@@ -232,6 +278,19 @@ class DeskteriorRecommendationServiceTest {
         assertThat(result).isEqualTo(Integer.MAX_VALUE);
     }
 
+    private void stubCatalogForPrecompute() {
+        UserPreferenceTags tags = mock(UserPreferenceTags.class);
+        when(preferenceTagMapper.map(any(MBTI.class), any(JobCategory.class))).thenReturn(tags);
+        when(tags.isEmpty()).thenReturn(false);
+        when(tags.allTagNames()).thenReturn(List.of("focus"));
+        when(tags.matches(TagCode.MOOD, "focus")).thenReturn(true);
+        when(tags.matches(TagCode.SITUATION, "focus")).thenReturn(true);
+        when(productService.getCatalogVersion()).thenReturn(1L);
+        when(productService.getProducts()).thenReturn(List.of(product(1L), product(2L), product(3L)));
+        when(productTagRepository.findActiveTagsByProductIds(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(row(1L, TagCode.MOOD, "focus"), row(2L, TagCode.SITUATION, "focus")));
+    }
+
     private Member member(MBTI mbti, JobCategory jobCategory) {
         return Member.builder()
                 .loginId("user")
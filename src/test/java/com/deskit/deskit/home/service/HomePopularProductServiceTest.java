@@ -0,0 +1,86 @@
+package com.deskit.deskit.home.service;
+
+import com.deskit.deskit.home.dto.HomePopularProductResponse;
+import com.deskit.deskit.product.repository.ProductRepository;
+import com.deskit.deskit.product.repository.ProductRepository.PopularProductRow;
+import com.deskit.deskit.product.service.ProductPopularityLeaderboard;
+import com.deskit.deskit.product.service.ProductPopularityLeaderboard.Entry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HomePopularProductServiceTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductPopularityLeaderboard leaderboard = mock(ProductPopularityLeaderboard.class);
+
+    private final HomePopularProductService service = new HomePopularProductService(productRepository, leaderboard);
+
+    @Test
+    void keepsLeaderboardOrderAndSkipsDeletedProducts() {
+        when(leaderboard.top(6)).thenReturn(List.of(
+                new Entry(3L, 9L),
+                new Entry(2L, 5L),
+                new Entry(1L, 5L),
+                new Entry(4L, 1L)
+        ));
+        // 3번은 삭제돼 카드가 없다.
+        List<PopularProductRow> cards = List.of(card(1L), card(2L), card(4L));
+        when(productRepository.findPopularProductCardsByIds(List.of(3L, 2L, 1L, 4L))).thenReturn(cards);
+
+        List<HomePopularProductResponse> responses = service.getPopularProducts(3);
+
+        assertThat(responses)
+                .extracting("productId", "soldQty")
+                .containsExactly(
+                        tuple(2L, 5L),
+                        tuple(1L, 5L),
+                        tuple(4L, 1L)
+                );
+        verify(productRepository, never()).findNewestProductCards(anyInt());
+    }
+
+    @Test
+    void padsWithNewestProductsWhenSalesHistoryIsShort() {
+        when(leaderboard.top(6)).thenReturn(List.of(new Entry(7L, 2L)));
+        List<PopularProductRow> ranked = List.of(card(7L));
+        when(productRepository.findPopularProductCardsByIds(List.of(7L))).thenReturn(ranked);
+        List<PopularProductRow> newest = List.of(card(9L), card(7L), card(8L), card(6L));
+        when(productRepository.findNewestProductCards(4)).thenReturn(newest);
+
+        List<HomePopularProductResponse> responses = service.getPopularProducts(3);
+
+        assertThat(responses)
+                .extracting("productId", "soldQty")
+                .containsExactly(
+                        tuple(7L, 2L),
+                        tuple(9L, 0L),
+                        tuple(8L, 0L)
+                );
+    }
+
+    @Test
+    void nonPositiveLimitReturnsEmptyWithoutQueries() {
+        assertThat(service.getPopularProducts(0)).isEmpty();
+
+        verify(leaderboard, never()).top(anyInt());
+        verify(productRepository, never()).findPopularProductCardsByIds(anyList());
+    }
+
+    private PopularProductRow card(Long productId) {
+        PopularProductRow row = mock(PopularProductRow.class);
+        when(row.getProductId()).thenReturn(productId);
+        when(row.getProductName()).thenReturn("상품" + productId);
+        when(row.getPrice()).thenReturn(10000);
+        return row;
+    }
+}
@@ -0,0 +1,241 @@
+package com.deskit.deskit.order.payment.service;
+
+import com.deskit.deskit.common.http.OutboundHttpClient;
+import com.deskit.deskit.livehost.repository.BroadcastProductRepository;
+import com.deskit.deskit.livehost.service.BroadcastSalesCounter;
+import com.deskit.deskit.order.entity.Order;
+import com.deskit.deskit.order.entity.OrderItem;
+import com.deskit.deskit.order.enums.OrderStatus;
+import com.deskit.deskit.order.payment.dto.TossPaymentConfirmRequest;
+import com.deskit.deskit.order.payment.dto.TossPaymentConfirmResult;
+import com.deskit.deskit.order.payment.entity.TossPayment;
+import com.deskit.deskit.order.payment.repository.TossPaymentRepository;
+import com.deskit.deskit.order.payment.repository.TossRefundRepository;
+import com.deskit.deskit.order.repository.OrderItemRepository;
+import com.deskit.deskit.order.repository.OrderRepository;
+import com.deskit.deskit.order.service.StockReservationService;
+import com.deskit.deskit.product.repository.ProductRepository;
+import com.deskit.deskit.product.service.ProductPriceEpochService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TossPaymentServiceTest {
+
+    private static final long ORDER_ID = 11L;
+    private static final String ORDER_NUMBER = "ORD-20260101-0001";
+    private static final int ORDER_AMOUNT = 33000;
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final TossPaymentRepository tossPaymentRepository = mock(TossPaymentRepository.class);
+    private final OrderItemRepository orderItemRepository = mock(OrderItemRepository.class);
+    private final ProductPriceEpochService productPriceEpochService = mock(ProductPriceEpochService.class);
+    private final StockReservationService stockReservationService = mock(StockReservationService.class);
+    private final OutboundHttpClient outboundHttpClient = mock(OutboundHttpClient.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private TossPaymentService service;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        service = new TossPaymentService(
+                orderRepository,
+                tossPaymentRepository,
+                mock(TossRefundRepository.class),
+                orderItemRepository,
+                mock(ProductRepository.class),
+                mock(BroadcastProductRepository.class),
+                new ObjectMapper(),
+                mock(BroadcastSalesCounter.class),
+                stockReservationService,
+                new TransactionTemplate(transactionManager),
+                outboundHttpClient,
+                productPriceEpochService,
+                mock(ApplicationEventPublisher.class)
+        );
+        ReflectionTestUtils.setField(service, "tossSecretKey", "test_sk");
+        ReflectionTestUtils.setField(service, "tossBaseUrl", "https://toss.test");
+        ReflectionTestUtils.setField(service, "pendingRecoverySeconds", 120L);
+
+        order = Order.create(1L, "addr", ORDER_NUMBER, 30000, 3000, 0, ORDER_AMOUNT, OrderStatus.CREATED);
+        ReflectionTestUtils.setField(order, "id", ORDER_ID);
+        when(orderRepository.findByOrderNumberForUpdate(ORDER_NUMBER)).thenReturn(Optional.of(order));
+        when(orderRepository.findByIdForUpdate(ORDER_ID)).thenReturn(Optional.of(order));
+
+        // 주문 시점 가격 epoch 가 현재와 같다 (가격 변경 없음)
+        OrderItem item = mock(OrderItem.class);
+        when(item.getProductId()).thenReturn(5L);
+        when(item.getPriceEpoch()).thenReturn(3L);
+        when(item.getQuantity()).thenReturn(1);
+        when(orderItemRepository.findByOrder_Id(ORDER_ID)).thenReturn(List.of(item));
+        when(productPriceEpochService.currentEpochs(anyList())).thenReturn(Map.of(5L, 3L));
+    }
+
+    @Test
+    void confirmMarksPaidAndSavesPaymentOnSuccess() throws Exception {
+        respond("/v1/payments/confirm", 200, approvedBody(ORDER_AMOUNT));
+
+        TossPaymentConfirmResult result = service.confirmPayment(request());
+
+        assertThat(result.statusCode()).isEqualTo(200);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAID);
+        verify(tossPaymentRepository).save(any(TossPayment.class));
+    }
+
+    @Test
+    void definitiveRejectionRevertsOrderToCreated() throws Exception {
+        respond("/v1/payments/confirm", 400, "{\"code\":\"REJECT_CARD_PAYMENT\",\"message\":\"rejected\"}");
+
+        TossPaymentConfirmResult result = service.confirmPayment(request());
+
+        assertThat(result.statusCode()).isEqualTo(400);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CREATED);
+        verify(tossPaymentRepository, never()).save(any());
+    }
+
+    @Test
+    void serverErrorKeepsPaymentPending() throws Exception {
+        respond("/v1/payments/confirm", 500, "{\"code\":\"FAILED_INTERNAL_SYSTEM_PROCESSING\"}");
+
+        assertBadGateway(() -> service.confirmPayment(request()));
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAYMENT_PENDING);
+    }
+
+    @Test
+    void unknownClientErrorCodeKeepsPaymentPending() throws Exception {
+        respond("/v1/payments/confirm", 400, "{\"code\":\"SOME_NEW_CODE\"}");
+
+        assertBadGateway(() -> service.confirmPayment(request()));
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAYMENT_PENDING);
+    }
+
+    @Test
+    void timeoutKeepsPaymentPending() throws Exception {
+        when(outboundHttpClient.execute(eq("toss"), eq("confirm"), any(Request.class)))
+                .thenThrow(new SocketTimeoutException("read timed out"));
+
+        assertBadGateway(() -> service.confirmPayment(request()));
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAYMENT_PENDING);
+    }
+
+    @Test
+    void alreadyProcessedLeavesOrderPendingForRecovery() throws Exception {
+        respond("/v1/payments/confirm", 400, "{\"code\":\"ALREADY_PROCESSED_PAYMENT\"}");
+
+        TossPaymentConfirmResult result = service.confirmPayment(request());
+
+        assertThat(result.statusCode()).isEqualTo(400);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAYMENT_PENDING);
+        verify(tossPaymentRepository, never()).save(any());
+    }
+
+    @Test
+    void recoveryMarksPaidWhenTossReportsDone() throws Exception {
+        pendingOrder();
+        respond("/v1/payments/orders/" + ORDER_NUMBER, 200, approvedBody(ORDER_AMOUNT));
+
+        service.recoverPendingPayments();
+
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAID);
+        verify(tossPaymentRepository).save(argThat(payment -> ORDER_NUMBER.equals(payment.getOrderId())));
+    }
+
+    @Test
+    void recoveryKeepsPendingOnAmountMismatch() throws Exception {
+        pendingOrder();
+        respond("/v1/payments/orders/" + ORDER_NUMBER, 200, approvedBody(ORDER_AMOUNT - 1000));
+
+        service.recoverPendingPayments();
+
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAYMENT_PENDING);
+        verify(tossPaymentRepository, never()).save(any());
+    }
+
+    @Test
+    void recoveryRevertsToCreatedWhenTossHasNoPayment() throws Exception {
+        pendingOrder();
+        respond("/v1/payments/orders/" + ORDER_NUMBER, 404, "{\"code\":\"NOT_FOUND_PAYMENT\"}");
+        respond("/v1/payments/orders/" + ORDER_ID, 404, "{\"code\":\"NOT_FOUND_PAYMENT\"}");
+
+        service.recoverPendingPayments();
+
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CREATED);
+    }
+
+    @Test
+    void recoveryKeepsPendingWhilePaymentInProgressOrLookupFails() throws Exception {
+        pendingOrder();
+        respond("/v1/payments/orders/" + ORDER_NUMBER, 200, "{\"status\":\"IN_PROGRESS\"}");
+        service.recoverPendingPayments();
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAYMENT_PENDING);
+
+        respond("/v1/payments/orders/" + ORDER_NUMBER, 503, "{\"code\":\"PROVIDER_ERROR\"}");
+        service.recoverPendingPayments();
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAYMENT_PENDING);
+    }
+
+    private void pendingOrder() {
+        order.markPaymentPending();
+        when(orderRepository.findTop50ByStatusAndUpdatedAtBeforeOrderByUpdatedAtAsc(eq(OrderStatus.PAYMENT_PENDING), any()))
+                .thenReturn(List.of(order));
+    }
+
+    private TossPaymentConfirmRequest request() {
+        return new TossPaymentConfirmRequest("pay_key_1", ORDER_NUMBER, (long) ORDER_AMOUNT);
+    }
+
+    private String approvedBody(long totalAmount) {
+        return """
+                {"paymentKey":"pay_key_1","orderId":"%s","method":"카드","status":"DONE","totalAmount":%d,
+                 "requestedAt":"2026-01-01T10:00:00+09:00","approvedAt":"2026-01-01T10:00:05+09:00"}
+                """.formatted(ORDER_NUMBER, totalAmount);
+    }
+
+    private void respond(String path, int code, String json) throws Exception {
+        when(outboundHttpClient.execute(eq("toss"), any(), argThat(request -> request != null
+                && request.url().encodedPath().equals(path))))
+                .thenAnswer(invocation -> new Response.Builder()
+                        .request(invocation.getArgument(2))
+                        .protocol(Protocol.HTTP_1_1)
+                        .code(code)
+                        .message("test")
+                        .body(ResponseBody.create(json, MediaType.get("application/json")))
+                        .build());
+    }
+
+    private void assertBadGateway(Runnable call) {
+        assertThatThrownBy(call::run)
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_GATEWAY));
+    }
+}
@@ -0,0 +1,178 @@
+package com.deskit.deskit.order.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class OrderNumberGeneratorTest {
+
+    private static final long NOW = OrderNumberGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    void idsAreUniqueAndIncreasingPerThreadUnderConcurrency() throws Exception {
+        OrderNumberGenerator generator = new OrderNumberGenerator(7, System::currentTimeMillis);
+        int threads = 16;
+        int perThread = 50_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    long previous = Long.MIN_VALUE;
+                    boolean increasing = true;
+                    for (int i = 0; i < perThread; i++) {
+                        long id = generator.nextId();
+                        increasing &= id > previous;
+                        previous = id;
+                        ids.add(id);
+                    }
+                    return increasing;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    void sequenceOverflowWithinSameMillisecondStaysUnique() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(1, () -> NOW);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        long previous = Long.MIN_VALUE;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+            ids.add(id);
+        }
+        assertThat(ids).hasSize(10_000);
+    }
+
+    @Test
+    void clockMovingBackwardsDoesNotBreakMonotonicity() {
+        AtomicLong clock = new AtomicLong(NOW);
+        OrderNumberGenerator generator = new OrderNumberGenerator(3, clock::get);
+
+        long beforeRollback = generator.nextId();
+        clock.set(NOW - 5_000L);
+        long afterRollback = generator.nextId();
+
+        assertThat(afterRollback).isGreaterThan(beforeRollback);
+    }
+
+    @Test
+    void differentNodesNeverCollideOnSameClock() {
+        OrderNumberGenerator first = new OrderNumberGenerator(1, () -> NOW);
+        OrderNumberGenerator second = new OrderNumberGenerator(2, () -> NOW);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 5_000; i++) {
+            ids.add(first.nextId());
+            ids.add(second.nextId());
+        }
+        assertThat(ids).hasSize(10_000);
+    }
+
+    @Test
+    void orderNumberEmbedsNodeIdAndFitsTossOrderIdRules() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(42, () -> NOW);
+
+        String orderNumber = generator.nextOrderNumber();
+        long id = Long.parseLong(orderNumber.substring("ORD-".length()));
+
+        assertThat(orderNumber).matches("^ORD-[0-9]{1,19}$");
+        assertThat(orderNumber.length()).isBetween(6, 50);
+        assertThat((id >>> OrderNumberGenerator.SEQUENCE_BITS) & OrderNumberGenerator.MAX_NODE_ID).isEqualTo(42L);
+    }
+
+    @Test
+    void leasesFirstFreeNodeIdStartingFromRedisSequence() {
+        RedisTemplate<String, String> redisTemplate = redisTemplate();
+        ValueOperations<String, String> values = redisTemplate.opsForValue();
+        when(values.increment("order:number:node-seq")).thenReturn(1025L);
+        when(values.setIfAbsent(eq("order:number:node:1"), anyString(), any(Duration.class))).thenReturn(false);
+        when(values.setIfAbsent(eq("order:number:node:2"), anyString(), any(Duration.class))).thenReturn(true);
+
+        OrderNumberGenerator generator = new OrderNumberGenerator(redisTemplate, -1, 60000);
+
+        assertThat(generator.getNodeId()).isEqualTo(2L);
+    }
+
+    @Test
+    void failsStartupInsteadOfGuessingNodeIdWhenRedisIsUnavailable() {
+        RedisTemplate<String, String> redisTemplate = redisTemplate();
+        when(redisTemplate.opsForValue().increment("order:number:node-seq"))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        assertThatThrownBy(() -> new OrderNumberGenerator(redisTemplate, -1, 60000))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void failsStartupWhenEveryNodeIdIsLeased() {
+        RedisTemplate<String, String> redisTemplate = redisTemplate();
+        ValueOperations<String, String> values = redisTemplate.opsForValue();
+        when(values.increment("order:number:node-seq")).thenReturn(5L);
+        when(values.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        assertThatThrownBy(() -> new OrderNumberGenerator(redisTemplate, -1, 60000))
+                .isInstanceOf(IllegalStateException.class);
+        verify(values, times(1024)).setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void configuredNodeIdSkipsRedis() {
+        RedisTemplate<String, String> redisTemplate = redisTemplate();
+
+        OrderNumberGenerator generator = new OrderNumberGenerator(redisTemplate, 9, 60000);
+        generator.renewNodeLease();
+
+        assertThat(generator.getNodeId()).isEqualTo(9L);
+        verifyNoInteractions(redisTemplate.opsForValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisTemplate<String, String> redisTemplate() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        return redisTemplate;
+    }
+
+    @Test
+    void rejectsNodeIdOutOfRange() {
+        assertThatThrownBy(() -> new OrderNumberGenerator(1024, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,320 @@
+package com.deskit.deskit.order.service;
+
+import com.deskit.deskit.livehost.service.RedisService;
+import com.deskit.deskit.product.repository.ProductRepository;
+import com.deskit.deskit.product.service.ProductCatalogCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StockReservationServiceTest {
+
+    private static final String HOLDS = "stock:holds";
+    private static final String PENDING = "stock:apply:pending";
+    private static final String FAILED = "stock:apply:failed";
+    private static final String APPLY_LOCK = "lock:stock:apply";
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ListOperations<String, String> listOperations = mock(ListOperations.class);
+    private final RedisService redisService = mock(RedisService.class);
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductCatalogCache productCatalogCache = mock(ProductCatalogCache.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    // Lua 스크립트 호출 기록 (키 목록으로 어떤 스크립트인지 구분한다)
+    private final List<ScriptCall> scriptCalls = new CopyOnWriteArrayList<>();
+    private Function<ScriptCall, Long> scriptResults = call -> 1L;
+    private final AtomicInteger seededValue = new AtomicInteger(Integer.MIN_VALUE);
+
+    private StockReservationService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(1);
+            Object[] args = Arrays.copyOfRange(invocation.getArguments(), 2, invocation.getArguments().length);
+            ScriptCall call = new ScriptCall(keys, Arrays.stream(args).map(String::valueOf).toList());
+            scriptCalls.add(call);
+            return scriptResults.apply(call);
+        });
+        service = new StockReservationService(
+                redisTemplate, redisService, productRepository, productCatalogCache, transactionManager,
+                true, 900, 500);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void reserveSeedsMissingCounterFromFreshStockReadUnderApplyLock() {
+        when(redisTemplate.hasKey("stock:1:available")).thenReturn(false);
+        when(redisService.acquireLock(eq(APPLY_LOCK), anyLong(), anyLong())).thenReturn(true);
+        when(productRepository.findStockQtyById(1L)).thenReturn(Optional.of(10));
+
+        service.reserve("ORD-1", Map.of(1L, 2));
+
+        assertThat(scriptCalls).hasSize(2);
+        ScriptCall seed = scriptCalls.get(0);
+        assertThat(seed.keys()).containsExactly("stock:1:available", HOLDS, PENDING);
+        assertThat(seed.args()).containsExactly("10", "1", "stock:hold:");
+        ScriptCall reserve = scriptCalls.get(1);
+        assertThat(reserve.keys()).containsExactly(HOLDS, "stock:hold:ORD-1", "stock:1:available");
+        assertThat(reserve.args().subList(2, 4)).containsExactly("1", "2");
+
+        InOrder order = inOrder(redisService, transactionManager, productRepository);
+        order.verify(redisService).acquireLock(eq(APPLY_LOCK), anyLong(), anyLong());
+        order.verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        order.verify(productRepository).findStockQtyById(1L);
+        order.verify(redisService).releaseLock(APPLY_LOCK);
+    }
+
+    @Test
+    void reserveFailsWithoutSeedingWhenApplyLockIsBusy() {
+        when(redisTemplate.hasKey("stock:1:available")).thenReturn(false);
+        when(redisService.acquireLock(eq(APPLY_LOCK), anyLong(), anyLong())).thenReturn(false);
+
+        assertThatThrownBy(() -> service.reserve("ORD-1", Map.of(1L, 2)))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        verify(productRepository, never()).findStockQtyById(any());
+        assertThat(scriptCalls).isEmpty();
+    }
+
+    @Test
+    void seedWaitsForInFlightApplyAndReadsStockAfterItsTrim() throws Exception {
+        // 실제 락처럼 동작하는 APPLY_LOCK (스레드 소유, 대기 시간 지원)
+        ReentrantLock applyLock = new ReentrantLock();
+        when(redisService.acquireLock(eq(APPLY_LOCK), anyLong(), anyLong())).thenAnswer(invocation ->
+                applyLock.tryLock(invocation.getArgument(1, Long.class), TimeUnit.MILLISECONDS));
+        doAnswer(invocation -> {
+            if (applyLock.isHeldByCurrentThread()) {
+                applyLock.unlock();
+            }
+            return null;
+        }).when(redisService).releaseLock(APPLY_LOCK);
+
+        // 커밋된 재고만 다른 트랜잭션에 보인다.
+        AtomicInteger committedStock = new AtomicInteger(10);
+        AtomicInteger uncommittedDelta = new AtomicInteger();
+        List<String> pending = new CopyOnWriteArrayList<>(List.of("1:3"));
+        when(listOperations.range(PENDING, 0, 499)).thenAnswer(invocation -> List.copyOf(pending));
+        doAnswer(invocation -> {
+            pending.remove(0);
+            return null;
+        }).when(listOperations).trim(PENDING, 1, -1);
+        when(productRepository.decreaseStockBy(1L, 3)).thenAnswer(invocation -> {
+            uncommittedDelta.addAndGet(-3);
+            return 1;
+        });
+        when(productRepository.findStockQtyById(1L)).thenAnswer(invocation -> Optional.of(committedStock.get()));
+        when(redisTemplate.hasKey("stock:1:available")).thenReturn(false);
+        // SEED 는 호출 시점의 대기분을 뺀다 (Lua 와 같은 계산)
+        scriptResults = call -> {
+            if (call.keys().size() == 3 && call.keys().get(2).equals(PENDING) && call.keys().get(0).endsWith(":available")) {
+                int seeded = Integer.parseInt(call.args().get(0));
+                for (String entry : pending) {
+                    seeded -= Integer.parseInt(entry.substring(entry.indexOf(':') + 1));
+                }
+                seededValue.set(seeded);
+            }
+            return 1L;
+        };
+
+        CountDownLatch decremented = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // 반영: DB 차감까지 끝낸 뒤 커밋(afterCompletion: trim -> 락 해제) 직전에 멈춘다.
+            Future<?> apply = executor.submit(() -> {
+                TransactionSynchronizationManager.initSynchronization();
+                try {
+                    service.applyPendingStock();
+                    decremented.countDown();
+                    commit.await(5, TimeUnit.SECONDS);
+                    committedStock.addAndGet(uncommittedDelta.getAndSet(0));
+                    for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                        synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    TransactionSynchronizationManager.clearSynchronization();
+                }
+            });
+            assertThat(decremented.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<?> reserve = executor.submit(() -> service.reserve("ORD-2", Map.of(1L, 1)));
+            Thread.sleep(200);
+            // 반영 락이 풀리기 전에는 재고를 읽지 않는다. (여기서 10 을 읽고 trim 뒤에 SEED 하면 10 으로 부푼다)
+            verify(productRepository, never()).findStockQtyById(1L);
+
+            commit.countDown();
+            apply.get(5, TimeUnit.SECONDS);
+            reserve.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 커밋된 DB 7 (10 - 3), 대기분 비어 있음 -> 7
+        assertThat(seededValue.get()).isEqualTo(7);
+    }
+
+    @Test
+    void reserveRejectsWithTheShortProductId() {
+        when(redisTemplate.hasKey(anyString())).thenReturn(true);
+        scriptResults = call -> -2L;
+
+        assertThatThrownBy(() -> service.reserve("ORD-1", Map.of(2L, 1, 1L, 1)))
+                .isInstanceOfSatisfying(ResponseStatusException.class, ex -> {
+                    assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+                    assertThat(ex.getReason()).contains("product_id=2");
+                });
+        ScriptCall reserve = scriptCalls.get(0);
+        assertThat(reserve.keys()).containsExactly(HOLDS, "stock:hold:ORD-1", "stock:1:available", "stock:2:available");
+    }
+
+    @Test
+    void reserveReleasesHoldWhenOrderTransactionRollsBack() {
+        when(redisTemplate.hasKey(anyString())).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.reserve("ORD-1", Map.of(1L, 2));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(scriptCalls).hasSize(2);
+        ScriptCall release = scriptCalls.get(1);
+        assertThat(release.keys()).containsExactly(HOLDS, "stock:hold:ORD-1");
+        assertThat(release.args()).containsExactly("ORD-1", "stock:", ":available");
+    }
+
+    @Test
+    void confirmRunsOnlyAfterCommitAndPassesOrderedQuantitiesForMissingHold() {
+        TransactionSynchronizationManager.initSynchronization();
+        scriptResults = call -> 2L;
+
+        service.confirmAfterCommit("ORD-1", Map.of(1L, 3));
+        assertThat(scriptCalls).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        ScriptCall confirm = scriptCalls.get(0);
+        assertThat(confirm.keys()).containsExactly(HOLDS, "stock:hold:ORD-1", PENDING);
+        assertThat(confirm.args()).containsExactly("ORD-1", "stock:", ":available", "1", "3");
+    }
+
+    @Test
+    void releaseSwallowsRedisFailure() {
+        scriptResults = call -> {
+            throw new IllegalStateException("redis down");
+        };
+
+        service.release("ORD-1");
+
+        assertThat(scriptCalls).hasSize(1);
+    }
+
+    @Test
+    void applyMovesUnappliableEntriesToFailedAndTrimsAfterCommit() {
+        when(redisService.acquireLock(APPLY_LOCK, 0, 30000)).thenReturn(true);
+        when(listOperations.range(PENDING, 0, 499)).thenReturn(List.of("1:2", "2:5", "1:1", "broken"));
+        when(productRepository.decreaseStockBy(1L, 3)).thenReturn(1);
+        when(productRepository.decreaseStockBy(2L, 5)).thenReturn(0);
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.applyPendingStock();
+        verify(listOperations, never()).trim(anyString(), anyLong(), anyLong());
+        verify(redisService, never()).releaseLock(APPLY_LOCK);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        InOrder order = inOrder(listOperations, redisService);
+        order.verify(listOperations).rightPushAll(FAILED, List.of("2:5"));
+        order.verify(listOperations).trim(PENDING, 4, -1);
+        order.verify(redisService).releaseLock(APPLY_LOCK);
+        verify(productCatalogCache).stockChangedAfterCommit(Set.of(1L, 2L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void applyRollbackKeepsPendingEntriesAndReleasesLock() {
+        when(redisService.acquireLock(APPLY_LOCK, 0, 30000)).thenReturn(true);
+        when(listOperations.range(PENDING, 0, 499)).thenReturn(List.of("1:2"));
+        when(productRepository.decreaseStockBy(1L, 2)).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.applyPendingStock();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(listOperations, never()).trim(anyString(), anyLong(), anyLong());
+        verify(listOperations, never()).rightPushAll(anyString(), any(Collection.class));
+        verify(redisService).releaseLock(APPLY_LOCK);
+    }
+
+    @Test
+    void applySkipsWhenAnotherNodeHoldsLock() {
+        when(redisService.acquireLock(APPLY_LOCK, 0, 30000)).thenReturn(false);
+
+        service.applyPendingStock();
+
+        verify(listOperations, never()).range(anyString(), anyLong(), anyLong());
+        verify(redisService, never()).releaseLock(APPLY_LOCK);
+    }
+
+    private record ScriptCall(List<String> keys, List<String> args) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.deskit.deskit.product.service;
+
+import com.deskit.deskit.livehost.repository.BroadcastProductRepository;
+import com.deskit.deskit.product.dto.ProductResponse;
+import com.deskit.deskit.product.entity.Product;
+import com.deskit.deskit.product.repository.ProductImageRepository;
+import com.deskit.deskit.product.repository.ProductRepository;
+import com.deskit.deskit.product.repository.ProductTagRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductCatalogCacheTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductTagRepository productTagRepository = mock(ProductTagRepository.class);
+    private final ProductImageRepository productImageRepository = mock(ProductImageRepository.class);
+    private final BroadcastProductRepository broadcastProductRepository = mock(BroadcastProductRepository.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+
+    private final ProductCatalogCache cache = new ProductCatalogCache(
+            productRepository, productTagRepository, productImageRepository, broadcastProductRepository,
+            redisTemplate, mock(RedisMessageListenerContainer.class), 300);
+
+    @Test
+    void listIsBuiltOnceAndServedFromSnapshot() {
+        when(productRepository.findAllByStatusAndDeletedAtIsNullOrderByIdAsc(Product.Status.ON_SALE))
+                .thenReturn(List.of(product(2L, 2000), product(1L, 1000)));
+
+        List<ProductResponse> first = cache.getProducts();
+        List<ProductResponse> second = cache.getProducts();
+
+        assertThat(first).extracting(ProductResponse::getProductId).containsExactly(1L, 2L);
+        assertThat(second).isSameAs(first);
+        assertThatThrownBy(() -> first.add(first.get(0))).isInstanceOf(UnsupportedOperationException.class);
+        verify(productRepository, times(1)).findAllByStatusAndDeletedAtIsNullOrderByIdAsc(Product.Status.ON_SALE);
+    }
+
+    @Test
+    void invalidationMessageReloadsOnlyChangedProducts() {
+        when(productRepository.findAllByStatusAndDeletedAtIsNullOrderByIdAsc(Product.Status.ON_SALE))
+                .thenReturn(List.of(product(1L, 1000), product(2L, 2000)));
+        long version = cache.version();
+
+        Product paused = product(2L, 2000);
+        paused.changeStatus(Product.Status.PAUSED);
+        when(productRepository.findAllByIdInAndDeletedAtIsNull(anyList()))
+                .thenReturn(List.of(product(1L, 1500), paused));
+        cache.onMessage(message("1,2"), null);
+
+        List<ProductResponse> products = cache.getProducts();
+
+        assertThat(products).extracting(ProductResponse::getProductId).containsExactly(1L);
+        assertThat(cache.find(1L)).get().extracting(ProductResponse::getPrice).isEqualTo(1500);
+        assertThat(cache.version()).isEqualTo(version + 1);
+        verify(productRepository, times(1)).findAllByStatusAndDeletedAtIsNullOrderByIdAsc(Product.Status.ON_SALE);
+        verify(productRepository, times(1)).findAllByIdInAndDeletedAtIsNull(List.of(1L, 2L));
+    }
+
+    @Test
+    void stockMessagePatchesProductsWithoutNewVersionOrIndex() {
+        when(productRepository.findAllByStatusAndDeletedAtIsNullOrderByIdAsc(Product.Status.ON_SALE))
+                .thenReturn(List.of(product(1L, 1000), product(2L, 2000)));
+        ProductCatalogCache.Snapshot before = cache.current();
+
+        Product ordered = product(1L, 1000);
+        ordered.decreaseStock(3);
+        when(productRepository.findAllByIdInAndDeletedAtIsNull(anyList())).thenReturn(List.of(ordered));
+        cache.onMessage(message("stock:1"), null);
+
+        ProductCatalogCache.Snapshot after = cache.current();
+
+        assertThat(after.version()).isEqualTo(before.version());
+        assertThat(after.searchIndex().tagSignatures()).isSameAs(before.searchIndex().tagSignatures());
+        assertThat(ReflectionTestUtils.getField(after.byId().get(1L), "stockQty")).isEqualTo(7);
+        assertThat(after.searchIndex().product(0)).isSameAs(after.byId().get(1L));
+        assertThat(after.byId().get(2L)).isSameAs(before.byId().get(2L));
+        verify(productRepository, times(1)).findAllByIdInAndDeletedAtIsNull(List.of(1L));
+    }
+
+    @Test
+    void stockMessageForSoldOutProductFallsBackToReload() {
+        when(productRepository.findAllByStatusAndDeletedAtIsNullOrderByIdAsc(Product.Status.ON_SALE))
+                .thenReturn(List.of(product(1L, 1000), product(2L, 2000)));
+        long version = cache.version();
+
+        Product soldOut = product(2L, 2000);
+        soldOut.decreaseStock(10);
+        when(productRepository.findAllByIdInAndDeletedAtIsNull(anyList())).thenReturn(List.of(soldOut));
+        cache.onMessage(message("stock:2"), null);
+
+        assertThat(cache.getProducts()).extracting(ProductResponse::getProductId).containsExactly(1L);
+        assertThat(cache.version()).isEqualTo(version + 1);
+    }
+
+    @Test
+    void fullInvalidationRebuildsSnapshot() {
+        when(productRepository.findAllByStatusAndDeletedAtIsNullOrderByIdAsc(Product.Status.ON_SALE))
+                .thenReturn(List.of(product(1L, 1000)));
+        cache.getProducts();
+
+        cache.onMessage(message("*"), null);
+        cache.getProducts();
+
+        verify(productRepository, times(2)).findAllByStatusAndDeletedAtIsNullOrderByIdAsc(Product.Status.ON_SALE);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(
+                ProductCatalogCache.INVALIDATE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Product product(Long id, int price) {
+        Product product = new Product(1L, "p" + id, "desc", "<p></p>", price, 500, 10, 1);
+        product.changeStatus(Product.Status.READY);
+        product.changeStatus(Product.Status.ON_SALE);
+        ReflectionTestUtils.setField(product, "id", id);
+        return product;
+    }
+}
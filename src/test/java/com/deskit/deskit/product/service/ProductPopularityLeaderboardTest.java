@@ -0,0 +1,148 @@
+package com.deskit.deskit.product.service;
+
+import com.deskit.deskit.livehost.service.RedisService;
+import com.deskit.deskit.order.entity.Order;
+import com.deskit.deskit.order.entity.OrderItem;
+import com.deskit.deskit.order.event.OrderSalesChangedEvent;
+import com.deskit.deskit.order.repository.OrderItemRepository;
+import com.deskit.deskit.order.repository.OrderRepository;
+import com.deskit.deskit.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductPopularityLeaderboardTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+    private final RedisService redisService = mock(RedisService.class);
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OrderItemRepository orderItemRepository = mock(OrderItemRepository.class);
+
+    private final ProductPopularityLeaderboard leaderboard = new ProductPopularityLeaderboard(
+            redisTemplate, redisService, productRepository, orderRepository, orderItemRepository, 0);
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        Order order = mock(Order.class);
+        when(order.getId()).thenReturn(7L);
+        when(order.getPaidAt()).thenReturn(LocalDateTime.now());
+        when(orderRepository.findById(7L)).thenReturn(Optional.of(order));
+        List<OrderItem> items = List.of(item(1L, 2), item(1L, 1), item(2L, 5));
+        when(orderItemRepository.findByOrder_Id(7L)).thenReturn(items);
+    }
+
+    @Test
+    void paidOrderAddsItemQuantitiesPerProduct() {
+        leaderboard.onOrderSalesChanged(OrderSalesChangedEvent.paid(7L));
+
+        verify(zSetOperations).incrementScore(ProductPopularityLeaderboard.ALL_TIME_KEY, "1", 3.0);
+        verify(zSetOperations).incrementScore(ProductPopularityLeaderboard.ALL_TIME_KEY, "2", 5.0);
+        verify(zSetOperations, never()).removeRangeByScore(anyString(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    void refundSubtractsAndDropsProductsWithoutSales() {
+        leaderboard.onOrderSalesChanged(OrderSalesChangedEvent.refunded(7L));
+
+        verify(zSetOperations).incrementScore(ProductPopularityLeaderboard.ALL_TIME_KEY, "1", -3.0);
+        verify(zSetOperations).incrementScore(ProductPopularityLeaderboard.ALL_TIME_KEY, "2", -5.0);
+        verify(zSetOperations).removeRangeByScore(eq(ProductPopularityLeaderboard.ALL_TIME_KEY),
+                eq(Double.NEGATIVE_INFINITY), eq(0.0));
+    }
+
+    @Test
+    void topReadsRankedEntriesAndSkipsNonPositiveScores() {
+        when(redisTemplate.hasKey("product:popular:seeded")).thenReturn(true);
+        Set<TypedTuple<String>> tuples = new LinkedHashSet<>(List.of(
+                TypedTuple.of("2", 5.0),
+                TypedTuple.of("1", 3.0),
+                TypedTuple.of("3", 0.0)
+        ));
+        when(zSetOperations.reverseRangeWithScores(ProductPopularityLeaderboard.ALL_TIME_KEY, 0, 2)).thenReturn(tuples);
+
+        List<ProductPopularityLeaderboard.Entry> top = leaderboard.top(3);
+
+        assertThat(top).containsExactly(
+                new ProductPopularityLeaderboard.Entry(2L, 5L),
+                new ProductPopularityLeaderboard.Entry(1L, 3L)
+        );
+        verify(productRepository, never()).findSoldQuantities();
+    }
+
+    @Test
+    void topReadsEveryTieAtTheCutOffAndPrefersNewerProducts() {
+        when(redisTemplate.hasKey("product:popular:seeded")).thenReturn(true);
+        // ZREVRANGE 는 동점을 member 문자열 역순으로 끊어 "9" 가 "10" 보다 먼저 온다.
+        Set<TypedTuple<String>> tuples = new LinkedHashSet<>(List.of(
+                TypedTuple.of("5", 7.0),
+                TypedTuple.of("9", 3.0)
+        ));
+        when(zSetOperations.reverseRangeWithScores(ProductPopularityLeaderboard.ALL_TIME_KEY, 0, 1)).thenReturn(tuples);
+        Set<TypedTuple<String>> tied = new LinkedHashSet<>(List.of(
+                TypedTuple.of("9", 3.0),
+                TypedTuple.of("10", 3.0)
+        ));
+        when(zSetOperations.reverseRangeByScoreWithScores(ProductPopularityLeaderboard.ALL_TIME_KEY, 3.0, 3.0))
+                .thenReturn(tied);
+
+        List<ProductPopularityLeaderboard.Entry> top = leaderboard.top(2);
+
+        assertThat(top).containsExactly(
+                new ProductPopularityLeaderboard.Entry(5L, 7L),
+                new ProductPopularityLeaderboard.Entry(10L, 3L)
+        );
+    }
+
+    @Test
+    void topFallsBackToDatabaseWhileAnotherNodeIsRebuilding() {
+        when(redisTemplate.hasKey("product:popular:seeded")).thenReturn(false);
+        when(redisService.acquireLock("lock:product:popular:rebuild", 0, 60000)).thenReturn(false);
+        List<ProductRepository.SoldQuantityRow> rows = List.of(soldRow(1L, 3L), soldRow(2L, 8L), soldRow(3L, 1L));
+        when(productRepository.findSoldQuantities()).thenReturn(rows);
+
+        List<ProductPopularityLeaderboard.Entry> top = leaderboard.top(2);
+
+        assertThat(top).containsExactly(
+                new ProductPopularityLeaderboard.Entry(2L, 8L),
+                new ProductPopularityLeaderboard.Entry(1L, 3L)
+        );
+        verify(zSetOperations, never()).reverseRangeWithScores(anyString(), anyLong(), anyLong());
+    }
+
+    private ProductRepository.SoldQuantityRow soldRow(Long productId, Long soldQty) {
+        ProductRepository.SoldQuantityRow row = mock(ProductRepository.SoldQuantityRow.class);
+        when(row.getProductId()).thenReturn(productId);
+        when(row.getSoldQty()).thenReturn(soldQty);
+        return row;
+    }
+
+    private OrderItem item(Long productId, int quantity) {
+        OrderItem item = mock(OrderItem.class);
+        when(item.getProductId()).thenReturn(productId);
+        when(item.getQuantity()).thenReturn(quantity);
+        return item;
+    }
+}
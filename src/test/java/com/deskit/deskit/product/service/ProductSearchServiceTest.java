@@ -0,0 +1,104 @@
+package com.deskit.deskit.product.service;
+
+import com.deskit.deskit.product.dto.ProductResponse;
+import com.deskit.deskit.product.dto.ProductResponse.ProductTags;
+import com.deskit.deskit.product.dto.ProductSearchResponse;
+import com.deskit.deskit.product.entity.Product;
+import com.deskit.deskit.tag.entity.TagCategory.TagCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductSearchServiceTest {
+
+    private final ProductCatalogCache catalogCache = mock(ProductCatalogCache.class);
+    private final ProductSearchService service = new ProductSearchService(catalogCache);
+
+    @BeforeEach
+    void setUp() {
+        List<ProductResponse> products = List.of(
+                product(1L, 3000, List.of("거실"), List.of("우드")),
+                product(2L, 1000, List.of("서재"), List.of("화이트")),
+                product(3L, 2000, List.of("거실", "서재"), List.of("화이트")),
+                product(4L, 2000, List.of("침실"), List.of("우드")),
+                product(5L, 5000, List.of(), List.of())
+        );
+        ProductSearchIndex index = ProductSearchIndex.build(products, Map.of(4L, 10L, 2L, 3L));
+        Map<Long, ProductResponse> byId = products.stream()
+                .collect(Collectors.toMap(ProductResponse::getProductId, Function.identity()));
+        when(catalogCache.current()).thenReturn(new ProductCatalogCache.Snapshot(1L, 0L, byId, products, index));
+    }
+
+    @Test
+    void tagsAreOrWithinCategoryAndAndAcrossCategories() {
+        ProductSearchResponse response = service.search(
+                Map.of(TagCode.SPACE, List.of("거실", "침실"), TagCode.TONE, List.of("우드")),
+                null, null, null, null, 20);
+
+        assertThat(ids(response.items())).containsExactly(4L, 1L);
+    }
+
+    @Test
+    void unknownTagReturnsEmptyPage() {
+        ProductSearchResponse response = service.search(
+                Map.of(TagCode.MOOD, List.of("없는태그")), null, null, null, null, 20);
+
+        assertThat(response.items()).isEmpty();
+        assertThat(response.hasNext()).isFalse();
+    }
+
+    @Test
+    void priceRangeAndPopularSort() {
+        ProductSearchResponse response = service.search(Map.of(), 1000, 3000, "popular", null, 20);
+
+        assertThat(ids(response.items())).containsExactly(4L, 2L, 3L, 1L);
+    }
+
+    @Test
+    void keysetPagesCoverEveryProductOnceIncludingPriceTies() {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            ProductSearchResponse page = service.search(Map.of(), null, null, "price_asc", cursor, 2);
+            seen.addAll(ids(page.items()));
+            cursor = page.nextCursor();
+            assertThat(page.hasNext()).isEqualTo(cursor != null);
+        } while (cursor != null);
+
+        assertThat(seen).containsExactly(2L, 3L, 4L, 1L, 5L);
+    }
+
+    @Test
+    void cursorFromAnotherSortIsRejected() {
+        String cursor = service.search(Map.of(), null, null, "newest", null, 1).nextCursor();
+
+        assertThatThrownBy(() -> service.search(Map.of(), null, null, "price_desc", cursor, 1))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void invalidPriceRangeIsRejected() {
+        assertThatThrownBy(() -> service.search(Map.of(), 5000, 1000, null, null, 20))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    private List<Long> ids(List<ProductResponse> items) {
+        return items.stream().map(ProductResponse::getProductId).toList();
+    }
+
+    private ProductResponse product(Long id, int price, List<String> space, List<String> tone) {
+        return new ProductResponse(id, 1L, "p" + id, null, null, price, 0, Product.Status.ON_SALE, 10, 1,
+                new ProductTags(space, tone, List.of(), List.of()), null);
+    }
+}
@@ -0,0 +1,66 @@
+package com.deskit.deskit.setup.service;
+
+import com.deskit.deskit.setup.repository.SetupTagRepository.SetupTagRow;
+import com.deskit.deskit.tag.entity.TagCategory.TagCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SetupServiceTest {
+
+    private final List<Long> setupIds = List.of(10L, 20L, 30L);
+    private final List<SetupTagRow> rows = List.of(
+            row(10L, TagCode.TONE, "우드"),
+            row(10L, TagCode.MOOD, "집중"),
+            row(20L, TagCode.TONE, "모던"),
+            row(20L, TagCode.MOOD, "차분"),
+            row(30L, TagCode.TONE, "화이트"),
+            row(30L, TagCode.MOOD, "집중"),
+            row(99L, TagCode.TONE, "우드")
+    );
+
+    @Test
+    void namesInOneCodeAreOredAndCodesAreAnded() {
+        BitSet matched = SetupService.matchTags(setupIds, rows,
+                Map.of(TagCode.TONE, List.of("우드", "모던"), TagCode.MOOD, List.of("집중")));
+
+        assertThat(matched.stream().toArray()).containsExactly(0);
+    }
+
+    @Test
+    void unknownTagNameMatchesNothing() {
+        BitSet matched = SetupService.matchTags(setupIds, rows, Map.of(TagCode.SPACE, List.of("서재")));
+
+        assertThat(matched.isEmpty()).isTrue();
+    }
+
+    @Test
+    void emptyFilterMeansNoCondition() {
+        assertThat(SetupService.matchTags(setupIds, rows, Map.of())).isNull();
+        assertThat(SetupService.matchTags(setupIds, rows, Map.of(TagCode.TONE, List.of()))).isNull();
+        assertThat(SetupService.matchTags(setupIds, rows, null)).isNull();
+    }
+
+    private SetupTagRow row(Long setupId, TagCode code, String name) {
+        return new SetupTagRow() {
+            @Override
+            public Long getSetupId() {
+                return setupId;
+            }
+
+            @Override
+            public TagCode getTagCode() {
+                return code;
+            }
+
+            @Override
+            public String getTagName() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.deskit.deskit.tag.service;
+
+import com.deskit.deskit.tag.entity.TagCategory.TagCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TagSignaturesTest {
+
+    @Test
+    void sameNameUnderDifferentCodesGetsDifferentBits() {
+        TagSignatures signatures = TagSignatures.builder(List.of(1L, 2L))
+                .add(1L, TagCode.MOOD, "우드")
+                .add(2L, TagCode.TONE, "우드")
+                .add(2L, TagCode.TONE, "우드")
+                .add(3L, TagCode.TONE, "모던")
+                .add(1L, TagCode.SPACE, " ")
+                .build();
+
+        TagDictionary dictionary = signatures.dictionary();
+        assertThat(dictionary.size()).isEqualTo(2);
+        assertThat(dictionary.bitOf(TagCode.MOOD, "우드")).isNotEqualTo(dictionary.bitOf(TagCode.TONE, "우드"));
+        assertThat(dictionary.bitOf(TagCode.TONE, "모던")).isEqualTo(-1);
+        assertThat(signatures.count(1, dictionary.mask(TagCode.TONE, List.of("우드")))).isEqualTo(1);
+        assertThat(signatures.intersects(0, dictionary.mask(TagCode.TONE, List.of("우드")))).isFalse();
+    }
+
+    @Test
+    void filterIsOrWithinCodeAndAcrossCodes() {
+        TagSignatures signatures = TagSignatures.builder(List.of(10L, 20L, 30L, 40L))
+                .add(10L, TagCode.TONE, "우드")
+                .add(10L, TagCode.MOOD, "감성")
+                .add(20L, TagCode.TONE, "모던")
+                .add(20L, TagCode.MOOD, "집중")
+                .add(30L, TagCode.TONE, "우드")
+                .build();
+
+        BitSet matched = signatures.filter(Map.of(
+                TagCode.TONE, List.of("우드", "모던"),
+                TagCode.MOOD, List.of("감성", "집중")
+        ));
+
+        assertThat(matched.stream().boxed().toList()).containsExactly(0, 1);
+        assertThat(signatures.filter(Map.of(TagCode.TONE, List.of("없는태그"))).isEmpty()).isTrue();
+        assertThat(signatures.filter(Map.of(TagCode.TONE, List.of()))).isNull();
+        assertThat(signatures.filter(null)).isNull();
+    }
+
+    @Test
+    void scoreIsWeightedPopcountAcrossMultipleWords() {
+        TagSignatures.Builder builder = TagSignatures.builder(List.of(1L, 2L));
+        IntStream.range(0, 100).forEach(i -> builder.add(1L, TagCode.SPACE, "space-" + i));
+        builder.add(2L, TagCode.SPACE, "space-99").add(2L, TagCode.MOOD, "집중");
+        TagSignatures signatures = builder.build();
+        TagDictionary dictionary = signatures.dictionary();
+
+        long[] spaceMask = dictionary.maskMatching(TagCode.SPACE, name -> name.endsWith("9"));
+        long[] moodMask = dictionary.maskMatching(TagCode.MOOD, name -> true);
+        int[] scores = signatures.score(new long[][]{spaceMask, moodMask}, new int[]{1, 3});
+
+        assertThat(dictionary.words()).isEqualTo(2);
+        assertThat(scores).containsExactly(10, 4);
+        assertThat(signatures.withAny(spaceMask).cardinality()).isEqualTo(2);
+        assertThat(signatures.entityId(1)).isEqualTo(2L);
+    }
+}